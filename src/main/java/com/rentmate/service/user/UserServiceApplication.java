@@ -2,10 +2,9 @@ package com.rentmate.service.user;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.cloud.openfeign.EnableFeignClients;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 
-@SpringBootApplication @EnableFeignClients
+@SpringBootApplication
 public class UserServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,110 @@
+package com.rentmate.service.user.config;
+
+import com.rentmate.service.user.config.datasource.ReplicaLagGuard;
+import com.rentmate.service.user.config.datasource.ReplicaRoutingDataSource;
+import com.rentmate.service.user.config.datasource.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Connection pools, one per workload so a long batch transaction cannot starve request traffic:
+ * <ul>
+ *     <li>{@code interactive}: request handling, configured by {@code spring.datasource.hikari}</li>
+ *     <li>{@code batch}: scheduled jobs and bulk endpoints marked {@code @BatchWorkload}, same base settings
+ *     overridden by {@code datasource.pools.batch}</li>
+ *     <li>{@code replica}: only when {@code spring.datasource.replica.url} is set, receives
+ *     {@code @Transactional(readOnly = true)} work from both workloads</li>
+ * </ul>
+ * Every pool is a bean, so Boot publishes the {@code hikaricp.connections.*} metrics for each, tagged by pool name.
+ */
+@Configuration
+public class DataSourceConfig {
+    private final Binder binder;
+
+    public DataSourceConfig(Environment environment) {
+        this.binder = Binder.get(environment);
+    }
+
+    @Bean @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    public HikariDataSource interactiveDataSource(DataSourceProperties primaryDataSourceProperties) {
+        return pool("interactive", primaryDataSourceProperties, "spring.datasource.hikari");
+    }
+
+    @Bean
+    public HikariDataSource batchDataSource(DataSourceProperties primaryDataSourceProperties) {
+        return pool("batch", primaryDataSourceProperties, "spring.datasource.hikari", "datasource.pools.batch");
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    @ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.datasource.replica", name = "url")
+    public HikariDataSource replicaDataSource(
+            @Qualifier("replicaDataSourceProperties") DataSourceProperties replicaDataSourceProperties) {
+        HikariDataSource dataSource = pool("replica", replicaDataSourceProperties,
+                "spring.datasource.hikari", "spring.datasource.replica.hikari");
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean @Primary
+    public DataSource dataSource(@Qualifier("interactiveDataSource") HikariDataSource interactiveDataSource,
+                                 @Qualifier("batchDataSource") HikariDataSource batchDataSource,
+                                 @Qualifier("replicaDataSource") ObjectProvider<HikariDataSource> replicaDataSource,
+                                 ReplicaLagGuard lagGuard) {
+        WorkloadRoutingDataSource primary = new WorkloadRoutingDataSource();
+        primary.setTargetDataSources(Map.of(
+                WorkloadRoutingDataSource.INTERACTIVE, interactiveDataSource,
+                WorkloadRoutingDataSource.BATCH, batchDataSource));
+        primary.setDefaultTargetDataSource(interactiveDataSource);
+        primary.afterPropertiesSet();
+
+        HikariDataSource replica = replicaDataSource.getIfAvailable();
+        if (replica == null) {
+            return new LazyConnectionDataSourceProxy(primary);
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(lagGuard);
+        routing.setTargetDataSources(Map.of(
+                ReplicaRoutingDataSource.PRIMARY, primary,
+                ReplicaRoutingDataSource.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+
+    private HikariDataSource pool(String name, DataSourceProperties properties, String... hikariPrefixes) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        // later prefixes override earlier ones
+        for (String prefix : hikariPrefixes) {
+            binder.bind(prefix, Bindable.ofInstance(dataSource));
+        }
+        dataSource.setPoolName(name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,11 @@
+package com.rentmate.service.user.config;
+
+import com.rentmate.service.user.service.shared.client.RentalServiceClient;
+import org.springframework.cloud.openfeign.EnableFeignClients;
+import org.springframework.context.annotation.Configuration;
+
+// kept off the application class, so test slices such as @DataJpaTest start without the Feign infrastructure
+@Configuration
+@EnableFeignClients(basePackageClasses = RentalServiceClient.class)
+public class FeignConfig {
+}
@@ -0,0 +1,59 @@
+package com.rentmate.service.user.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ProblemDetail;
+import org.springframework.util.ClassUtils;
+
+@Configuration @Slf4j
+public class JacksonConfig {
+    private static final String DTO_PACKAGE = "com.rentmate.service.user.domain.dto";
+
+    /**
+     * Replaces reflective getter/field access with generated lambdas (LambdaMetafactory).
+     * Boot registers every Module bean on the shared ObjectMapper, so MVC responses use it too.
+     */
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+
+    /**
+     * Builds and caches the serializers of all DTOs and of ProblemDetail up front, so the first request of each
+     * type after a deploy does not pay for introspection.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void prewarmSerializers(ApplicationReadyEvent event) {
+        ObjectMapper objectMapper = event.getApplicationContext().getBean(ObjectMapper.class);
+
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent() && !beanDefinition.getMetadata().isInterface();
+            }
+        };
+        scanner.addIncludeFilter((reader, factory) -> true);
+
+        int warmed = 0;
+        for (BeanDefinition candidate : scanner.findCandidateComponents(DTO_PACKAGE)) {
+            try {
+                Class<?> type = ClassUtils.forName(candidate.getBeanClassName(), getClass().getClassLoader());
+                if (objectMapper.canSerialize(type)) warmed++;
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.debug("Skipping serializer pre-warm for {}", candidate.getBeanClassName(), e);
+            }
+        }
+        if (objectMapper.canSerialize(ProblemDetail.class)) warmed++;
+
+        log.info("Pre-warmed JSON serializers for {} types", warmed);
+    }
+}
@@ -1,25 +1,101 @@
 package com.rentmate.service.user.config;
 
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.core.QueueBuilder;
 import org.springframework.amqp.core.TopicExchange;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 public class RabbitMQConfig {
     public static final String EXCHANGE = "users.exchange";
 
+    // rental lifecycle events published by the rental service
+    public static final String RENTAL_EXCHANGE = "rentals.exchange";
+    public static final String RENTAL_PROJECTION_QUEUE = "user-service.rental-projection";
+
+    // OVERDUE report escalation: messages wait in a delay queue (no consumers) until their TTL runs out, then
+    // dead-letter through the default exchange into the due queue. RabbitMQ only expires messages at the head of a
+    // queue, so each delay queue holds messages that all share the queue-level TTL:
+    // - delay.<period>h: one message per new report, one queue per escalation period. After the period changes,
+    //   new reports go to the new period's queue while the old one drains on its own schedule; an empty queue of
+    //   a retired period can be deleted. (The single per-message-TTL queue, user-service.report-escalation.delay,
+    //   of earlier versions drains the same way.)
+    // - recheck: reports that were not due yet when their message came in
+    public static final String REPORT_ESCALATION_DELAY_QUEUE_PREFIX = "user-service.report-escalation.delay.";
+    public static final String REPORT_ESCALATION_RECHECK_QUEUE = "user-service.report-escalation.recheck";
+    public static final String REPORT_ESCALATION_DUE_QUEUE = "user-service.report-escalation.due";
+    // fixed because RabbitMQ refuses to redeclare a queue with a different x-message-ttl
+    public static final int REPORT_ESCALATION_RECHECK_MS = 5 * 60 * 1000;
+
     @Bean
     public TopicExchange topicExchange(){
         return new TopicExchange(EXCHANGE, true, false);
     }
 
     @Bean
-    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory) {
+    public TopicExchange rentalExchange() {
+        return new TopicExchange(RENTAL_EXCHANGE, true, false);
+    }
+
+    @Bean
+    public Queue rentalProjectionQueue() {
+        return QueueBuilder.durable(RENTAL_PROJECTION_QUEUE).build();
+    }
+
+    @Bean
+    public Binding rentalProjectionBinding(Queue rentalProjectionQueue, TopicExchange rentalExchange) {
+        return BindingBuilder.bind(rentalProjectionQueue).to(rentalExchange).with("rental.#");
+    }
+
+    public static String reportEscalationDelayQueueName(long escalationPeriodHours) {
+        return REPORT_ESCALATION_DELAY_QUEUE_PREFIX + escalationPeriodHours + "h";
+    }
+
+    @Bean
+    public Queue reportEscalationDelayQueue(@Value("${report.escalation-period-hours:72}") long escalationPeriodHours) {
+        return QueueBuilder.durable(reportEscalationDelayQueueName(escalationPeriodHours))
+                .ttl(Math.toIntExact(TimeUnit.HOURS.toMillis(escalationPeriodHours)))
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(REPORT_ESCALATION_DUE_QUEUE)
+                .build();
+    }
+
+    @Bean
+    public Queue reportEscalationRecheckQueue() {
+        return QueueBuilder.durable(REPORT_ESCALATION_RECHECK_QUEUE)
+                .ttl(REPORT_ESCALATION_RECHECK_MS)
+                .deadLetterExchange("")
+                .deadLetterRoutingKey(REPORT_ESCALATION_DUE_QUEUE)
+                .build();
+    }
+
+    @Bean
+    public Queue reportEscalationDueQueue() {
+        return QueueBuilder.durable(REPORT_ESCALATION_DUE_QUEUE).build();
+    }
+
+    @Bean
+    public MessageConverter messageConverter() {
+        Jackson2JsonMessageConverter converter = new Jackson2JsonMessageConverter();
+        // producers are other services, their __TypeId__ headers name classes we don't have
+        converter.setAlwaysConvertToInferredType(true);
+        return converter;
+    }
+
+    @Bean
+    public RabbitTemplate rabbitTemplate(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
         RabbitTemplate template = new RabbitTemplate(connectionFactory);
-        template.setMessageConverter(new Jackson2JsonMessageConverter());
+        template.setMessageConverter(messageConverter);
         return template;
     }
 }
@@ -48,6 +48,7 @@ public class SecurityConfig {
                                 "/users/auth/password-reset/token",
                                 "/users/auth/password-reset/confirm",
                                 "/users/{id}/email",
+                                "/.well-known/jwks.json",
                                 "/v3/api-docs/**",
                                 "/swagger-ui/**").permitAll()
                         .anyRequest().authenticated()
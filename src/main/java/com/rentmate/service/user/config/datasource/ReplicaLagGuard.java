@@ -0,0 +1,79 @@
+package com.rentmate.service.user.config.datasource;
+
+import com.rentmate.service.user.domain.dto.user.UserPrincipal;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-your-writes for the replica. A user whose write committed within the last
+ * {@code datasource.replica.max-lag-ms} reads from the primary, so e.g. the profile fetched right after
+ * {@code updateProfile} is never the pre-update row. Requests without an authenticated user are not tracked.
+ * <p>
+ * The write times live in this instance's memory only. With several instances, a read served by another
+ * instance than the write is not protected and may see the replica's older row for up to its replication lag.
+ * Deployments that run more than one instance need sticky routing per user for read-your-writes to hold.
+ */
+@Component
+public class ReplicaLagGuard {
+    private final Map<Long, Long> lastWriteNanos = new ConcurrentHashMap<>();
+    private final long maxLagNanos;
+
+    public ReplicaLagGuard(@Value("${datasource.replica.max-lag-ms:2000}") long maxLagMs) {
+        this.maxLagNanos = TimeUnit.MILLISECONDS.toNanos(maxLagMs);
+    }
+
+    /**
+     * Called when a write transaction takes its connection. The time is taken when the transaction commits, since
+     * only then can the replica start lagging behind; a write running longer than max-lag-ms stays covered.
+     */
+    public void recordWrite() {
+        Long userId = currentUserId();
+        if (userId == null) return;
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            lastWriteNanos.put(userId, System.nanoTime());
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) return;
+
+        TransactionSynchronizationManager.bindResource(this, userId);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ReplicaLagGuard.this);
+                if (status == STATUS_COMMITTED) lastWriteNanos.put(userId, System.nanoTime());
+            }
+        });
+    }
+
+    public boolean mustReadPrimary() {
+        Long userId = currentUserId();
+        if (userId == null) return false;
+
+        Long writtenAt = lastWriteNanos.get(userId);
+        return writtenAt != null && System.nanoTime() - writtenAt < maxLagNanos;
+    }
+
+    @Scheduled(fixedDelay = 1, timeUnit = TimeUnit.MINUTES)
+    public void purgeExpired() {
+        long now = System.nanoTime();
+        lastWriteNanos.values().removeIf(writtenAt -> now - writtenAt >= maxLagNanos);
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,31 @@
+package com.rentmate.service.user.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends connections of read-only transactions to the replica and everything else to the primary. Only correct
+ * behind a {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}, which delays the lookup until
+ * the transaction's read-only flag is known.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String PRIMARY = "primary";
+    public static final String REPLICA = "replica";
+
+    private final ReplicaLagGuard lagGuard;
+
+    public ReplicaRoutingDataSource(ReplicaLagGuard lagGuard) {
+        this.lagGuard = lagGuard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return lagGuard.mustReadPrimary() ? PRIMARY : REPLICA;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            lagGuard.recordWrite();
+        }
+        return PRIMARY;
+    }
+}
@@ -0,0 +1,28 @@
+package com.rentmate.service.user.config.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+/**
+ * Picks the batch pool while the current thread runs a {@link com.rentmate.service.user.service.shared.aspect.BatchWorkload}
+ * method and the interactive pool otherwise.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource {
+    public static final String INTERACTIVE = "interactive";
+    public static final String BATCH = "batch";
+
+    private static final ThreadLocal<Boolean> BATCH_WORKLOAD = new ThreadLocal<>();
+
+    public static boolean isBatchWorkload() {
+        return Boolean.TRUE.equals(BATCH_WORKLOAD.get());
+    }
+
+    public static void setBatchWorkload(boolean batch) {
+        if (batch) BATCH_WORKLOAD.set(Boolean.TRUE);
+        else BATCH_WORKLOAD.remove();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return isBatchWorkload() ? BATCH : INTERACTIVE;
+    }
+}
@@ -1,11 +1,13 @@
 package com.rentmate.service.user.config.filter;
 
+import com.rentmate.service.user.service.shared.util.AccessTokenRevocations;
 import com.rentmate.service.user.service.shared.util.JwtUtils;
 import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,12 +17,14 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 import java.util.List;
 
-@Component
+@Component @Slf4j
 public class JwtAuthFilter extends OncePerRequestFilter {
     private final JwtUtils jwtUtil;
+    private final AccessTokenRevocations tokenRevocations;
 
-    public JwtAuthFilter(JwtUtils jwtUtil) {
+    public JwtAuthFilter(JwtUtils jwtUtil, AccessTokenRevocations tokenRevocations) {
         this.jwtUtil = jwtUtil;
+        this.tokenRevocations = tokenRevocations;
     }
 
     @Override
@@ -37,7 +41,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                 //String role = claims.get("role").toString();
                 //String username = claims.get("username").toString();
 
-                var userPrincipal = jwtUtil.extractUserPrincipal(token);
+                Claims claims = jwtUtil.extractAllClaims(token);
+                var userPrincipal = jwtUtil.toUserPrincipal(claims);
+
+                if (tokenRevocations.isRevoked(userPrincipal.getId(), claims.getIssuedAt())) {
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
                 var authorities = List.of(new SimpleGrantedAuthority(userPrincipal.getRole()));
 
                 if(SecurityContextHolder.getContext().getAuthentication() == null) {
@@ -45,7 +56,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                     SecurityContextHolder.getContext().setAuthentication(authToken);
                 }
             } catch (Exception e) {
-                System.out.println("Invalid token: " + e.getMessage());
+                log.debug("Invalid token: {}", e.getMessage());
             }
         }
         filterChain.doFilter(request, response);
@@ -0,0 +1,28 @@
+package com.rentmate.service.user.config.listener;
+
+import com.rentmate.service.user.config.RabbitMQConfig;
+import com.rentmate.service.user.domain.dto.event.AccessTokensRevokedEvent;
+import com.rentmate.service.user.service.shared.util.AccessTokenRevocations;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AccessTokenRevocationListener {
+    private final AccessTokenRevocations revocations;
+
+    public AccessTokenRevocationListener(AccessTokenRevocations revocations) {
+        this.revocations = revocations;
+    }
+
+    // anonymous, auto-delete queue: every instance gets its own copy of each revocation
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue,
+            exchange = @Exchange(value = RabbitMQConfig.EXCHANGE, type = "topic"),
+            key = "user.tokens.revoked"))
+    public void onTokensRevoked(AccessTokensRevokedEvent event) {
+        revocations.apply(event.userId(), event.issuedBefore());
+    }
+}
@@ -0,0 +1,28 @@
+package com.rentmate.service.user.config.listener;
+
+import com.rentmate.service.user.config.RabbitMQConfig;
+import com.rentmate.service.user.domain.dto.event.AdminStatsChangedEvent;
+import com.rentmate.service.user.service.AdminStatsService;
+import org.springframework.amqp.rabbit.annotation.Exchange;
+import org.springframework.amqp.rabbit.annotation.Queue;
+import org.springframework.amqp.rabbit.annotation.QueueBinding;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component
+public class AdminStatsListener {
+    private final AdminStatsService statsService;
+
+    public AdminStatsListener(AdminStatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    // anonymous, auto-delete queue: every instance keeps its own counters
+    @RabbitListener(bindings = @QueueBinding(
+            value = @Queue,
+            exchange = @Exchange(value = RabbitMQConfig.EXCHANGE, type = "topic"),
+            key = "user.admin-stats.changed"))
+    public void onStatsChanged(AdminStatsChangedEvent event) {
+        statsService.apply(event);
+    }
+}
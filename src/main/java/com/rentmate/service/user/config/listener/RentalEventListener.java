@@ -0,0 +1,31 @@
+package com.rentmate.service.user.config.listener;
+
+import com.rentmate.service.user.config.RabbitMQConfig;
+import com.rentmate.service.user.domain.dto.event.RentalLifecycleEvent;
+import com.rentmate.service.user.repository.RentalProjectionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component @Slf4j
+public class RentalEventListener {
+    private final RentalProjectionRepository projectionRepository;
+
+    public RentalEventListener(RentalProjectionRepository projectionRepository) {
+        this.projectionRepository = projectionRepository;
+    }
+
+    @RabbitListener(queues = RabbitMQConfig.RENTAL_PROJECTION_QUEUE)
+    public void onRentalEvent(RentalLifecycleEvent event) {
+        if (event.rentalId() == null || event.ownerId() == null || event.renterId() == null) {
+            log.warn("Ignoring incomplete rental event {}", event);
+            return;
+        }
+
+        LocalDateTime modifiedAt = event.lastModifiedDate() != null ? event.lastModifiedDate() : LocalDateTime.now();
+        projectionRepository.upsert(event.rentalId(), event.ownerId(), event.renterId(), event.status(),
+                event.startDate(), event.endDate(), modifiedAt);
+    }
+}
@@ -0,0 +1,25 @@
+package com.rentmate.service.user.config.listener;
+
+import com.rentmate.service.user.config.RabbitMQConfig;
+import com.rentmate.service.user.domain.dto.event.ReportEscalationDueEvent;
+import com.rentmate.service.user.service.ReportEscalationService;
+import com.rentmate.service.user.service.shared.aspect.BatchWorkload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.stereotype.Component;
+
+@Component @Slf4j
+public class ReportEscalationListener {
+    private final ReportEscalationService escalationService;
+
+    public ReportEscalationListener(ReportEscalationService escalationService) {
+        this.escalationService = escalationService;
+    }
+
+    @BatchWorkload
+    @RabbitListener(queues = RabbitMQConfig.REPORT_ESCALATION_DUE_QUEUE)
+    public void onEscalationDue(ReportEscalationDueEvent event) {
+        log.debug("Escalation due for report {}", event.reportId());
+        escalationService.escalateIfDue(event.reportId());
+    }
+}
@@ -0,0 +1,28 @@
+package com.rentmate.service.user.config.scheduler;
+
+import com.rentmate.service.user.service.AdminStatsService;
+import com.rentmate.service.user.service.shared.aspect.BatchWorkload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component @Slf4j
+public class AdminStatsReconciliationScheduler {
+    private final AdminStatsService statsService;
+
+    public AdminStatsReconciliationScheduler(AdminStatsService statsService) {
+        this.statsService = statsService;
+    }
+
+    // every instance holds its own counters, so this one is not leased
+    @BatchWorkload
+    @Scheduled(fixedDelayString = "${admin.stats.reconcile-interval-ms:300000}",
+            initialDelayString = "${admin.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        try {
+            statsService.reseed();
+        } catch (Exception e) {
+            log.error("Error while reseeding admin counters", e);
+        }
+    }
+}
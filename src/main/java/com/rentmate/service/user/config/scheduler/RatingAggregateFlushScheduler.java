@@ -0,0 +1,42 @@
+package com.rentmate.service.user.config.scheduler;
+
+import com.rentmate.service.user.service.JobLeaseService;
+import com.rentmate.service.user.service.RatingAggregateService;
+import com.rentmate.service.user.service.shared.aspect.BatchWorkload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component @Slf4j
+public class RatingAggregateFlushScheduler {
+    public static final String RECOVERY_JOB_NAME = "rating-aggregate-recovery";
+
+    private final RatingAggregateService aggregateService;
+    private final JobLeaseService jobLeaseService;
+
+    public RatingAggregateFlushScheduler(RatingAggregateService aggregateService, JobLeaseService jobLeaseService) {
+        this.aggregateService = aggregateService;
+        this.jobLeaseService = jobLeaseService;
+    }
+
+    // every instance flushes its own buffer, so this one is not leased
+    @BatchWorkload
+    @Scheduled(fixedDelayString = "${rating.aggregates.flush-interval-ms:250}")
+    public void flush() {
+        try {
+            aggregateService.flush();
+        } catch (Exception e) {
+            log.error("Error while flushing rating aggregates", e);
+        }
+    }
+
+    @BatchWorkload
+    @Scheduled(fixedDelayString = "${rating.aggregates.recovery-interval-ms:60000}")
+    public void recoverAbandonedChanges() {
+        try {
+            jobLeaseService.runExclusively(RECOVERY_JOB_NAME, aggregateService::recoverAbandonedChanges);
+        } catch (Exception e) {
+            log.error("Error while recovering rating aggregates of stopped instances", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.rentmate.service.user.config.scheduler;
+
+import com.rentmate.service.user.service.JobLeaseService;
+import com.rentmate.service.user.service.RatingService;
+import com.rentmate.service.user.service.shared.aspect.BatchWorkload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Component @Slf4j
+public class RatingStatsReconciliationScheduler {
+    public static final String JOB_NAME = "rating-stats-reconciliation";
+
+    private final RatingService ratingService;
+    private final JobLeaseService jobLeaseService;
+
+    public RatingStatsReconciliationScheduler(RatingService ratingService, JobLeaseService jobLeaseService) {
+        this.ratingService = ratingService;
+        this.jobLeaseService = jobLeaseService;
+    }
+
+    @BatchWorkload
+    @Scheduled(cron = "${rating.stats.reconcile-cron:0 0 4 * * *}")
+    public void reconcile() {
+        try {
+            jobLeaseService.runExclusively(JOB_NAME, ratingService::reconcileRatingStats);
+        } catch (Exception e) {
+            log.error("Error while reconciling rating stats", e);
+        }
+    }
+}
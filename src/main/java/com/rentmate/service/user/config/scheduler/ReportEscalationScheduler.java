@@ -1,25 +1,32 @@
 package com.rentmate.service.user.config.scheduler;
 
+import com.rentmate.service.user.service.JobLeaseService;
 import com.rentmate.service.user.service.ReportEscalationService;
+import com.rentmate.service.user.service.shared.aspect.BatchWorkload;
 import lombok.extern.log4j.Log4j;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-import java.util.concurrent.TimeUnit;
-
 @Component @Slf4j
 public class ReportEscalationScheduler {
+    public static final String JOB_NAME = "report-escalation";
+
     private final ReportEscalationService ecalationService;
+    private final JobLeaseService jobLeaseService;
 
-    public ReportEscalationScheduler(ReportEscalationService ecalationService) {
+    public ReportEscalationScheduler(ReportEscalationService ecalationService, JobLeaseService jobLeaseService) {
         this.ecalationService = ecalationService;
+        this.jobLeaseService = jobLeaseService;
     }
 
-    @Scheduled(timeUnit = TimeUnit.HOURS, fixedRate = 3)
+    @BatchWorkload
+    // escalation normally happens per report when it falls due (see ReportEscalationListener);
+    // this sweep only catches reports whose due message was lost
+    @Scheduled(cron = "${report.escalation.sweep-cron:0 30 3 * * *}")
     public void escalateOverdueReports(){
         try{
-            ecalationService.escalateOverdueReportsToThieving();
+            jobLeaseService.runExclusively(JOB_NAME, ecalationService::escalateOverdueReportsToThieving);
         }catch (Exception e){
             log.error("Error while escalating overdue reports", e);
         }
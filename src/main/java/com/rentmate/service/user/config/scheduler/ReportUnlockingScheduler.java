@@ -3,10 +3,13 @@ package com.rentmate.service.user.config.scheduler;
 import com.rentmate.service.user.domain.entity.UserReport;
 import com.rentmate.service.user.domain.enumuration.ReportStatus;
 import com.rentmate.service.user.repository.UserReportRepository;
-import jakarta.transaction.Transactional;
+import com.rentmate.service.user.service.AdminStatsService;
+import com.rentmate.service.user.service.JobLeaseService;
+import com.rentmate.service.user.service.shared.aspect.BatchWorkload;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,15 +17,33 @@ import java.util.concurrent.TimeUnit;
 
 @Component @Slf4j
 public class ReportUnlockingScheduler {
+    public static final String JOB_NAME = "report-lock-release";
+
     private final UserReportRepository reportRepository;
+    private final JobLeaseService jobLeaseService;
+    private final AdminStatsService statsService;
+    private final TransactionTemplate transactionTemplate;
 
-    public ReportUnlockingScheduler(UserReportRepository reportRepository) {
+    public ReportUnlockingScheduler(UserReportRepository reportRepository, JobLeaseService jobLeaseService,
+                                    AdminStatsService statsService, TransactionTemplate transactionTemplate) {
         this.reportRepository = reportRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.statsService = statsService;
+        this.transactionTemplate = transactionTemplate;
     }
 
+    @BatchWorkload
     @Scheduled(fixedDelay = 30, timeUnit = TimeUnit.MINUTES)
-    @Transactional
     public void releaseExpiredLocks() {
+        try {
+            jobLeaseService.runExclusively(JOB_NAME,
+                    () -> transactionTemplate.executeWithoutResult(status -> releaseLocks()));
+        } catch (Exception e) {
+            log.error("Error while releasing expired report locks", e);
+        }
+    }
+
+    private void releaseLocks() {
         log.info("Checking for expired report locks...");
 
         List<UserReport> expiredLocks = reportRepository.findExpiredLocks(LocalDateTime.now());
@@ -31,14 +52,17 @@ public class ReportUnlockingScheduler {
             log.warn("Auto-releasing expired lock on report {} (was locked by admin {})",
                     report.getId(), report.getClaimedBy().getId());
 
+            ReportStatus previousStatus = report.getStatus();
             report.setClaimedBy(null);
             report.setClaimedAt(null);
             report.setLockExpiresAt(null);
             report.setStatus(ReportStatus.PENDING);
 
             reportRepository.save(report);
+            statsService.reportChanged(report.getReportType(), previousStatus, report.getStatus());
         }
 
+        jobLeaseService.fence();
         log.info("Released {} expired locks", expiredLocks.size());
     }
 }
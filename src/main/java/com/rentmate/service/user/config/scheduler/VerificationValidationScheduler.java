@@ -0,0 +1,30 @@
+package com.rentmate.service.user.config.scheduler;
+
+import com.rentmate.service.user.service.VerificationService;
+import com.rentmate.service.user.service.shared.aspect.BatchWorkload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Component @Slf4j
+@ConditionalOnProperty(name = "verification.cloudinary.async-validation", havingValue = "true")
+public class VerificationValidationScheduler {
+    private final VerificationService verificationService;
+
+    public VerificationValidationScheduler(VerificationService verificationService) {
+        this.verificationService = verificationService;
+    }
+
+    @BatchWorkload
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.MINUTES)
+    public void retryStaleValidations() {
+        try {
+            verificationService.retryStaleImageValidations();
+        } catch (Exception e) {
+            log.error("Error while retrying verification image validations", e);
+        }
+    }
+}
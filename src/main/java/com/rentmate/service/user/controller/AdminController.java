@@ -0,0 +1,53 @@
+package com.rentmate.service.user.controller;
+
+import com.rentmate.service.user.domain.dto.job.JobLeaseResponse;
+import com.rentmate.service.user.domain.dto.stats.AdminStatsResponse;
+import com.rentmate.service.user.service.AdminStatsService;
+import com.rentmate.service.user.service.JobLeaseService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/users/admin")
+@PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+@Tag(name = "Administration", description = "Operational state of the service")
+public class AdminController {
+    private final JobLeaseService jobLeaseService;
+    private final AdminStatsService statsService;
+
+    public AdminController(JobLeaseService jobLeaseService, AdminStatsService statsService) {
+        this.jobLeaseService = jobLeaseService;
+        this.statsService = statsService;
+    }
+
+    @GetMapping("/stats")
+    @Operation(
+            summary = "Dashboard counters (Admin/Manager only)",
+            description = "Reports by status and type, verification requests by status and users by account status " +
+                    "and role. Served from in-memory counters without touching the database; reconciledAt is when " +
+                    "they were last recounted.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<AdminStatsResponse> getStats() {
+        return ResponseEntity.ok(statsService.getStats());
+    }
+
+    @GetMapping("/jobs")
+    @Operation(
+            summary = "Scheduled job leases (Admin/Manager only)",
+            description = "Which node holds the lease of each scheduled job, its fencing token and the last heartbeat. " +
+                    "held is false when no node is running the job right now.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<List<JobLeaseResponse>> getJobLeases() {
+        return ResponseEntity.ok(jobLeaseService.getLeases());
+    }
+}
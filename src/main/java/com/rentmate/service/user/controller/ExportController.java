@@ -0,0 +1,115 @@
+package com.rentmate.service.user.controller;
+
+import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
+import com.rentmate.service.user.domain.enumuration.ReportStatus;
+import com.rentmate.service.user.domain.enumuration.ReportType;
+import com.rentmate.service.user.domain.enumuration.UserRole;
+import com.rentmate.service.user.service.ExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.util.zip.GZIPOutputStream;
+
+@RestController
+@RequestMapping("/users/exports")
+@PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+@Tag(name = "Exports", description = "Full NDJSON extracts of users, ratings and reports for analytics. " +
+        "Rows are streamed from a database cursor, so the response starts immediately and memory use does not " +
+        "grow with the size of the export.")
+public class ExportController {
+    private final ExportService exportService;
+
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    @GetMapping("/users")
+    @Operation(
+            summary = "Export users (Admin/Manager only)",
+            description = "Streams every user matching the filters as one JSON object per line, ordered by id. " +
+                    "Filters behave like the ones on GET /users. Pass gzip=true to receive a gzip-compressed file.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @Parameter(description = "Filter by user role")
+            @RequestParam(required = false) UserRole role,
+            @Parameter(description = "Filter by account status")
+            @RequestParam(required = false) AccountActivityStatus status,
+            @Parameter(description = "Filter by identity verification status")
+            @RequestParam(required = false) Boolean isVerified,
+            @Parameter(description = "Search in first name, last name, email and phone number (min 2 characters)")
+            @RequestParam(required = false) String search,
+            @Parameter(description = "Compress the response with gzip")
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        return stream("users", gzip, output -> exportService.exportUsers(role, status, isVerified, search, output));
+    }
+
+    @GetMapping("/ratings")
+    @Operation(
+            summary = "Export ratings (Admin/Manager only)",
+            description = "Streams ratings as one JSON object per line, ordered by id. Use `since` for incremental " +
+                    "extracts of ratings created or updated after a point in time.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<StreamingResponseBody> exportRatings(
+            @Parameter(description = "Only ratings received by this user")
+            @RequestParam(required = false) Long ratedUserId,
+            @Parameter(description = "Only ratings updated at or after this time", example = "2025-01-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @Parameter(description = "Compress the response with gzip")
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        return stream("ratings", gzip, output -> exportService.exportRatings(ratedUserId, since, output));
+    }
+
+    @GetMapping("/reports")
+    @Operation(
+            summary = "Export reports (Admin/Manager only)",
+            description = "Streams reports as one JSON object per line, ordered by id. Filters behave like the ones " +
+                    "on GET /users/reports.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<StreamingResponseBody> exportReports(
+            @Parameter(description = "Report status", schema = @Schema(allowableValues = {"PENDING", "UNDER_REVIEW", "RESOLVED", "DISMISSED"}))
+            @RequestParam(required = false) ReportStatus status,
+            @Parameter(description = "Report type", schema = @Schema(allowableValues = {"FRAUD", "DAMAGE", "OVERDUE", "FAKE_USER", "THIEVING"}))
+            @RequestParam(required = false) ReportType type,
+            @Parameter(description = "Compress the response with gzip")
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        return stream("reports", gzip, output -> exportService.exportReports(status, type, output));
+    }
+
+    private ResponseEntity<StreamingResponseBody> stream(String name, boolean gzip, StreamingResponseBody body) {
+        String filename = name + (gzip ? ".ndjson.gz" : ".ndjson");
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString());
+
+        if (!gzip) return response.contentType(MediaType.APPLICATION_NDJSON).body(body);
+
+        return response
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .body(output -> {
+                    GZIPOutputStream compressed = new GZIPOutputStream(output, 64 * 1024);
+                    body.writeTo(compressed);
+                    compressed.finish();
+                });
+    }
+}
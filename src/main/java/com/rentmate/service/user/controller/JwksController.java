@@ -0,0 +1,39 @@
+package com.rentmate.service.user.controller;
+
+import com.rentmate.service.user.service.shared.util.JwtSigningKeys;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+@Tag(name = "Token keys", description = "Public keys for verifying access tokens issued by this service")
+public class JwksController {
+    private final JwtSigningKeys signingKeys;
+    private final CacheControl cacheControl;
+
+    public JwksController(JwtSigningKeys signingKeys,
+                          @Value("${jwt.jwks.max-age-seconds:300}") long maxAgeSeconds) {
+        this.signingKeys = signingKeys;
+        this.cacheControl = CacheControl.maxAge(Duration.ofSeconds(maxAgeSeconds)).cachePublic();
+    }
+
+    @GetMapping(value = "/.well-known/jwks.json", produces = "application/jwk-set+json")
+    @Operation(
+            summary = "Public signing keys",
+            description = "JWK set with the public keys of every active and retired signing key, looked up by the " +
+                    "token's kid header. Peers may cache it for the advertised max-age and should refetch on an " +
+                    "unknown kid. Empty when tokens are signed with HS256."
+    )
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(cacheControl)
+                .body(signingKeys.publicJwks());
+    }
+}
@@ -2,6 +2,7 @@ package com.rentmate.service.user.controller;
 
 import com.rentmate.service.user.domain.dto.PagedResponse;
 import com.rentmate.service.user.domain.dto.rating.CreateRatingRequest;
+import com.rentmate.service.user.domain.dto.rating.RatingDistributionResponse;
 import com.rentmate.service.user.domain.dto.rating.RatingResponse;
 import com.rentmate.service.user.domain.dto.rating.UpdateRatingRequest;
 import com.rentmate.service.user.service.RatingService;
@@ -19,11 +20,13 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.net.URI;
 
@@ -34,6 +37,8 @@ import java.net.URI;
         "Users can rate each other after completed transactions to build trust profiles. " +
         "Ratings automatically update denormalized average_rating and total_ratings on user records.")
 public class RatingController {
+    private static final CacheControl RATINGS_CACHE = CacheControl.noCache().cachePrivate();
+
     private final RatingService ratingService;
 
     @PostMapping("/ratings")
@@ -122,9 +127,47 @@ public class RatingController {
             @Parameter(description = "Page number (1-based indexing)")
             @RequestParam(defaultValue = "1") @Min(1) Integer page,
             @Parameter(description = "Number of items per page (max 100)")
-            @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit
+            @RequestParam(defaultValue = "10") @Min(1) @Max(100) Integer limit,
+            WebRequest webRequest
+    ) {
+        // weak: the page also shows raters' names, which can change without touching the rated user's ratings
+        String etag = "W/\"r" + userId + "-" + ratingService.getRatingsVersion(userId) + "-" + page + "-" + limit + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(RATINGS_CACHE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(RATINGS_CACHE)
+                .body(ratingService.getRatingsByUserId(userId, page, limit));
+    }
+
+    @GetMapping("/{userId}/ratings/distribution")
+    @Operation(
+            summary = "Get a user's rating distribution",
+            description = "Returns how many 1 to 5 star ratings the user received, the overall average and a recent " +
+                    "average in which older ratings count less. Served from counters maintained on every rating " +
+                    "change, so the cost does not depend on how many ratings the user has.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200", description = "Distribution retrieved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = RatingDistributionResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404", description = "User not found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            )
+    })
+    public ResponseEntity<RatingDistributionResponse> getRatingDistribution(
+            @Parameter(description = "User ID whose rating distribution to retrieve", required = true, example = "123")
+            @PathVariable Long userId
     ) {
-        return ResponseEntity.ok(ratingService.getRatingsByUserId(userId, page, limit));
+        return ResponseEntity.ok(ratingService.getRatingDistribution(userId));
     }
 
     @PutMapping("/ratings")
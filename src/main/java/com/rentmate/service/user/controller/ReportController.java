@@ -1,5 +1,7 @@
 package com.rentmate.service.user.controller;
 
+import com.rentmate.service.user.domain.dto.BulkActionResponse;
+import com.rentmate.service.user.domain.dto.SignedUploadParams;
 import com.rentmate.service.user.domain.dto.report.*;
 import com.rentmate.service.user.domain.enumuration.ReportStatus;
 import com.rentmate.service.user.domain.enumuration.ReportType;
@@ -22,6 +24,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @RestController
 @RequestMapping("/users")
@@ -63,6 +66,25 @@ public class ReportController {
                 .body(reportService.createReport(request));
     }
 
+    @GetMapping("/reports/evidence/upload-urls") @PreAuthorize("hasRole('DELIVERY_GUY')")
+    @Operation(
+            summary = "Generate signed Cloudinary upload parameters for report evidence",
+            description = """
+            **Delivery Guy Only**
+
+            Returns `count` signed upload slots (api_key, timestamp, signature, folder, public_id) for uploading
+            evidence images directly to Cloudinary before submitting a report. All slots share the same timestamp.
+            """,
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponse(responseCode = "200", description = "Upload parameters generated successfully")
+    public ResponseEntity<List<SignedUploadParams>> getEvidenceUploadUrls(
+            @Parameter(description = "Number of images to upload (max 10)")
+            @RequestParam(defaultValue = "1") @Min(1) @Max(10) Integer count
+    ) {
+        return ResponseEntity.ok(reportService.getEvidenceUploadUrls(count));
+    }
+
     @GetMapping("/reports/submitted")
     @Operation(
             summary = "Get reports I submitted",
@@ -389,4 +411,56 @@ public class ReportController {
         reportService.resolveReport(reportId, resolutionNotes.getMessage(), UserService.getAuthenticatedUser(), true);
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/reports/bulk/claim") @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+            summary = "Claim many reports for review",
+            description = """
+            **Admin/Manager Only**
+            
+            Claims up to 500 reports in one call, with the same rules as claiming a single report.
+            
+            **Behavior:**
+            - The whole batch is checked and claimed in one transaction
+            - Reports that cannot be claimed do not fail the call; each id gets its own outcome
+            - Outcomes: APPLIED, NOT_FOUND, INVALID_STATE (already resolved or dismissed),
+              LOCKED (claimed by another admin)
+            """,
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<BulkActionResponse> claimReports(@Valid @RequestBody BulkReportActionRequest request) {
+        return ResponseEntity.ok(reportService.claimReports(request.ids(), UserService.getAuthenticatedUser()));
+    }
+
+    @PostMapping("/reports/bulk/resolve") @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+            summary = "Resolve many reports",
+            description = """
+            **Admin/Manager Only**
+            
+            Resolves up to 500 reports in one call with the same resolution notes, with the same rules as
+            resolving a single report. Each id gets its own outcome, as in bulk claim.
+            """,
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<BulkActionResponse> resolveReports(@Valid @RequestBody BulkReportActionRequest request) {
+        return ResponseEntity.ok(reportService.resolveReports(request.ids(), request.message(),
+                UserService.getAuthenticatedUser(), false));
+    }
+
+    @PostMapping("/reports/bulk/dismiss") @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    @Operation(
+            summary = "Dismiss many reports",
+            description = """
+            **Admin/Manager Only**
+            
+            Dismisses up to 500 reports in one call, e.g. a wave of FAKE_USER spam reports. Reported users
+            still in PENDING_REPORT_REVIEW are restored to ACTIVE. Each id gets its own outcome, as in bulk claim.
+            """,
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<BulkActionResponse> dismissReports(@Valid @RequestBody BulkReportActionRequest request) {
+        return ResponseEntity.ok(reportService.resolveReports(request.ids(), request.message(),
+                UserService.getAuthenticatedUser(), true));
+    }
 }
@@ -3,6 +3,7 @@ package com.rentmate.service.user.controller;
 import com.rentmate.service.user.domain.dto.user.*;
 import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
 import com.rentmate.service.user.domain.enumuration.UserRole;
+import com.rentmate.service.user.service.UserImportService;
 import com.rentmate.service.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -16,6 +17,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ProblemDetail;
@@ -23,7 +26,13 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.util.Map;
 import java.util.Objects;
 
@@ -32,10 +41,18 @@ import java.util.Objects;
 @Tag(name = "User Management", description = "Endpoints for managing user profiles, roles, and account status. " +
         "Includes both self-service operations and administrative functions.")
 public class UserController {
+    // personal data: only the client may keep it, and it must revalidate (cheap with the ETag) before reuse
+    private static final CacheControl OWN_PROFILE_CACHE = CacheControl.noCache().cachePrivate();
+
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final CacheControl publicProfileCache;
 
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserImportService userImportService,
+                          @Value("${http.cache.public-profile-max-age-seconds:60}") long publicProfileMaxAge) {
         this.userService = userService;
+        this.userImportService = userImportService;
+        this.publicProfileCache = CacheControl.maxAge(Duration.ofSeconds(publicProfileMaxAge)).cachePublic();
     }
 
     @GetMapping("/profile")
@@ -76,8 +93,13 @@ public class UserController {
                     )
             )
     })
-    public ResponseEntity<UserProfileResponse> getProfile() {
-        return ResponseEntity.ok(userService.getUserProfile());
+    public ResponseEntity<UserProfileResponse> getProfile(WebRequest webRequest) {
+        Long userId = UserService.getAuthenticatedUserId();
+        String etag = "\"u" + userId + "-" + userService.getUserVersion(userId) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(OWN_PROFILE_CACHE).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(OWN_PROFILE_CACHE).body(userService.getUserProfile());
     }
 
     @PutMapping("/profile")
@@ -163,9 +185,14 @@ public class UserController {
     })
     public ResponseEntity<PublicUserProfileResponse> getUser(
             @Parameter(description = "User ID to retrieve", required = true, example = "123")
-            @PathVariable Long id
+            @PathVariable Long id,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(userService.getPublicUserProfile(id));
+        String etag = "\"p" + id + "-" + userService.getUserVersion(id) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(publicProfileCache).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(publicProfileCache).body(userService.getPublicUserProfile(id));
     }
 
     @DeleteMapping("/profile")
@@ -403,6 +430,63 @@ public class UserController {
         return ResponseEntity.ok(userService.createProfile(userProfileRequest));
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(
+            summary = "Bulk import user accounts (Admin/Manager only)",
+            description = "Creates user accounts from an uploaded CSV or NDJSON file. CSV files need a header row with " +
+                    "firstName, lastName, email, phoneNumber, password and role columns; NDJSON files carry one " +
+                    "CreateProfileRequest object per line. Rows are validated and imported in chunks, duplicates are " +
+                    "reported instead of failing the upload, and one UserRegisteredEvent is published per created user. " +
+                    "The response streams one result object per input row as NDJSON while the import runs. " +
+                    "Requires ADMIN or MANAGER role.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import started, per-row results are streamed",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = UserImportResult.class),
+                            examples = @ExampleObject(
+                                    value = "{\"line\":2,\"status\":\"CREATED\",\"userId\":1041,\"email\":\"driver@example.com\",\"message\":null}\n" +
+                                            "{\"line\":3,\"status\":\"DUPLICATE\",\"userId\":null,\"email\":\"taken@example.com\"," +
+                                            "\"message\":\"User already exist, chack your email and phone number.\"}"
+                            )
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Missing or invalid authentication token",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Insufficient permissions - requires ADMIN or MANAGER role",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                            schema = @Schema(implementation = ProblemDetail.class)
+                    )
+            )
+    })
+    public ResponseEntity<StreamingResponseBody> importProfiles(
+            @Parameter(description = "CSV or NDJSON file with one user per row", required = true)
+            @RequestPart("file") MultipartFile file
+    ) throws IOException {
+        InputStream input = file.getInputStream();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> {
+                    try (input) {
+                        userImportService.importUsers(input, output);
+                    }
+                });
+    }
+
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     @Operation(
@@ -470,7 +554,7 @@ public class UserController {
 
             @Parameter(
                     description = "Field to sort by",
-                    schema = @Schema(allowableValues = {"createdAt", "updatedAt", "averageRating", "firstName"}))
+                    schema = @Schema(allowableValues = {"createdAt", "updatedAt", "averageRating", "firstName", "trustScore"}))
             @RequestParam(defaultValue = "createdAt") String sortBy,
 
             @Parameter(
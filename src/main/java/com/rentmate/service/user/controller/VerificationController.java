@@ -1,5 +1,6 @@
 package com.rentmate.service.user.controller;
 
+import com.rentmate.service.user.domain.dto.BulkActionResponse;
 import com.rentmate.service.user.domain.dto.verification.*;
 import com.rentmate.service.user.domain.enumuration.VerificationRequestStatus;
 import com.rentmate.service.user.service.VerificationService;
@@ -250,6 +251,10 @@ public class VerificationController {
             @ApiResponse(
                     responseCode = "404", description = "Verification request not found",
                     content = @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409", description = "Verification request is not PENDING (still validating or already reviewed)",
+                    content = @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = ProblemDetail.class))
             )
     })
     public ResponseEntity<VerificationResponse> approveVerification(
@@ -305,6 +310,10 @@ public class VerificationController {
             @ApiResponse(
                     responseCode = "404", description = "Verification request not found",
                     content = @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = ProblemDetail.class))
+            ),
+            @ApiResponse(
+                    responseCode = "409", description = "Verification request is not PENDING (still validating or already reviewed)",
+                    content = @Content(mediaType = MediaType.APPLICATION_PROBLEM_JSON_VALUE, schema = @Schema(implementation = ProblemDetail.class))
             )
     })
     public ResponseEntity<VerificationResponse> rejectVerification(
@@ -316,6 +325,39 @@ public class VerificationController {
         return ResponseEntity.ok(verificationService.rejectVerification(verificationId, reason));
     }
 
+    @PatchMapping("/bulk/approval")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(
+            summary = "Approve many verification requests (Admin/Manager only)",
+            description = "Approves up to 500 pending identity verification requests in one transaction, with the same " +
+                    "effects as approving them one by one. Requests that are not found or not PENDING do not fail the " +
+                    "call; each id gets its own outcome (APPLIED, NOT_FOUND or INVALID_STATE). " +
+                    "Requires ADMIN or MANAGER role.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<BulkActionResponse> approveVerifications(
+            @Valid @RequestBody BulkVerificationReviewRequest request
+    ) {
+        return ResponseEntity.ok(verificationService.approveVerifications(request.ids()));
+    }
+
+    @PatchMapping("/bulk/rejection")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
+    @Operation(
+            summary = "Reject many verification requests (Admin/Manager only)",
+            description = "Rejects up to 500 pending identity verification requests in one transaction with the same " +
+                    "reason and 48 hour cooldown as a single rejection. Each id gets its own outcome, as in bulk approval. " +
+                    "Requires ADMIN or MANAGER role.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<BulkActionResponse> rejectVerifications(
+            @Valid @RequestBody BulkVerificationReviewRequest request,
+            @Parameter(description = "Reason for rejection (will be shown to the users)")
+            @RequestParam(defaultValue = "no reason mentioned") String reason
+    ) {
+        return ResponseEntity.ok(verificationService.rejectVerifications(request.ids(), reason));
+    }
+
     @GetMapping
     @PreAuthorize("hasRole('ADMIN') or hasRole('MANAGER')")
     @Operation(
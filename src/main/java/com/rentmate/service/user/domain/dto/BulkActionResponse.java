@@ -0,0 +1,13 @@
+package com.rentmate.service.user.domain.dto;
+
+import java.util.List;
+
+/**
+ * Per-id results of a bulk admin action, in request order. {@code applied} counts the APPLIED ones.
+ */
+public record BulkActionResponse(int applied, List<BulkActionResult> results) {
+    public static BulkActionResponse of(List<BulkActionResult> results) {
+        int applied = (int) results.stream().filter(r -> r.outcome() == BulkActionResult.Outcome.APPLIED).count();
+        return new BulkActionResponse(applied, results);
+    }
+}
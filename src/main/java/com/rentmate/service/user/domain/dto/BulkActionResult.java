@@ -0,0 +1,18 @@
+package com.rentmate.service.user.domain.dto;
+
+/**
+ * Outcome of one id of a bulk admin action.
+ */
+public record BulkActionResult(Long id, Outcome outcome, String message) {
+    public enum Outcome {
+        APPLIED, NOT_FOUND, INVALID_STATE, LOCKED
+    }
+
+    public static BulkActionResult applied(Long id) {
+        return new BulkActionResult(id, Outcome.APPLIED, null);
+    }
+
+    public static BulkActionResult rejected(Long id, Outcome outcome, String message) {
+        return new BulkActionResult(id, outcome, message);
+    }
+}
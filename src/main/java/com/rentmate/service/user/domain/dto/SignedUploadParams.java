@@ -0,0 +1,12 @@
+package com.rentmate.service.user.domain.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record SignedUploadParams(
+        @JsonProperty("public_id") String publicId,
+        String folder,
+        long timestamp,
+        String signature,
+        @JsonProperty("api_key") String apiKey
+) {
+}
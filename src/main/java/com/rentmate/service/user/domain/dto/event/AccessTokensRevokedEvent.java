@@ -0,0 +1,7 @@
+package com.rentmate.service.user.domain.dto.event;
+
+/**
+ * Access tokens of {@code userId} issued before {@code issuedBefore} (epoch seconds) are no longer accepted.
+ */
+public record AccessTokensRevokedEvent(Long userId, long issuedBefore) {
+}
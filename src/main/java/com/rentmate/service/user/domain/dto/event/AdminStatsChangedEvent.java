@@ -0,0 +1,11 @@
+package com.rentmate.service.user.domain.dto.event;
+
+import java.util.List;
+
+/**
+ * Counter changes committed on {@code instanceId}, applied by every other instance to its own admin counters.
+ */
+public record AdminStatsChangedEvent(String instanceId, List<Change> changes) {
+    public record Change(String entity, String status, String qualifier, long delta) {
+    }
+}
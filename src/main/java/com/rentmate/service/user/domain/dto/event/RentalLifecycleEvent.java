@@ -0,0 +1,10 @@
+package com.rentmate.service.user.domain.dto.event;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
+import java.time.LocalDateTime;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record RentalLifecycleEvent(Long rentalId, Long ownerId, Long renterId, String status,
+                                   LocalDateTime startDate, LocalDateTime endDate, LocalDateTime lastModifiedDate) {
+}
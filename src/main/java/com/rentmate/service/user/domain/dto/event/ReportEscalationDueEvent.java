@@ -0,0 +1,7 @@
+package com.rentmate.service.user.domain.dto.event;
+
+/**
+ * Internal message: the OVERDUE report {@code reportId} reaches its escalation time.
+ */
+public record ReportEscalationDueEvent(Long reportId) {
+}
@@ -0,0 +1,7 @@
+package com.rentmate.service.user.domain.dto.export;
+
+import java.time.LocalDateTime;
+
+public record RatingExportRow(Long id, Long raterId, Long ratedUserId, Long rentalRequestId, Byte rating,
+                              String feedback, Boolean isVisible, LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
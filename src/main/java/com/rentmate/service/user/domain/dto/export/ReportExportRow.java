@@ -0,0 +1,13 @@
+package com.rentmate.service.user.domain.dto.export;
+
+import com.rentmate.service.user.domain.enumuration.ReportStatus;
+import com.rentmate.service.user.domain.enumuration.ReportType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record ReportExportRow(Long id, Long reporterId, Long reportedUserId, Long relatedRentalId,
+                              Long relatedDeliveryId, ReportType reportType, ReportStatus status, String details,
+                              BigDecimal damagePercentage, Long resolvedById, LocalDateTime resolvedAt,
+                              String resolutionNotes, LocalDateTime submittedAt, LocalDateTime updatedAt) {
+}
@@ -0,0 +1,13 @@
+package com.rentmate.service.user.domain.dto.export;
+
+import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
+import com.rentmate.service.user.domain.enumuration.UserRole;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record UserExportRow(Long id, String firstName, String lastName, String email, String phoneNumber,
+                            UserRole role, AccountActivityStatus activityStatus, boolean isIdentityVerified,
+                            boolean isDisabled, BigDecimal averageRating, Integer totalRating,
+                            LocalDateTime createdAt) {
+}
@@ -0,0 +1,7 @@
+package com.rentmate.service.user.domain.dto.job;
+
+import java.time.LocalDateTime;
+
+public record JobLeaseResponse(String jobName, String owner, Long fencingToken, LocalDateTime leaseUntil,
+                               LocalDateTime acquiredAt, LocalDateTime heartbeatAt, boolean held) {
+}
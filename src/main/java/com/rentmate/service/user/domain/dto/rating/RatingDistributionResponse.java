@@ -0,0 +1,12 @@
+package com.rentmate.service.user.domain.dto.rating;
+
+import java.util.List;
+
+/**
+ * @param counts number of ratings per star, index 0 holding the 1-star count
+ * @param recentAverage average with older ratings weighted down (half-life {@code rating.recent.half-life-days}),
+ *                      null when the user has no ratings
+ */
+public record RatingDistributionResponse(Long userId, int total, double average, List<Integer> counts,
+                                         Double recentAverage) {
+}
@@ -0,0 +1,20 @@
+package com.rentmate.service.user.domain.dto.rating;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * What the ratings ETag is derived from. The count and star sum move in the transaction that creates, deletes or
+ * re-stars a rating; the user's version in the one that edits only a feedback, and again when the change reaches
+ * the user's aggregate, which catches the rare change the other fields miss (two re-stars cancelling out).
+ *
+ * @param starSum null when the user has no ratings
+ * @param lastUpdatedAt null when the user has no ratings
+ */
+public record RatingsVersion(Long userVersion, Long count, Long starSum, LocalDateTime lastUpdatedAt) {
+
+    public String tag() {
+        return userVersion + "-" + count + "-" + (starSum == null ? 0 : starSum) + "-"
+                + (lastUpdatedAt == null ? 0 : lastUpdatedAt.toEpochSecond(ZoneOffset.UTC));
+    }
+}
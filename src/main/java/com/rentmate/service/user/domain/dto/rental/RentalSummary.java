@@ -0,0 +1,16 @@
+package com.rentmate.service.user.domain.dto.rental;
+
+import java.time.LocalDateTime;
+
+/**
+ * The parts of a rental that reports are validated against. Owner and renter never change once the rental
+ * is created, but the dates can (an extended rental), so a summary fetched from the rental service is only
+ * cached for {@code rental.lookup.cache-ttl-seconds}; the event-fed projection stays current.
+ */
+public record RentalSummary(Long rentalId, Long ownerId, Long renterId, LocalDateTime startDate,
+                            LocalDateTime endDate) {
+    public static RentalSummary from(RentalResponse rental) {
+        return new RentalSummary(rental.getRentalId(), rental.getOwnerId(), rental.getRenterId(),
+                rental.getStartDate(), rental.getEndDate());
+    }
+}
@@ -0,0 +1,13 @@
+package com.rentmate.service.user.domain.dto.report;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Reports to claim, resolve or dismiss in one call. The message is stored as resolution notes and ignored on claim.
+ */
+public record BulkReportActionRequest(@NotEmpty @Size(max = 500) List<@NotNull Long> ids, String message) {
+}
@@ -0,0 +1,15 @@
+package com.rentmate.service.user.domain.dto.report;
+
+import java.time.LocalDateTime;
+
+/**
+ * What a bulk report action needs to decide each report's outcome, read with the rows locked.
+ */
+public interface ReportActionRow {
+    Long getId();
+    String getStatus();
+    String getReportType();
+    Long getReportedUserId();
+    Long getClaimedBy();
+    LocalDateTime getLockExpiresAt();
+}
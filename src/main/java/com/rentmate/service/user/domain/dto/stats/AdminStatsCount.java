@@ -0,0 +1,25 @@
+package com.rentmate.service.user.domain.dto.stats;
+
+import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
+import com.rentmate.service.user.domain.enumuration.ReportStatus;
+import com.rentmate.service.user.domain.enumuration.ReportType;
+import com.rentmate.service.user.domain.enumuration.UserRole;
+import com.rentmate.service.user.domain.enumuration.VerificationRequestStatus;
+
+/**
+ * One row of the GROUP BY queries that seed the admin counters. The qualifier is the report type or user role,
+ * empty for verifications.
+ */
+public record AdminStatsCount(String status, String qualifier, long count) {
+    public AdminStatsCount(ReportStatus status, ReportType type, Long count) {
+        this(status.name(), type.name(), count);
+    }
+
+    public AdminStatsCount(AccountActivityStatus status, UserRole role, Long count) {
+        this(status.name(), role.name(), count);
+    }
+
+    public AdminStatsCount(VerificationRequestStatus status, Long count) {
+        this(status.name(), "", count);
+    }
+}
@@ -0,0 +1,12 @@
+package com.rentmate.service.user.domain.dto.stats;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Counts for the admin dashboard: reports by status then type, verification requests by status and users by
+ * account status then role. {@code reconciledAt} is when the counters were last recounted from the database.
+ */
+public record AdminStatsResponse(Map<String, Map<String, Long>> reports, Map<String, Long> verifications,
+                                 Map<String, Map<String, Long>> users, LocalDateTime reconciledAt) {
+}
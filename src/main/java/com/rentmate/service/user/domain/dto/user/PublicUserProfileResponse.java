@@ -1,5 +1,6 @@
 package com.rentmate.service.user.domain.dto.user;
 
+import com.rentmate.service.user.domain.enumuration.TrustTier;
 import com.rentmate.service.user.domain.enumuration.UserRole;
 import lombok.Data;
 import java.math.BigDecimal;
@@ -12,14 +13,19 @@ public class PublicUserProfileResponse {
     private final Double rating;
     private final Integer totalRatings;
     private final String role;
+    private final Integer trustScore;
+    private final String trustTier;
 
     public PublicUserProfileResponse(Long id, String firstName, String lastName,
-            boolean isIdentityVerified, BigDecimal averageRating, Integer totalRating, UserRole role) {
+            boolean isIdentityVerified, BigDecimal averageRating, Integer totalRating, UserRole role,
+            Integer trustScore, TrustTier trustTier) {
         this.id = id;
         this.userName = firstName + " " + lastName;
         this.isVerified = isIdentityVerified;
         this.rating = averageRating.doubleValue();
         this.totalRatings = totalRating;
         this.role = role.name();
+        this.trustScore = trustScore;
+        this.trustTier = trustTier.name();
     }
 }
@@ -0,0 +1,15 @@
+package com.rentmate.service.user.domain.dto.user;
+
+public record UserImportResult(int line, Status status, Long userId, String email, String message) {
+    public enum Status {
+        CREATED, DUPLICATE, INVALID, FAILED
+    }
+
+    public static UserImportResult created(int line, Long userId, String email) {
+        return new UserImportResult(line, Status.CREATED, userId, email, null);
+    }
+
+    public static UserImportResult rejected(int line, Status status, String email, String message) {
+        return new UserImportResult(line, status, null, email, message);
+    }
+}
@@ -0,0 +1,6 @@
+package com.rentmate.service.user.domain.dto.user;
+
+import com.rentmate.service.user.domain.enumuration.UserRole;
+
+public record UserRoleDto(Long id, UserRole role) {
+}
@@ -0,0 +1,10 @@
+package com.rentmate.service.user.domain.dto.verification;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BulkVerificationReviewRequest(@NotEmpty @Size(max = 500) List<@NotNull Long> ids) {
+}
@@ -0,0 +1,14 @@
+package com.rentmate.service.user.domain.dto.verification;
+
+import java.time.LocalDateTime;
+
+/**
+ * A verification request under bulk review with its user's email, read with the request row locked.
+ */
+public interface VerificationReviewRow {
+    Long getId();
+    Long getUserId();
+    String getEmail();
+    String getStatus();
+    LocalDateTime getCreatedAt();
+}
@@ -0,0 +1,19 @@
+package com.rentmate.service.user.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+/**
+ * Access tokens of the user issued before {@code revokedBefore} (epoch seconds) are no longer accepted.
+ */
+@Entity
+@Table(name = "access_token_revocations")
+@Data
+public class AccessTokenRevocation {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "revoked_before", nullable = false)
+    private Long revokedBefore;
+}
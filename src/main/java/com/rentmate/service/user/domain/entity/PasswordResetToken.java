@@ -12,7 +12,11 @@ import java.time.LocalDateTime;
         })
 @Data
 public class PasswordResetToken {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "password_reset_tokens_id")
+    @TableGenerator(name = "password_reset_tokens_id", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "password_reset_tokens", allocationSize = 50)
     private Long id;
 
     @Column(name = "token_hash", nullable = false, length = 255)
@@ -0,0 +1,24 @@
+package com.rentmate.service.user.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Per instance: every rating change made before {@code flushedThrough} has reached user_rating_stats.
+ */
+@Entity
+@Table(name = "rating_flush_watermarks")
+@Data
+public class RatingFlushWatermark {
+    @Id
+    @Column(name = "instance_id", length = 64)
+    private String instanceId;
+
+    @Column(name = "flushed_through", nullable = false)
+    private LocalDateTime flushedThrough;
+
+    @Column(name = "heartbeat_at", nullable = false)
+    private LocalDateTime heartbeatAt;
+}
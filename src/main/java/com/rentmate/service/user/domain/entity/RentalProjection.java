@@ -0,0 +1,37 @@
+package com.rentmate.service.user.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Local copy of the rental fields the user service needs, kept up to date from rental events.
+ */
+@Entity
+@Table(name = "rental_projections")
+@Data
+public class RentalProjection {
+    @Id
+    @Column(name = "rental_id")
+    private Long rentalId;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "renter_id", nullable = false)
+    private Long renterId;
+
+    @Column(length = 32)
+    private String status;
+
+    @Column(name = "start_date")
+    private LocalDateTime startDate;
+
+    @Column(name = "end_date")
+    private LocalDateTime endDate;
+
+    // last modification time reported by the rental service, used to drop out-of-order events
+    @Column(name = "source_updated_at", nullable = false)
+    private LocalDateTime sourceUpdatedAt;
+}
@@ -0,0 +1,33 @@
+package com.rentmate.service.user.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cluster-wide lease on a scheduled job. All timestamps are written with the database clock, so nodes with
+ * skewed clocks still agree on who holds the lease.
+ */
+@Entity
+@Table(name = "scheduled_job_leases")
+@Data
+public class ScheduledJobLease {
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    private String owner;
+
+    @Column(name = "fencing_token", nullable = false)
+    private Long fencingToken;
+
+    @Column(name = "lease_until", nullable = false)
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "acquired_at")
+    private LocalDateTime acquiredAt;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+}
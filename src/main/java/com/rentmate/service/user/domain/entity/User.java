@@ -1,6 +1,7 @@
 package com.rentmate.service.user.domain.entity;
 
 import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
+import com.rentmate.service.user.domain.enumuration.TrustTier;
 import com.rentmate.service.user.domain.enumuration.UserRole;
 import jakarta.persistence.*;
 import lombok.Data;
@@ -9,10 +10,17 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users",
+        indexes = {
+                @Index(name = "idx_users_trust_score", columnList = "trust_score")
+        })
 @Data
 public class User {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "users_id")
+    @TableGenerator(name = "users_id", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "users", allocationSize = 50)
     private Long id;
 
     @Column(name = "first_name", nullable = false, length = 100)
@@ -55,9 +63,22 @@ public class User {
     @Column(name = "total_ratings", nullable = false)
     private Integer totalRating = 0;
 
+    // maintained by UserRepository.refreshTrustScores; defaults to the score of a new, unrated, unverified account
+    @Column(name = "trust_score", nullable = false)
+    private Integer trustScore = 38;
+
+    @Column(name = "trust_tier", nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private TrustTier trustTier = TrustTier.LOW;
+
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt = LocalDateTime.now();
+
+    // left null on new users so Spring Data still treats them as new; bulk updates bump it explicitly
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
@@ -8,10 +8,18 @@ import java.time.LocalDateTime;
 @Table(name = "user_ratings",
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_rental_rating", columnNames = {"rental_request_id", "rater_id"})
+        },
+        indexes = {
+                @Index(name = "idx_rating_updated_at", columnList = "updated_at"),
+                @Index(name = "idx_rating_rated_user_updated", columnList = "rated_user_id, updated_at, rating")
         })
 @Data
 public class UserRating {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_ratings_id")
+    @TableGenerator(name = "user_ratings_id", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "user_ratings", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
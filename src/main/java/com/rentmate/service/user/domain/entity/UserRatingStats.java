@@ -0,0 +1,47 @@
+package com.rentmate.service.user.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Rating histogram of a user, kept up to date by every rating change. Written only through the native
+ * statements in {@code UserRatingStatsRepository}.
+ */
+@Entity
+@Table(name = "user_rating_stats")
+@Data
+public class UserRatingStats {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "star_1", nullable = false)
+    private int star1;
+
+    @Column(name = "star_2", nullable = false)
+    private int star2;
+
+    @Column(name = "star_3", nullable = false)
+    private int star3;
+
+    @Column(name = "star_4", nullable = false)
+    private int star4;
+
+    @Column(name = "star_5", nullable = false)
+    private int star5;
+
+    @Column(name = "recent_sum", nullable = false)
+    private double recentSum;
+
+    @Column(name = "recent_weight", nullable = false)
+    private double recentWeight;
+
+    @Column(name = "decayed_at", nullable = false)
+    private LocalDateTime decayedAt;
+
+    // last rebuild from user_ratings, null if the row was only ever changed by deltas
+    @Column(name = "recomputed_at")
+    private LocalDateTime recomputedAt;
+}
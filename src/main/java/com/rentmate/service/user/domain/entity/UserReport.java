@@ -9,12 +9,18 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "user_reports")
+@Table(name = "user_reports",
+        indexes = {
+                @Index(name = "idx_report_type_status_submitted", columnList = "report_type, status, submitted_at")
+        })
 @Data
 public class UserReport {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_reports_id")
+    @TableGenerator(name = "user_reports_id", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "user_reports", allocationSize = 50)
     private Long id;
 
     // Relationships
@@ -12,7 +12,11 @@ import java.time.LocalDateTime;
         })
 @Data
 public class UserSession {
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Id
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_sessions_id")
+    @TableGenerator(name = "user_sessions_id", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "user_sessions", allocationSize = 50)
     private Long id;
 
     @Column(name = "token_hash", nullable = false, length = 255)
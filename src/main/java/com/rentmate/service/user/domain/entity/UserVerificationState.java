@@ -0,0 +1,31 @@
+package com.rentmate.service.user.domain.entity;
+
+import com.rentmate.service.user.domain.enumuration.VerificationRequestStatus;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Status of a user's latest verification request, kept alongside the requests so eligibility
+ * checks are a primary key lookup and submissions can be claimed atomically.
+ */
+@Entity
+@Table(name = "user_verification_states")
+@Data
+public class UserVerificationState {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, columnDefinition = "ENUM('VALIDATING','PENDING','APPROVED','REJECTED')")
+    private VerificationRequestStatus status;
+
+    @Column(name = "can_resubmit_after")
+    private LocalDateTime canResubmitAfter;
+
+    @Column(name = "updated_at", nullable = false, insertable = false, updatable = false,
+            columnDefinition = "TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP")
+    private LocalDateTime updatedAt;
+}
@@ -8,7 +8,10 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "verification_requests",
         indexes = {
-                @Index(name = "idx_user_id", columnList = "user_id")
+                @Index(name = "idx_user_id", columnList = "user_id"),
+                @Index(name = "idx_verification_status_created", columnList = "status, created_at, id"),
+                @Index(name = "idx_verification_status_reviewed", columnList = "status, reviewed_at, id"),
+                @Index(name = "idx_verification_created", columnList = "created_at, id")
         })
 @Data
 public class VerificationRequest {
@@ -25,7 +28,7 @@ public class VerificationRequest {
     private String idNumber;
 
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false, columnDefinition = "ENUM('PENDING','APPROVED','REJECTED') DEFAULT 'PENDING'")
+    @Column(nullable = false, columnDefinition = "ENUM('VALIDATING','PENDING','APPROVED','REJECTED') DEFAULT 'PENDING'")
     private VerificationRequestStatus status = VerificationRequestStatus.PENDING;
 
     @Column(name = "submitted_at", nullable = false,
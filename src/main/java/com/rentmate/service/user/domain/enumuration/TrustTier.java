@@ -0,0 +1,4 @@
+package com.rentmate.service.user.domain.enumuration;
+public enum TrustTier {
+    RESTRICTED, LOW, MEDIUM, HIGH
+}
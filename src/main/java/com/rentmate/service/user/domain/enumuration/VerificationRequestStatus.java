@@ -1,5 +1,5 @@
 package com.rentmate.service.user.domain.enumuration;
 
 public enum VerificationRequestStatus {
-    PENDING, APPROVED, REJECTED
+    VALIDATING, PENDING, APPROVED, REJECTED
 }
@@ -0,0 +1,26 @@
+package com.rentmate.service.user.repository;
+
+import com.rentmate.service.user.domain.entity.AccessTokenRevocation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface AccessTokenRevocationRepository extends JpaRepository<AccessTokenRevocation, Long> {
+    @Modifying @Transactional
+    @Query(value = """
+            INSERT INTO access_token_revocations (user_id, revoked_before)
+            VALUES (:userId, :revokedBefore)
+            ON DUPLICATE KEY UPDATE revoked_before = GREATEST(revoked_before, VALUES(revoked_before))
+            """, nativeQuery = true)
+    void upsert(@Param("userId") Long userId, @Param("revokedBefore") long revokedBefore);
+
+    List<AccessTokenRevocation> findByRevokedBeforeGreaterThanEqual(long cutoff);
+
+    @Modifying @Transactional
+    @Query("DELETE FROM AccessTokenRevocation r WHERE r.revokedBefore < :cutoff")
+    int deleteOlderThan(@Param("cutoff") long cutoff);
+}
@@ -0,0 +1,28 @@
+package com.rentmate.service.user.repository;
+
+import com.rentmate.service.user.domain.entity.RatingFlushWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RatingFlushWatermarkRepository extends JpaRepository<RatingFlushWatermark, String> {
+    @Modifying @Transactional
+    @Query(value = """
+            INSERT INTO rating_flush_watermarks (instance_id, flushed_through, heartbeat_at)
+            VALUES (:instanceId, :flushedThrough, NOW(3))
+            ON DUPLICATE KEY UPDATE flushed_through = VALUES(flushed_through), heartbeat_at = NOW(3)
+            """, nativeQuery = true)
+    void upsert(@Param("instanceId") String instanceId, @Param("flushedThrough") LocalDateTime flushedThrough);
+
+    // instances that stopped reporting, crashed or not
+    @Query(value = """
+            SELECT * FROM rating_flush_watermarks
+            WHERE heartbeat_at < NOW(3) - INTERVAL :timeoutSeconds SECOND
+            """, nativeQuery = true)
+    List<RatingFlushWatermark> findStale(@Param("timeoutSeconds") long timeoutSeconds);
+}
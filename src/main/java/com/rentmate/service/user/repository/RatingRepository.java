@@ -1,15 +1,23 @@
 package com.rentmate.service.user.repository;
 
+import com.rentmate.service.user.domain.dto.export.RatingExportRow;
 import com.rentmate.service.user.domain.dto.rating.RatingResponse;
+import com.rentmate.service.user.domain.dto.rating.RatingsVersion;
 import com.rentmate.service.user.domain.dto.rating.UserRatingDto;
 import com.rentmate.service.user.domain.entity.UserRating;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface RatingRepository extends JpaRepository<UserRating , Long> {
 
@@ -28,4 +36,33 @@ public interface RatingRepository extends JpaRepository<UserRating , Long> {
             countQuery = "SELECT count(ur) FROM UserRating ur WHERE ur.ratedUser.id = :userId")
     Page<UserRatingDto> findAllByRatedUserId(@Param("userId") Long userId, Pageable pageable);
 
+    // empty when the user does not exist
+    @Query("""
+        SELECT new com.rentmate.service.user.domain.dto.rating.RatingsVersion(
+            u.version, COUNT(ur.id), SUM(ur.rating), MAX(ur.updatedAt)
+        )
+        FROM User u
+        LEFT JOIN UserRating ur ON ur.ratedUser.id = u.id
+        WHERE u.id = :userId
+        GROUP BY u.version
+        """)
+    Optional<RatingsVersion> findRatingsVersion(@Param("userId") Long userId);
+
+    @Query("SELECT DISTINCT ur.ratedUser.id FROM UserRating ur WHERE ur.updatedAt >= :since")
+    List<Long> findRatedUserIdsUpdatedSince(@Param("since") LocalDateTime since);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+        SELECT new com.rentmate.service.user.domain.dto.export.RatingExportRow(
+            ur.id, ur.rater.id, ur.ratedUser.id, ur.rentalRequestId, ur.rating,
+            ur.feedback, ur.isVisible, ur.createdAt, ur.updatedAt
+        )
+        FROM UserRating ur
+        WHERE (:ratedUserId IS NULL OR ur.ratedUser.id = :ratedUserId)
+          AND (:since IS NULL OR ur.updatedAt >= :since)
+        ORDER BY ur.id
+        """)
+    Stream<RatingExportRow> streamForExport(@Param("ratedUserId") Long ratedUserId,
+                                            @Param("since") LocalDateTime since);
+
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.rentmate.service.user.repository;
+
+import com.rentmate.service.user.domain.entity.RentalProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface RentalProjectionRepository extends JpaRepository<RentalProjection, Long> {
+    // Newest wins: an event older than the stored row leaves it untouched.
+    // source_updated_at has to be assigned last, the other columns compare against its old value.
+    @Modifying @Transactional
+    @Query(value = """
+            INSERT INTO rental_projections (rental_id, owner_id, renter_id, status, start_date, end_date, source_updated_at)
+            VALUES (:rentalId, :ownerId, :renterId, :status, :startDate, :endDate, :sourceUpdatedAt)
+            ON DUPLICATE KEY UPDATE
+                owner_id = IF(VALUES(source_updated_at) >= source_updated_at, VALUES(owner_id), owner_id),
+                renter_id = IF(VALUES(source_updated_at) >= source_updated_at, VALUES(renter_id), renter_id),
+                status = IF(VALUES(source_updated_at) >= source_updated_at, VALUES(status), status),
+                start_date = IF(VALUES(source_updated_at) >= source_updated_at, VALUES(start_date), start_date),
+                end_date = IF(VALUES(source_updated_at) >= source_updated_at, VALUES(end_date), end_date),
+                source_updated_at = GREATEST(source_updated_at, VALUES(source_updated_at))
+            """, nativeQuery = true)
+    void upsert(@Param("rentalId") Long rentalId, @Param("ownerId") Long ownerId, @Param("renterId") Long renterId,
+                @Param("status") String status, @Param("startDate") LocalDateTime startDate,
+                @Param("endDate") LocalDateTime endDate, @Param("sourceUpdatedAt") LocalDateTime sourceUpdatedAt);
+}
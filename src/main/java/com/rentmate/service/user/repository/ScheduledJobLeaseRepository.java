@@ -0,0 +1,64 @@
+package com.rentmate.service.user.repository;
+
+import com.rentmate.service.user.domain.dto.job.JobLeaseResponse;
+import com.rentmate.service.user.domain.entity.ScheduledJobLease;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface ScheduledJobLeaseRepository extends JpaRepository<ScheduledJobLease, String> {
+    @Modifying @Transactional
+    @Query(value = "INSERT IGNORE INTO scheduled_job_leases (job_name) VALUES (:jobName)", nativeQuery = true)
+    int insertIfAbsent(@Param("jobName") String jobName);
+
+    // succeeds only if the lease expired (or this node already holds it); every acquisition gets a new token
+    @Modifying @Transactional
+    @Query(value = """
+            UPDATE scheduled_job_leases
+            SET owner = :owner, fencing_token = fencing_token + 1,
+                lease_until = NOW(3) + INTERVAL (:leaseMs * 1000) MICROSECOND,
+                acquired_at = NOW(3), heartbeat_at = NOW(3)
+            WHERE job_name = :jobName AND (lease_until < NOW(3) OR owner = :owner)
+            """, nativeQuery = true)
+    int tryAcquire(@Param("jobName") String jobName, @Param("owner") String owner, @Param("leaseMs") long leaseMs);
+
+    @Query(value = "SELECT fencing_token FROM scheduled_job_leases WHERE job_name = :jobName AND owner = :owner",
+            nativeQuery = true)
+    Long findToken(@Param("jobName") String jobName, @Param("owner") String owner);
+
+    @Modifying @Transactional
+    @Query(value = """
+            UPDATE scheduled_job_leases
+            SET lease_until = NOW(3) + INTERVAL (:leaseMs * 1000) MICROSECOND, heartbeat_at = NOW(3)
+            WHERE job_name = :jobName AND owner = :owner AND fencing_token = :token AND lease_until >= NOW(3)
+            """, nativeQuery = true)
+    int renew(@Param("jobName") String jobName, @Param("owner") String owner, @Param("token") long token,
+              @Param("leaseMs") long leaseMs);
+
+    // joins the caller's transaction: the row lock it takes keeps the next holder out until that transaction ends
+    @Modifying
+    @Query(value = """
+            UPDATE scheduled_job_leases SET heartbeat_at = NOW(3)
+            WHERE job_name = :jobName AND owner = :owner AND fencing_token = :token AND lease_until >= NOW(3)
+            """, nativeQuery = true)
+    int fence(@Param("jobName") String jobName, @Param("owner") String owner, @Param("token") long token);
+
+    @Modifying @Transactional
+    @Query(value = """
+            UPDATE scheduled_job_leases SET lease_until = NOW(3)
+            WHERE job_name = :jobName AND owner = :owner AND fencing_token = :token
+            """, nativeQuery = true)
+    int release(@Param("jobName") String jobName, @Param("owner") String owner, @Param("token") long token);
+
+    @Query("""
+            SELECT new com.rentmate.service.user.domain.dto.job.JobLeaseResponse(
+                l.jobName, l.owner, l.fencingToken, l.leaseUntil, l.acquiredAt, l.heartbeatAt,
+                CASE WHEN l.leaseUntil > CURRENT_TIMESTAMP THEN true ELSE false END)
+            FROM ScheduledJobLease l ORDER BY l.jobName
+            """)
+    List<JobLeaseResponse> findAllStatuses();
+}
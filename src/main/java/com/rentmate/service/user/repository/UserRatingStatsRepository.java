@@ -0,0 +1,101 @@
+package com.rentmate.service.user.repository;
+
+import com.rentmate.service.user.domain.entity.UserRatingStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface UserRatingStatsRepository extends JpaRepository<UserRatingStats, Long> {
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_rating_stats (user_id) VALUES (:userId)", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId);
+
+    /*
+     * Locks the users' rows until the transaction ends, in ascending id order, so a recompute cannot run between
+     * reading recomputed_at and applying a delta.
+     */
+    @Query(value = "SELECT * FROM user_rating_stats WHERE user_id IN (:userIds) ORDER BY user_id FOR UPDATE",
+            nativeQuery = true)
+    List<UserRatingStats> lockAll(@Param("userIds") Collection<Long> userIds);
+
+    /*
+     * Adds star deltas and decayed sum/weight deltas (valued as of asOf). The stored decayed sums are first brought
+     * forward to now. MySQL applies the assignments left to right, so decayed_at keeps its old value until the
+     * last one.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE user_rating_stats
+            SET star_1 = star_1 + :star1, star_2 = star_2 + :star2, star_3 = star_3 + :star3,
+                star_4 = star_4 + :star4, star_5 = star_5 + :star5,
+                recent_sum = recent_sum * EXP(-:decayPerSecond * TIMESTAMPDIFF(MICROSECOND, decayed_at, NOW(3)) / 1000000)
+                    + :sumDelta * EXP(-:decayPerSecond * TIMESTAMPDIFF(MICROSECOND, :asOf, NOW(3)) / 1000000),
+                recent_weight = recent_weight * EXP(-:decayPerSecond * TIMESTAMPDIFF(MICROSECOND, decayed_at, NOW(3)) / 1000000)
+                    + :weightDelta * EXP(-:decayPerSecond * TIMESTAMPDIFF(MICROSECOND, :asOf, NOW(3)) / 1000000),
+                decayed_at = NOW(3)
+            WHERE user_id = :userId
+            """, nativeQuery = true)
+    int applyDelta(@Param("userId") Long userId, @Param("star1") int star1, @Param("star2") int star2,
+                   @Param("star3") int star3, @Param("star4") int star4, @Param("star5") int star5,
+                   @Param("sumDelta") double sumDelta, @Param("weightDelta") double weightDelta,
+                   @Param("asOf") LocalDateTime asOf, @Param("decayPerSecond") double decayPerSecond);
+
+    // recomputes the stats of the users in [fromId, toId] that have ratings
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_rating_stats (user_id, star_1, star_2, star_3, star_4, star_5,
+                                           recent_sum, recent_weight, decayed_at, recomputed_at)
+            SELECT rated_user_id,
+                   SUM(rating = 1), SUM(rating = 2), SUM(rating = 3), SUM(rating = 4), SUM(rating = 5),
+                   SUM(rating * EXP(-:decayPerSecond * TIMESTAMPDIFF(SECOND, created_at, NOW(3)))),
+                   SUM(EXP(-:decayPerSecond * TIMESTAMPDIFF(SECOND, created_at, NOW(3)))),
+                   NOW(3), NOW(3)
+            FROM user_ratings
+            WHERE rated_user_id BETWEEN :fromId AND :toId
+            GROUP BY rated_user_id
+            ON DUPLICATE KEY UPDATE
+                star_1 = VALUES(star_1), star_2 = VALUES(star_2), star_3 = VALUES(star_3),
+                star_4 = VALUES(star_4), star_5 = VALUES(star_5),
+                recent_sum = VALUES(recent_sum), recent_weight = VALUES(recent_weight),
+                decayed_at = VALUES(decayed_at), recomputed_at = VALUES(recomputed_at)
+            """, nativeQuery = true)
+    int recompute(@Param("fromId") long fromId, @Param("toId") long toId,
+                  @Param("decayPerSecond") double decayPerSecond);
+
+    // recomputes the stats of the given users from their ratings
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_rating_stats (user_id, star_1, star_2, star_3, star_4, star_5,
+                                           recent_sum, recent_weight, decayed_at, recomputed_at)
+            SELECT rated_user_id,
+                   SUM(rating = 1), SUM(rating = 2), SUM(rating = 3), SUM(rating = 4), SUM(rating = 5),
+                   SUM(rating * EXP(-:decayPerSecond * TIMESTAMPDIFF(SECOND, created_at, NOW(3)))),
+                   SUM(EXP(-:decayPerSecond * TIMESTAMPDIFF(SECOND, created_at, NOW(3)))),
+                   NOW(3), NOW(3)
+            FROM user_ratings
+            WHERE rated_user_id IN (:userIds)
+            GROUP BY rated_user_id
+            ON DUPLICATE KEY UPDATE
+                star_1 = VALUES(star_1), star_2 = VALUES(star_2), star_3 = VALUES(star_3),
+                star_4 = VALUES(star_4), star_5 = VALUES(star_5),
+                recent_sum = VALUES(recent_sum), recent_weight = VALUES(recent_weight),
+                decayed_at = VALUES(decayed_at), recomputed_at = VALUES(recomputed_at)
+            """, nativeQuery = true)
+    int recomputeUsers(@Param("userIds") Collection<Long> userIds, @Param("decayPerSecond") double decayPerSecond);
+
+    // users in [fromId, toId] whose ratings were all deleted
+    @Modifying
+    @Query(value = """
+            UPDATE user_rating_stats s
+            SET star_1 = 0, star_2 = 0, star_3 = 0, star_4 = 0, star_5 = 0,
+                recent_sum = 0, recent_weight = 0, decayed_at = NOW(3), recomputed_at = NOW(3)
+            WHERE s.user_id BETWEEN :fromId AND :toId
+              AND NOT EXISTS (SELECT 1 FROM user_ratings r WHERE r.rated_user_id = s.user_id)
+            """, nativeQuery = true)
+    int clearWithoutRatings(@Param("fromId") long fromId, @Param("toId") long toId);
+}
@@ -1,27 +1,83 @@
 package com.rentmate.service.user.repository;
 
+import com.rentmate.service.user.domain.dto.export.ReportExportRow;
+import com.rentmate.service.user.domain.dto.report.ReportActionRow;
 import com.rentmate.service.user.domain.dto.report.ReportResponse;
+import com.rentmate.service.user.domain.dto.stats.AdminStatsCount;
 import com.rentmate.service.user.domain.entity.UserReport;
 import com.rentmate.service.user.domain.enumuration.ReportStatus;
 import com.rentmate.service.user.domain.enumuration.ReportType;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserReportRepository extends JpaRepository<UserReport, Long>, JpaSpecificationExecutor<UserReport> {
 
+    // locked so the sweep and the per-report escalation listener never escalate the same report twice
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
     @Query("SELECT ur FROM UserReport ur WHERE ur.submittedAt <= :dateTime AND ur.reportType = :reportType AND ur.status = :reportStatus")
     List<UserReport> findReportsSubbmitedBefore(LocalDateTime dateTime, ReportType reportType, ReportStatus reportStatus);
 
+    @Query("""
+            SELECT new com.rentmate.service.user.domain.dto.stats.AdminStatsCount(ur.status, ur.reportType, COUNT(ur))
+            FROM UserReport ur GROUP BY ur.status, ur.reportType
+            """)
+    List<AdminStatsCount> countByStatusAndType();
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ur FROM UserReport ur WHERE ur.id = :id")
+    Optional<UserReport> findByIdForUpdate(@Param("id") Long id);
+
+    // bulk actions: locked in id order so two admins working overlapping batches cannot deadlock
+    @Query(value = """
+            SELECT id, status, report_type AS reportType, reported_user_id AS reportedUserId,
+                   claimed_by AS claimedBy, lock_expires_at AS lockExpiresAt
+            FROM user_reports
+            WHERE id IN (:ids)
+            ORDER BY id
+            FOR UPDATE
+            """, nativeQuery = true)
+    List<ReportActionRow> findActionRowsForUpdate(@Param("ids") Collection<Long> ids);
+
+    // the status and lock conditions repeat the checks made on the locked rows
+    @Modifying
+    @Query(value = """
+            UPDATE user_reports
+            SET status = 'UNDER_REVIEW', claimed_by = :adminId, claimed_at = :now, lock_expires_at = :lockExpiresAt
+            WHERE id IN (:ids)
+              AND status IN ('PENDING', 'UNDER_REVIEW')
+              AND (claimed_by IS NULL OR claimed_by = :adminId OR lock_expires_at IS NULL OR lock_expires_at <= :now)
+            """, nativeQuery = true)
+    int claimAll(@Param("ids") Collection<Long> ids, @Param("adminId") Long adminId,
+                 @Param("now") LocalDateTime now, @Param("lockExpiresAt") LocalDateTime lockExpiresAt);
+
+    @Modifying
+    @Query(value = """
+            UPDATE user_reports
+            SET status = :status, resolved_at = :now, resolved_by = :adminId, resolution_notes = :notes,
+                claimed_by = NULL, claimed_at = NULL, lock_expires_at = NULL
+            WHERE id IN (:ids)
+              AND status IN ('PENDING', 'UNDER_REVIEW')
+              AND (claimed_by IS NULL OR claimed_by = :adminId OR lock_expires_at IS NULL OR lock_expires_at <= :now)
+            """, nativeQuery = true)
+    int resolveAll(@Param("ids") Collection<Long> ids, @Param("status") String status, @Param("adminId") Long adminId,
+                   @Param("notes") String notes, @Param("now") LocalDateTime now);
+
     @Query("SELECT ur FROM UserReport ur WHERE ur.reporter.id = :id")
     Page<UserReport> findByReporterId(Long id, Pageable pageable);
 
@@ -30,4 +86,19 @@ public interface UserReportRepository extends JpaRepository<UserReport, Long>, J
 
     @Query("SELECT r FROM UserReport r WHERE r.claimedBy IS NOT NULL AND r.lockExpiresAt < :now")
     List<UserReport> findExpiredLocks(LocalDateTime now);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+        SELECT new com.rentmate.service.user.domain.dto.export.ReportExportRow(
+            r.id, r.reporter.id, r.reportedUser.id, r.relatedRentalId, r.relatedDeliveryId, r.reportType,
+            r.status, r.details, r.damagePercentage, rb.id, r.resolvedAt, r.resolutionNotes,
+            r.submittedAt, r.updatedAt
+        )
+        FROM UserReport r
+        LEFT JOIN r.resolvedBy rb
+        WHERE (:status IS NULL OR r.status = :status)
+          AND (:type IS NULL OR r.reportType = :type)
+        ORDER BY r.id
+        """)
+    Stream<ReportExportRow> streamForExport(@Param("status") ReportStatus status, @Param("type") ReportType type);
 }
@@ -1,10 +1,15 @@
 package com.rentmate.service.user.repository;
 
+import com.rentmate.service.user.domain.dto.export.UserExportRow;
+import com.rentmate.service.user.domain.dto.stats.AdminStatsCount;
 import com.rentmate.service.user.domain.dto.user.PublicUserProfileResponse;
+import com.rentmate.service.user.domain.dto.user.UserRoleDto;
 import com.rentmate.service.user.domain.dto.user.UsernameDto;
 import com.rentmate.service.user.domain.entity.User;
 import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
-import jakarta.transaction.Transactional;
+import com.rentmate.service.user.domain.enumuration.UserRole;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
@@ -12,11 +17,13 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     @Query("SELECT u FROM User u WHERE u.email = ?1")
@@ -29,32 +36,177 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
     Optional<User> findNotDisabledByEmail(String email);
 
     @Modifying
-    @Query("UPDATE User u SET u.isDisabled = true, u.activityStatus =:status WHERE u.id = :id")
+    @Query("UPDATE User u SET u.isDisabled = true, u.activityStatus =:status, u.version = u.version + 1 WHERE u.id = :id")
     void deactivateUser(@Param("id") Long id,@Param("status") AccountActivityStatus status);
 
     @Modifying
-    @Query("UPDATE User u SET u.isIdentityVerified = true WHERE u.id = :id")
+    @Query("UPDATE User u SET u.activityStatus = :status, u.version = u.version + 1 WHERE u.id = :id")
+    int updateActivityStatus(@Param("id") Long id, @Param("status") AccountActivityStatus status);
+
+    @Query("""
+        SELECT new com.rentmate.service.user.domain.dto.user.UserRoleDto(u.id, u.role)
+        FROM User u WHERE u.id IN :ids AND u.activityStatus = :status
+    """)
+    List<UserRoleDto> findRolesByIdInAndStatus(@Param("ids") Collection<Long> ids,
+                                              @Param("status") AccountActivityStatus status);
+
+    // moves only the given users still in status `from`, so it can be handed a whole batch
+    @Modifying
+    @Query("""
+        UPDATE User u SET u.activityStatus = :to, u.version = u.version + 1
+        WHERE u.id IN :ids AND u.activityStatus = :from
+    """)
+    int updateActivityStatuses(@Param("ids") Collection<Long> ids, @Param("from") AccountActivityStatus from,
+                               @Param("to") AccountActivityStatus to);
+
+    @Modifying
+    @Query("UPDATE User u SET u.isIdentityVerified = true, u.version = u.version + 1 WHERE u.id = :id")
     void verifyUser(@Param("id") Long id);
 
     @Modifying
-    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    @Query("UPDATE User u SET u.isIdentityVerified = true, u.version = u.version + 1 WHERE u.id IN :ids")
+    int verifyUsers(@Param("ids") Collection<Long> ids);
+
+    // for changes that live outside the users row but are covered by its version, e.g. a rating's feedback
+    @Modifying
+    @Query("UPDATE User u SET u.version = u.version + 1 WHERE u.id = :id")
+    int bumpVersion(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password, u.version = u.version + 1 WHERE u.id = :id")
     int updatePassword(@Param("id") Long id, @Param("password") String password);
 
+    // average and count straight from the maintained histogram in user_rating_stats, no scan of user_ratings
+    @Modifying
+    @Query(value = """
+        UPDATE users u
+        JOIN user_rating_stats s ON s.user_id = u.id
+        SET u.total_ratings = s.star_1 + s.star_2 + s.star_3 + s.star_4 + s.star_5,
+            u.average_rating = COALESCE((s.star_1 + 2 * s.star_2 + 3 * s.star_3 + 4 * s.star_4 + 5 * s.star_5)
+                / NULLIF(s.star_1 + s.star_2 + s.star_3 + s.star_4 + s.star_5, 0), 0),
+            u.version = u.version + 1
+        WHERE u.id = :userId
+    """, nativeQuery = true)
+    void updateAverageRating(@Param("userId") Long userId);
+
+    // updateAverageRating for many users in one statement
+    @Modifying
+    @Query(value = """
+        UPDATE users u
+        JOIN user_rating_stats s ON s.user_id = u.id
+        SET u.total_ratings = s.star_1 + s.star_2 + s.star_3 + s.star_4 + s.star_5,
+            u.average_rating = COALESCE((s.star_1 + 2 * s.star_2 + 3 * s.star_3 + 4 * s.star_4 + 5 * s.star_5)
+                / NULLIF(s.star_1 + s.star_2 + s.star_3 + s.star_4 + s.star_5, 0), 0),
+            u.version = u.version + 1
+        WHERE u.id IN (:userIds)
+    """, nativeQuery = true)
+    int updateAverageRatings(@Param("userIds") Collection<Long> userIds);
+
+    // same as updateAverageRating for a range of users, touching (and re-versioning) only rows that drifted
     @Modifying
+    @Query(value = """
+        UPDATE users u
+        JOIN user_rating_stats s ON s.user_id = u.id
+        SET u.total_ratings = s.star_1 + s.star_2 + s.star_3 + s.star_4 + s.star_5,
+            u.average_rating = COALESCE((s.star_1 + 2 * s.star_2 + 3 * s.star_3 + 4 * s.star_4 + 5 * s.star_5)
+                / NULLIF(s.star_1 + s.star_2 + s.star_3 + s.star_4 + s.star_5, 0), 0),
+            u.version = u.version + 1
+        WHERE u.id BETWEEN :fromId AND :toId
+          AND NOT (u.total_ratings <=> s.star_1 + s.star_2 + s.star_3 + s.star_4 + s.star_5
+               AND u.average_rating <=> ROUND(COALESCE((s.star_1 + 2 * s.star_2 + 3 * s.star_3 + 4 * s.star_4
+                   + 5 * s.star_5) / NULLIF(s.star_1 + s.star_2 + s.star_3 + s.star_4 + s.star_5, 0), 0), 2))
+    """, nativeQuery = true)
+    int syncRatingAggregates(@Param("fromId") long fromId, @Param("toId") long toId);
+
+    /*
+     * Trust score out of 100: up to 45 for the rating average (pulled towards 3 stars while there are few ratings),
+     * 15 for the number of ratings (capped at 50), 25 for a verified identity and 15 for an active account, minus
+     * 15 per upheld report and 5 per open one. Suspended and disabled accounts score 0.
+     * TRUST_SCORES selects id, restricted and trust_score of the users rows v matching the WHERE clause appended to
+     * it; APPLY_TRUST_SCORES closes it as derived table x and writes score and tier, both computed from x only, to
+     * the rows where either changed. MySQL materializes x since it reads users, so only those rows are written and
+     * re-versioned.
+     */
+    String TRUST_SCORES = """
+        UPDATE users u
+        JOIN (
+            SELECT v.id,
+                   v.is_disabled OR v.account_activity_status = 'SUSPENDED_BY_ADMIN' AS restricted,
+                   CASE
+                       WHEN v.is_disabled OR v.account_activity_status = 'SUSPENDED_BY_ADMIN' THEN 0
+                       ELSE GREATEST(0, LEAST(100, ROUND(
+                           45 * ((v.average_rating * v.total_ratings + 15) / (v.total_ratings + 5) - 1) / 4
+                           + 15 * LEAST(v.total_ratings, 50) / 50
+                           + 25 * v.is_identity_verified
+                           + CASE v.account_activity_status WHEN 'ACTIVE' THEN 15 WHEN 'INACTIVE' THEN 5 ELSE 0 END
+                           - 15 * COALESCE(r.upheld_reports, 0)
+                           - 5 * COALESCE(r.open_reports, 0))))
+                   END AS trust_score
+            FROM users v
+            LEFT JOIN LATERAL (
+                SELECT SUM(status = 'RESOLVED') AS upheld_reports,
+                       SUM(status IN ('PENDING', 'UNDER_REVIEW')) AS open_reports
+                FROM user_reports
+                WHERE reported_user_id = v.id
+            ) r ON TRUE
+        """;
+
+    String TRUST_TIER = "CASE WHEN x.restricted THEN 'RESTRICTED' WHEN x.trust_score >= 70 THEN 'HIGH'"
+            + " WHEN x.trust_score >= 40 THEN 'MEDIUM' ELSE 'LOW' END";
+
+    String APPLY_TRUST_SCORES = "\n) x ON x.id = u.id\n"
+            + "SET u.trust_score = x.trust_score, u.trust_tier = " + TRUST_TIER + ", u.version = u.version + 1\n"
+            + "WHERE NOT (u.trust_score <=> x.trust_score AND u.trust_tier <=> " + TRUST_TIER + ")";
+
+    String REFRESH_TRUST_SCORES_BETWEEN = TRUST_SCORES + "WHERE v.id BETWEEN :fromId AND :toId" + APPLY_TRUST_SCORES;
+
+    @Modifying
+    @Query(value = TRUST_SCORES + "WHERE v.id IN (:userIds)" + APPLY_TRUST_SCORES, nativeQuery = true)
+    int refreshTrustScores(@Param("userIds") Collection<Long> userIds);
+
+    // refreshTrustScores for a range of users; rows already up to date are left alone
+    @Modifying
+    @Query(value = REFRESH_TRUST_SCORES_BETWEEN, nativeQuery = true)
+    int refreshTrustScoresBetween(@Param("fromId") long fromId, @Param("toId") long toId);
+
     @Query("""
-        UPDATE User u
-        SET u.averageRating = (
-            SELECT COALESCE(AVG(r.rating), 0)
-            FROM UserRating r
-            WHERE r.ratedUser.id = :userId
-        ), u.totalRating = (
-                SELECT COUNT(r)
-                FROM UserRating r
-                WHERE r.ratedUser.id = :userId
+        SELECT new com.rentmate.service.user.domain.dto.stats.AdminStatsCount(u.activityStatus, u.role, COUNT(u))
+        FROM User u GROUP BY u.activityStatus, u.role
+    """)
+    List<AdminStatsCount> countByStatusAndRole();
+
+    @Query("SELECT MAX(u.id) FROM User u")
+    Optional<Long> findMaxId();
+
+    // version stamp for conditional GETs, so a 304 does not load or serialize the user
+    @Query("SELECT u.version FROM User u WHERE u.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT u.email FROM User u WHERE u.email IN :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
+    @Query("SELECT u.phoneNumber FROM User u WHERE u.phoneNumber IN :phoneNumbers")
+    List<String> findExistingPhoneNumbers(@Param("phoneNumbers") Collection<String> phoneNumbers);
+
+    // Integer.MIN_VALUE makes MySQL Connector/J stream rows one at a time instead of buffering the result set
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("""
+        SELECT new com.rentmate.service.user.domain.dto.export.UserExportRow(
+            u.id, u.firstName, u.lastName, u.email, u.phoneNumber, u.role, u.activityStatus,
+            u.isIdentityVerified, u.isDisabled, u.averageRating, u.totalRating, u.createdAt
         )
-        WHERE u.id = :userId
+        FROM User u
+        WHERE (:role IS NULL OR u.role = :role)
+          AND (:status IS NULL OR u.activityStatus = :status)
+          AND (:isVerified IS NULL OR u.isIdentityVerified = :isVerified)
+          AND (:search IS NULL OR LOWER(u.firstName) LIKE :search OR LOWER(u.lastName) LIKE :search
+               OR LOWER(u.email) LIKE :search OR u.phoneNumber LIKE :search)
+        ORDER BY u.id
     """)
-    void updateAverageRating(@Param("userId") Long userId);
+    Stream<UserExportRow> streamForExport(@Param("role") UserRole role,
+                                          @Param("status") AccountActivityStatus status,
+                                          @Param("isVerified") Boolean isVerified,
+                                          @Param("search") String search);
 
     <T> Optional<T> findById(Long id, Class<T> type);
 
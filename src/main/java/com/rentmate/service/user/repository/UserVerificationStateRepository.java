@@ -0,0 +1,45 @@
+package com.rentmate.service.user.repository;
+
+import com.rentmate.service.user.domain.entity.UserVerificationState;
+import com.rentmate.service.user.domain.enumuration.VerificationRequestStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+public interface UserVerificationStateRepository extends JpaRepository<UserVerificationState, Long> {
+    // returns 0 when the user already has a state row; a concurrent insert blocks on the key until it commits
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_verification_states (user_id, status) VALUES (:userId, :status)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("status") String status);
+
+    @Modifying
+    @Query("""
+            UPDATE UserVerificationState s SET s.status = :status, s.canResubmitAfter = NULL
+            WHERE s.userId = :userId
+            AND s.status = com.rentmate.service.user.domain.enumuration.VerificationRequestStatus.REJECTED
+            AND (s.canResubmitAfter IS NULL OR s.canResubmitAfter <= :now)
+            """)
+    int claimAfterRejection(@Param("userId") Long userId, @Param("status") VerificationRequestStatus status,
+                            @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            UPDATE UserVerificationState s SET s.status = :status, s.canResubmitAfter = :canResubmitAfter
+            WHERE s.userId = :userId
+            """)
+    int updateState(@Param("userId") Long userId, @Param("status") VerificationRequestStatus status,
+                    @Param("canResubmitAfter") LocalDateTime canResubmitAfter);
+
+    @Modifying
+    @Query("""
+            UPDATE UserVerificationState s SET s.status = :status, s.canResubmitAfter = :canResubmitAfter
+            WHERE s.userId IN :userIds
+            """)
+    int updateStates(@Param("userIds") Collection<Long> userIds, @Param("status") VerificationRequestStatus status,
+                     @Param("canResubmitAfter") LocalDateTime canResubmitAfter);
+}
@@ -1,31 +1,91 @@
 package com.rentmate.service.user.repository;
 
+import com.rentmate.service.user.domain.dto.stats.AdminStatsCount;
+import com.rentmate.service.user.domain.dto.verification.VerificationResponse;
+import com.rentmate.service.user.domain.dto.verification.VerificationReviewRow;
 import com.rentmate.service.user.domain.entity.VerificationRequest;
+import com.rentmate.service.user.domain.enumuration.VerificationRequestStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface VerificationRequestRepository extends JpaRepository<VerificationRequest, Long>, JpaSpecificationExecutor<VerificationRequest> {
     @Query("""
-            SELECT true FROM VerificationRequest vr
-            WHERE (vr.status = 'PENDING' OR vr.status = 'APPROVED')
-            AND vr.user.id = ?1
+            SELECT vr FROM VerificationRequest vr JOIN FETCH vr.user LEFT JOIN FETCH vr.reviewedBy
+            WHERE vr.id = ?1
             """)
-    Optional<Boolean> anyPendingOrApprovedRequestForUser(Long userId);
+    Optional<VerificationRequest> findByIdWithDetails(Long id);
 
     @Query("""
-            SELECT MAX(vr.reviewedAt) FROM VerificationRequest vr
-            WHERE vr.status = com.rentmate.service.user.domain.enumuration.VerificationRequestStatus.REJECTED
-            AND vr.user.id = ?1
+            SELECT new com.rentmate.service.user.domain.dto.stats.AdminStatsCount(vr.status, COUNT(vr))
+            FROM VerificationRequest vr GROUP BY vr.status
             """)
-    Optional<LocalDateTime> findLastRejectionTimeForUser(Long userId);
+    List<AdminStatsCount> countByStatus();
+
+    // Admin queue pages are read in two steps: the ids of the page come straight from the
+    // (status, created_at/reviewed_at, id) indexes, then only those rows are projected.
+    @Query(value = "SELECT vr.id FROM VerificationRequest vr WHERE vr.status = :status",
+            countQuery = "SELECT COUNT(vr) FROM VerificationRequest vr WHERE vr.status = :status")
+    Page<Long> findIdsByStatus(@Param("status") VerificationRequestStatus status, Pageable pageable);
+
+    @Query(value = "SELECT vr.id FROM VerificationRequest vr",
+            countQuery = "SELECT COUNT(vr) FROM VerificationRequest vr")
+    Page<Long> findIds(Pageable pageable);
 
     @Query("""
-            SELECT vr FROM VerificationRequest vr JOIN FETCH vr.user LEFT JOIN FETCH vr.reviewedBy
-            WHERE vr.id = ?1
+            SELECT new com.rentmate.service.user.domain.dto.verification.VerificationResponse(
+                vr.id, vr.user.id, vr.idFrontImageUrl, vr.idBackImageUrl, vr.idNumber, vr.status, vr.createdAt
+            )
+            FROM VerificationRequest vr
+            WHERE vr.id IN :ids
             """)
-    Optional<VerificationRequest> findByIdWithDetails(Long id);
+    List<VerificationResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("""
+            SELECT vr FROM VerificationRequest vr
+            WHERE vr.status = com.rentmate.service.user.domain.enumuration.VerificationRequestStatus.VALIDATING
+            AND vr.submittedAt < ?1
+            """)
+    List<VerificationRequest> findStaleValidations(LocalDateTime submittedBefore);
+
+    // bulk review: only the requests are locked, in id order; the join just brings the email along
+    @Query(value = """
+            SELECT vr.id, vr.user_id AS userId, u.email, vr.status, vr.created_at AS createdAt
+            FROM verification_requests vr
+            JOIN users u ON u.id = vr.user_id
+            WHERE vr.id IN (:ids)
+            ORDER BY vr.id
+            FOR UPDATE OF vr
+            """, nativeQuery = true)
+    List<VerificationReviewRow> findReviewRowsForUpdate(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = """
+            UPDATE verification_requests
+            SET status = :status, reviewed_by = :reviewerId, reviewed_at = :reviewedAt,
+                rejection_reason = :reason, can_resubmit_after = :canResubmitAfter
+            WHERE id IN (:ids) AND status = 'PENDING'
+            """, nativeQuery = true)
+    int reviewAll(@Param("ids") Collection<Long> ids, @Param("status") String status,
+                  @Param("reviewerId") Long reviewerId, @Param("reviewedAt") LocalDateTime reviewedAt,
+                  @Param("reason") String reason, @Param("canResubmitAfter") LocalDateTime canResubmitAfter);
+
+    @Modifying @Transactional
+    @Query("""
+            UPDATE VerificationRequest vr SET vr.status = :status, vr.rejectionReason = :reason
+            WHERE vr.id = :id
+            AND vr.status = com.rentmate.service.user.domain.enumuration.VerificationRequestStatus.VALIDATING
+            """)
+    int completeValidation(@Param("id") Long id, @Param("status") VerificationRequestStatus status,
+                           @Param("reason") String reason);
 }
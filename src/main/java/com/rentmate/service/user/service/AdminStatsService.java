@@ -0,0 +1,36 @@
+package com.rentmate.service.user.service;
+
+import com.rentmate.service.user.domain.dto.event.AdminStatsChangedEvent;
+import com.rentmate.service.user.domain.dto.stats.AdminStatsResponse;
+import com.rentmate.service.user.domain.entity.User;
+import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
+import com.rentmate.service.user.domain.enumuration.ReportStatus;
+import com.rentmate.service.user.domain.enumuration.ReportType;
+import com.rentmate.service.user.domain.enumuration.UserRole;
+import com.rentmate.service.user.domain.enumuration.VerificationRequestStatus;
+
+import java.util.Collection;
+
+/**
+ * In-memory counters behind the admin dashboard. State transitions report themselves here; the change is counted
+ * on this instance and broadcast to the others once the surrounding transaction commits (right away outside one).
+ * A {@code null} previous state means the row was created.
+ */
+public interface AdminStatsService {
+    void reportChanged(ReportType type, ReportStatus from, ReportStatus to);
+    void verificationChanged(VerificationRequestStatus from, VerificationRequestStatus to);
+    void userChanged(UserRole fromRole, AccountActivityStatus fromStatus, UserRole toRole, AccountActivityStatus toStatus);
+    void usersCreated(Collection<User> users);
+
+    /**
+     * Applies changes committed on another instance; ignores this instance's own.
+     */
+    void apply(AdminStatsChangedEvent event);
+
+    AdminStatsResponse getStats();
+
+    /**
+     * Corrects the counters to fresh counts from the database, keeping changes applied while it runs.
+     */
+    void reseed();
+}
@@ -1,7 +1,17 @@
 package com.rentmate.service.user.service;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 public interface CloudinaryService {
-    Map<String, Object> generateSignedParams(String publicId);
+    /**
+     * Checks that the image behind a Cloudinary delivery URL exists. Positive answers are cached.
+     */
+    boolean resourceExists(String imageUrl);
+
+    /**
+     * Checks all images in parallel. Completes with {@code false} if any image is missing and
+     * exceptionally with a {@link java.util.concurrent.TimeoutException} when Cloudinary is too slow to answer.
+     */
+    CompletableFuture<Boolean> resourcesExist(String... imageUrls);
 }
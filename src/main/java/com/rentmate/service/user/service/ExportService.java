@@ -0,0 +1,18 @@
+package com.rentmate.service.user.service;
+
+import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
+import com.rentmate.service.user.domain.enumuration.ReportStatus;
+import com.rentmate.service.user.domain.enumuration.ReportType;
+import com.rentmate.service.user.domain.enumuration.UserRole;
+
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+
+public interface ExportService {
+    void exportUsers(UserRole role, AccountActivityStatus status, Boolean isVerified, String search,
+                     OutputStream output);
+
+    void exportRatings(Long ratedUserId, LocalDateTime since, OutputStream output);
+
+    void exportReports(ReportStatus status, ReportType type, OutputStream output);
+}
@@ -0,0 +1,22 @@
+package com.rentmate.service.user.service;
+
+import com.rentmate.service.user.domain.dto.job.JobLeaseResponse;
+
+import java.util.List;
+
+public interface JobLeaseService {
+    /**
+     * Runs the job if this node can take the job's lease, renewing it while the job runs.
+     * Returns false without running when another node holds it.
+     */
+    boolean runExclusively(String jobName, Runnable job);
+
+    /**
+     * Called inside the job's transaction before it commits: fails with a {@code LeaseLostException} if this node's
+     * lease is no longer current, and otherwise keeps the next holder out until the transaction ends.
+     * Does nothing on threads that are not running a leased job.
+     */
+    void fence();
+
+    List<JobLeaseResponse> getLeases();
+}
@@ -0,0 +1,36 @@
+package com.rentmate.service.user.service;
+
+import java.time.LocalDateTime;
+
+public interface RatingAggregateService {
+    /**
+     * Queues a change to a user's rating aggregates; it is applied by the next {@link #flush()} after the current
+     * transaction commits, together with every other change queued for the same user.
+     * Stars are 1-5, or 0 when no star is added or removed. The sum and weight deltas count as of {@code asOf}.
+     */
+    void recordChange(Long ratedUserId, int addedStars, int removedStars,
+                      double sumDelta, double weightDelta, LocalDateTime asOf);
+
+    /**
+     * Same as {@link #recordChange} but applied in the current transaction.
+     */
+    void applyChange(Long ratedUserId, int addedStars, int removedStars,
+                     double sumDelta, double weightDelta, LocalDateTime asOf);
+
+    /**
+     * Writes the queued changes to user_rating_stats and users. Returns the number of users updated.
+     */
+    int flush();
+
+    /**
+     * Recomputes the aggregates of users rated on instances that stopped without flushing.
+     * Returns the number of abandoned instances recovered.
+     */
+    int recoverAbandonedChanges();
+
+    /**
+     * Recomputes every user's rating histogram from user_ratings and fixes drifted averages on users.
+     * Returns the number of users whose average or count had to be corrected.
+     */
+    int reconcile();
+}
@@ -2,12 +2,27 @@ package com.rentmate.service.user.service;
 
 import com.rentmate.service.user.domain.dto.PagedResponse;
 import com.rentmate.service.user.domain.dto.rating.CreateRatingRequest;
+import com.rentmate.service.user.domain.dto.rating.RatingDistributionResponse;
 import com.rentmate.service.user.domain.dto.rating.RatingResponse;
 import com.rentmate.service.user.domain.dto.rating.UpdateRatingRequest;
 
 public interface RatingService {
     RatingResponse createRating(Long raterId, CreateRatingRequest request);
     PagedResponse<RatingResponse> getRatingsByUserId(Long userId, Integer page, Integer limit);
+
+    /**
+     * Version stamp of the user's ratings: it changes in the same transaction as any rating of the user is created,
+     * updated or deleted.
+     */
+    String getRatingsVersion(Long userId);
+
+    RatingDistributionResponse getRatingDistribution(Long userId);
+
+    /**
+     * Recomputes every user's rating histogram from user_ratings and fixes drifted averages on users.
+     * Returns the number of users whose average or count had to be corrected.
+     */
+    int reconcileRatingStats();
     RatingResponse updateRating(UpdateRatingRequest request);
     void deleteRating(Long ratingId);
 }
\ No newline at end of file
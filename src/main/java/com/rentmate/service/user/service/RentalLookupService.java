@@ -0,0 +1,10 @@
+package com.rentmate.service.user.service;
+
+import com.rentmate.service.user.domain.dto.rental.RentalSummary;
+
+public interface RentalLookupService {
+    /**
+     * @throws com.rentmate.service.user.service.shared.exception.NotFoundException if the rental does not exist
+     */
+    RentalSummary getRental(Long rentalId);
+}
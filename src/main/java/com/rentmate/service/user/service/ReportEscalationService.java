@@ -1,5 +1,19 @@
 package com.rentmate.service.user.service;
 
+import com.rentmate.service.user.domain.entity.UserReport;
+
 public interface ReportEscalationService {
     int escalateOverdueReportsToThieving();
+
+    /**
+     * Queues the escalation of a newly saved OVERDUE report for the moment its escalation period ends.
+     */
+    void scheduleEscalation(UserReport report);
+
+    /**
+     * Escalates the report if it is still a PENDING OVERDUE report past its escalation period.
+     * Resolved or dismissed reports are left alone, which is what cancels a queued escalation.
+     * Reports under review or not due yet are looked at again after the recheck interval.
+     */
+    void escalateIfDue(Long reportId);
 }
@@ -1,6 +1,8 @@
 package com.rentmate.service.user.service;
 
+import com.rentmate.service.user.domain.dto.BulkActionResponse;
 import com.rentmate.service.user.domain.dto.PagedResponse;
+import com.rentmate.service.user.domain.dto.SignedUploadParams;
 import com.rentmate.service.user.domain.dto.report.ReportDetailsResponse;
 import com.rentmate.service.user.domain.dto.report.ReportListResponse;
 import com.rentmate.service.user.domain.dto.report.ReportResponse;
@@ -10,6 +12,7 @@ import com.rentmate.service.user.domain.enumuration.ReportStatus;
 import com.rentmate.service.user.domain.enumuration.ReportType;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public interface ReportService {
     ReportResponse createReport(CreateReportRequest request);
@@ -21,4 +24,16 @@ public interface ReportService {
     void releaseReport(Long id, UserPrincipal loggedInUser);
     void resolveReport(Long id,String message, UserPrincipal loggedInUser, boolean dismissed);
     LocalDateTime refreshLock(Long reportId, UserPrincipal loggedInUser);
+
+    /**
+     * claimReport for many reports at once; reports that cannot be claimed are reported per id instead of failing
+     * the whole call.
+     */
+    BulkActionResponse claimReports(List<Long> ids, UserPrincipal loggedInUser);
+
+    /**
+     * resolveReport for many reports at once, with the same per-id reporting as {@link #claimReports}.
+     */
+    BulkActionResponse resolveReports(List<Long> ids, String message, UserPrincipal loggedInUser, boolean dismissed);
+    List<SignedUploadParams> getEvidenceUploadUrls(int count);
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.rentmate.service.user.service;
+
+import java.util.Collection;
+
+public interface TrustScoreService {
+    /**
+     * Recomputes the trust score and tier of the user from its current ratings, verification, reports and status.
+     * Called in the transaction that changed one of them, after the change has been written.
+     */
+    void refresh(Long userId);
+    void refresh(Collection<Long> userIds);
+
+    /**
+     * Recomputes the trust scores of the users with ids in [fromId, toId]. Returns the number of users whose score
+     * or tier changed.
+     */
+    int refreshBetween(long fromId, long toId);
+}
@@ -2,12 +2,21 @@ package com.rentmate.service.user.service;
 
 import com.rentmate.service.user.domain.dto.event.*;
 
+import java.util.List;
+
 
 public interface UserEventPublisher {
     void publishUserRegistered(UserRegisteredEvent event);
+    void publishUsersRegistered(List<UserRegisteredEvent> events);
     void publishPasswordResetRequestedEvent(PasswordResetRequestedEvent event);
     void publishProfileDisabledEvent(ProfileDisabledEvent event);
     void publishIdentityVerificationApprovedEvent(IdentityVerificationApprovedEvent event);
     void publishIdentityVerificationRejectedEvent(IdentityVerificationRejectedEvent event);
+    void publishIdentityVerificationsApproved(List<IdentityVerificationApprovedEvent> events);
+    void publishIdentityVerificationsRejected(List<IdentityVerificationRejectedEvent> events);
     void publishReportCreatedEvent(ReportCreatedEvent report);
+    void publishAccessTokensRevokedEvent(AccessTokensRevokedEvent event);
+    void publishAdminStatsChangedEvent(AdminStatsChangedEvent event);
+    void scheduleReportEscalation(ReportEscalationDueEvent event, long delayMs, long escalationPeriodHours);
+    void scheduleReportEscalationRecheck(ReportEscalationDueEvent event);
 }
@@ -0,0 +1,13 @@
+package com.rentmate.service.user.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+public interface UserImportService {
+    /**
+     * Imports users from a CSV (with header row) or NDJSON stream and writes one
+     * {@link com.rentmate.service.user.domain.dto.user.UserImportResult} per input row to {@code output} as NDJSON.
+     */
+    void importUsers(InputStream input, OutputStream output) throws IOException;
+}
@@ -26,6 +26,11 @@ public interface UserService {
 
     UserProfileResponse getUserProfile(Long userId);
 
+    /**
+     * Current row version of the user, changed by every profile, status, role or rating update.
+     */
+    long getUserVersion(Long userId);
+
     static Long getAuthenticatedUserId() {
         if (SecurityContextHolder.getContext().getAuthentication() == null) {
             throw new NotFoundException("No authentication found");
@@ -1,9 +1,11 @@
 package com.rentmate.service.user.service;
 
+import com.rentmate.service.user.domain.dto.BulkActionResponse;
 import com.rentmate.service.user.domain.dto.verification.*;
 import com.rentmate.service.user.domain.enumuration.VerificationRequestStatus;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -14,7 +16,15 @@ public interface VerificationService {
     VerificationDetailsResponse getVerification(Long id);
     VerificationResponse approveVerification(Long id);
     VerificationResponse rejectVerification(Long id, String reason);
+
+    /**
+     * Approves or rejects many PENDING requests at once; requests that cannot be reviewed are reported per id
+     * instead of failing the whole call.
+     */
+    BulkActionResponse approveVerifications(List<Long> ids);
+    BulkActionResponse rejectVerifications(List<Long> ids, String reason);
     VerificationListResponse getAll(Integer page,Integer limit, VerificationRequestStatus status,
                                     String sortBy, String sortOrder);
     Iterable<VerificationResponse> getCurrentUserVerifications();
+    void retryStaleImageValidations();
 }
@@ -0,0 +1,207 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.domain.dto.event.AdminStatsChangedEvent;
+import com.rentmate.service.user.domain.dto.event.AdminStatsChangedEvent.Change;
+import com.rentmate.service.user.domain.dto.stats.AdminStatsCount;
+import com.rentmate.service.user.domain.dto.stats.AdminStatsResponse;
+import com.rentmate.service.user.domain.entity.User;
+import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
+import com.rentmate.service.user.domain.enumuration.ReportStatus;
+import com.rentmate.service.user.domain.enumuration.ReportType;
+import com.rentmate.service.user.domain.enumuration.UserRole;
+import com.rentmate.service.user.domain.enumuration.VerificationRequestStatus;
+import com.rentmate.service.user.repository.UserReportRepository;
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.repository.VerificationRequestRepository;
+import com.rentmate.service.user.service.AdminStatsService;
+import com.rentmate.service.user.service.UserEventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/*
+ * Counts are kept per (entity, status, type or role). Every instance applies its own changes directly and the
+ * other instances' through user.admin-stats.changed. A reseed adds the difference between each entity's fresh
+ * counts and the counters read just before its query, so changes applied while it runs are kept. A lost message,
+ * or a change committed just before a count but applied just after it, leaves the counts off until the next
+ * reseed, which the reconciliation scheduler runs every few minutes.
+ */
+@Service @RequiredArgsConstructor @Slf4j
+public class AdminStatsServiceImpl implements AdminStatsService {
+    private static final String REPORTS = "reports";
+    private static final String VERIFICATIONS = "verifications";
+    private static final String USERS = "users";
+
+    private final UserReportRepository reportRepository;
+    private final VerificationRequestRepository verificationRepository;
+    private final UserRepository userRepository;
+    private final UserEventPublisher eventPublisher;
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<Key, AtomicLong> counters = new ConcurrentHashMap<>();
+    private volatile LocalDateTime reconciledAt;
+
+    private record Key(String entity, String status, String qualifier) {
+    }
+
+    @Override
+    public void reportChanged(ReportType type, ReportStatus from, ReportStatus to) {
+        move(REPORTS, from == null ? null : from.name(), to == null ? null : to.name(), type.name(), type.name());
+    }
+
+    @Override
+    public void verificationChanged(VerificationRequestStatus from, VerificationRequestStatus to) {
+        move(VERIFICATIONS, from == null ? null : from.name(), to == null ? null : to.name(), "", "");
+    }
+
+    @Override
+    public void userChanged(UserRole fromRole, AccountActivityStatus fromStatus,
+                            UserRole toRole, AccountActivityStatus toStatus) {
+        move(USERS, fromStatus == null ? null : fromStatus.name(), toStatus == null ? null : toStatus.name(),
+                fromRole == null ? null : fromRole.name(), toRole == null ? null : toRole.name());
+    }
+
+    @Override
+    public void usersCreated(Collection<User> users) {
+        Map<Key, Long> created = new HashMap<>();
+        for (User user : users)
+            created.merge(new Key(USERS, user.getActivityStatus().name(), user.getRole().name()), 1L, Long::sum);
+
+        List<Change> changes = new ArrayList<>();
+        created.forEach((key, count) -> changes.add(new Change(key.entity(), key.status(), key.qualifier(), count)));
+        record(changes);
+    }
+
+    @Override
+    public void apply(AdminStatsChangedEvent event) {
+        if (instanceId.equals(event.instanceId())) return;
+        applyLocally(event.changes());
+    }
+
+    @Override
+    public AdminStatsResponse getStats() {
+        Map<String, Map<String, Long>> reports = new LinkedHashMap<>();
+        for (ReportStatus status : ReportStatus.values()) {
+            Map<String, Long> byType = new LinkedHashMap<>();
+            for (ReportType type : ReportType.values())
+                byType.put(type.name(), count(REPORTS, status.name(), type.name()));
+            reports.put(status.name(), byType);
+        }
+
+        Map<String, Long> verifications = new LinkedHashMap<>();
+        for (VerificationRequestStatus status : VerificationRequestStatus.values())
+            verifications.put(status.name(), count(VERIFICATIONS, status.name(), ""));
+
+        Map<String, Map<String, Long>> users = new LinkedHashMap<>();
+        for (AccountActivityStatus status : AccountActivityStatus.values()) {
+            Map<String, Long> byRole = new LinkedHashMap<>();
+            for (UserRole role : UserRole.values())
+                byRole.put(role.name(), count(USERS, status.name(), role.name()));
+            users.put(status.name(), byRole);
+        }
+
+        return new AdminStatsResponse(reports, verifications, users, reconciledAt);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void reseed() {
+        boolean seeded = reconciledAt != null;
+        long drifted = correct(REPORTS, reportRepository::countByStatusAndType)
+                + correct(VERIFICATIONS, verificationRepository::countByStatus)
+                + correct(USERS, userRepository::countByStatusAndRole);
+        reconciledAt = LocalDateTime.now();
+
+        if (drifted > 0 && seeded)
+            log.info("Reseeded admin counters, {} of {} had drifted", drifted, counters.size());
+    }
+
+    // adds the difference between the entity's counts and its counters as they were when the query started
+    private long correct(String entity, Supplier<List<AdminStatsCount>> query) {
+        Map<Key, Long> expected = new HashMap<>();
+        counters.forEach((key, value) -> {
+            if (key.entity().equals(entity)) expected.put(key, value.get());
+        });
+        Map<Key, Long> actual = new HashMap<>();
+        for (AdminStatsCount row : query.get())
+            actual.put(new Key(entity, row.status(), row.qualifier()), row.count());
+
+        Set<Key> keys = new HashSet<>(expected.keySet());
+        keys.addAll(actual.keySet());
+        long drifted = 0;
+        for (Key key : keys) {
+            long delta = actual.getOrDefault(key, 0L) - expected.getOrDefault(key, 0L);
+            if (delta == 0) continue;
+            counters.computeIfAbsent(key, k -> new AtomicLong()).addAndGet(delta);
+            drifted++;
+        }
+        return drifted;
+    }
+
+    private void move(String entity, String fromStatus, String toStatus, String fromQualifier, String toQualifier) {
+        if (Objects.equals(fromStatus, toStatus) && Objects.equals(fromQualifier, toQualifier)) return;
+
+        List<Change> changes = new ArrayList<>(2);
+        if (fromStatus != null) changes.add(new Change(entity, fromStatus, fromQualifier, -1));
+        if (toStatus != null) changes.add(new Change(entity, toStatus, toQualifier, 1));
+        record(changes);
+    }
+
+    /*
+     * Inside a transaction the changes are collected and counted once, after commit, so a rollback never
+     * touches the counters and the whole transaction goes out as one message.
+     */
+    @SuppressWarnings("unchecked")
+    private void record(List<Change> changes) {
+        if (changes.isEmpty()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            commit(changes);
+            return;
+        }
+
+        List<Change> pending = (List<Change>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Change> collected = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, collected);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AdminStatsServiceImpl.this);
+                    if (status == STATUS_COMMITTED) commit(collected);
+                }
+            });
+            pending = collected;
+        }
+        pending.addAll(changes);
+    }
+
+    private void commit(List<Change> changes) {
+        applyLocally(changes);
+        try {
+            eventPublisher.publishAdminStatsChangedEvent(new AdminStatsChangedEvent(instanceId, changes));
+        } catch (Exception e) {
+            // other instances catch up at their next reseed
+            log.warn("Could not broadcast admin counter changes: {}", e.toString());
+        }
+    }
+
+    private void applyLocally(List<Change> changes) {
+        for (Change change : changes)
+            counters.computeIfAbsent(new Key(change.entity(), change.status(), change.qualifier()),
+                    key -> new AtomicLong()).addAndGet(change.delta());
+    }
+
+    private long count(String entity, String status, String qualifier) {
+        AtomicLong value = counters.get(new Key(entity, status, qualifier));
+        return value == null ? 0 : value.get();
+    }
+}
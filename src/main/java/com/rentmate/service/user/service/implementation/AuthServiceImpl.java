@@ -11,6 +11,7 @@ import com.rentmate.service.user.repository.PasswordResetTokenRepository;
 import com.rentmate.service.user.repository.UserRepository;
 import com.rentmate.service.user.repository.UserSessionRepository;
 import com.rentmate.service.user.service.shared.util.JwtUtils;
+import com.rentmate.service.user.service.shared.util.AccessTokenRevocations;
 import com.rentmate.service.user.service.AuthService;
 import com.rentmate.service.user.service.UserEventPublisher;
 import com.rentmate.service.user.service.shared.exception.NotFoundException;
@@ -31,6 +32,7 @@ import java.time.LocalDateTime;
 public class AuthServiceImpl implements AuthService {
     private final UserRepository userRepository;
     private final UserSessionRepository userSessionRepository;
+    private final AccessTokenRevocations tokenRevocations;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtils jwtUtils;
     private final UserEventPublisher eventPublisher;
@@ -116,6 +118,7 @@ public class AuthServiceImpl implements AuthService {
         resetTokenRepository.save(token);
 
         userSessionRepository.deactivateSessionsForUser(token.getUser().getId());
+        tokenRevocations.revokeAll(token.getUser().getId());
     }
 
     @Transactional
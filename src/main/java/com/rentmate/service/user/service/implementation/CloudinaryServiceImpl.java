@@ -1,32 +1,112 @@
 package com.rentmate.service.user.service.implementation;
 
 import com.cloudinary.Cloudinary;
+import com.cloudinary.api.exceptions.NotFound;
 import com.cloudinary.utils.ObjectUtils;
 import com.rentmate.service.user.service.CloudinaryService;
+import com.rentmate.service.user.service.shared.util.OutboundCallGuard;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.*;
 
-@Service
+@Service @Slf4j
 public class CloudinaryServiceImpl implements CloudinaryService {
     private final Cloudinary cloudinary;
+    private final OutboundCallGuard callGuard;
+    private final long validationTimeoutMs;
+    private final long cacheTtlNanos;
+    // public id -> System.nanoTime() at which the entry expires
+    private final Map<String, Long> existingResources;
+    private final ExecutorService lookupExecutor = Executors.newVirtualThreadPerTaskExecutor();
 
-    public CloudinaryServiceImpl(Cloudinary cloudinary) {
+    public CloudinaryServiceImpl(Cloudinary cloudinary, OutboundCallGuard callGuard,
+                                 @Value("${verification.cloudinary.validation-timeout-ms:3000}") long validationTimeoutMs,
+                                 @Value("${verification.cloudinary.cache-ttl-minutes:60}") long cacheTtlMinutes,
+                                 @Value("${verification.cloudinary.cache-max-entries:10000}") int cacheMaxEntries) {
         this.cloudinary = cloudinary;
+        this.callGuard = callGuard;
+        this.validationTimeoutMs = validationTimeoutMs;
+        this.cacheTtlNanos = TimeUnit.MINUTES.toNanos(cacheTtlMinutes);
+        // access-ordered, so the least recently checked image is dropped once the cache is full
+        this.existingResources = Collections.synchronizedMap(new LinkedHashMap<String, Long>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > cacheMaxEntries;
+            }
+        });
     }
 
-    public Map<String, Object> generateSignedParams(String publicId) {
-        long timestamp = System.currentTimeMillis() / 1000;
-        Map<String, Object> params = ObjectUtils.asMap(
-                "public_id", publicId,
-                "folder", "verifications",
-                "timestamp", timestamp
-        );
+    @Override
+    public boolean resourceExists(String imageUrl) {
+        String publicId = extractPublicId(imageUrl);
+        if (publicId == null) return false;
 
-        String signature = cloudinary.apiSignRequest(params, cloudinary.config.apiSecret);
+        Long expiresAt = existingResources.get(publicId);
+        if (expiresAt != null) {
+            if (expiresAt - System.nanoTime() > 0) return true;
+            existingResources.remove(publicId, expiresAt);
+        }
 
-        params.put("signature", signature);
-        params.put("api_key", cloudinary.config.apiKey);
-        return params;
+        // a missing image is an answer, not a failure, so it must not count against the circuit breaker
+        boolean exists = callGuard.call(OutboundCallGuard.CLOUDINARY, () -> {
+            try {
+                Map<?, ?> result = cloudinary.api().resource(publicId, ObjectUtils.emptyMap());
+                return result != null && !result.isEmpty();
+            } catch (NotFound e) {
+                return false;
+            }
+        });
+        if (!exists) return false;
+
+        existingResources.put(publicId, System.nanoTime() + cacheTtlNanos);
+        return true;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> resourcesExist(String... imageUrls) {
+        CompletableFuture<?>[] lookups = Arrays.stream(imageUrls)
+                .map(url -> CompletableFuture.supplyAsync(() -> resourceExists(url), lookupExecutor))
+                .toArray(CompletableFuture[]::new);
+
+        return CompletableFuture.allOf(lookups)
+                .thenApply(ignored -> Arrays.stream(lookups).allMatch(lookup -> (Boolean) lookup.join()))
+                .orTimeout(validationTimeoutMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        lookupExecutor.shutdownNow();
+    }
+
+    int cachedResources() {
+        return existingResources.size();
+    }
+
+    /**
+     * Extracts the public id from a delivery URL such as
+     * https://res.cloudinary.com/<cloud_name>/image/upload/v1234567890/verifications/id_front_x.jpg
+     * which is "verifications/id_front_x".
+     */
+    static String extractPublicId(String url) {
+        if (url == null || url.isBlank()) return null;
+
+        int upload = url.indexOf("/upload/");
+        String path = upload >= 0 ? url.substring(upload + "/upload/".length()) : url.substring(url.lastIndexOf('/') + 1);
+
+        int query = path.indexOf('?');
+        if (query >= 0) path = path.substring(0, query);
+        if (path.matches("^v\\d+/.*")) path = path.substring(path.indexOf('/') + 1);
+
+        int extension = path.lastIndexOf('.');
+        if (extension > path.lastIndexOf('/')) path = path.substring(0, extension);
+
+        return path.isEmpty() ? null : path;
     }
 }
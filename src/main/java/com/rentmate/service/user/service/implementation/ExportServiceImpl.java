@@ -0,0 +1,96 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
+import com.rentmate.service.user.domain.enumuration.ReportStatus;
+import com.rentmate.service.user.domain.enumuration.ReportType;
+import com.rentmate.service.user.domain.enumuration.UserRole;
+import com.rentmate.service.user.repository.RatingRepository;
+import com.rentmate.service.user.repository.UserReportRepository;
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.service.ExportService;
+import com.rentmate.service.user.service.shared.aspect.BatchWorkload;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+@BatchWorkload
+@Service
+@Slf4j
+public class ExportServiceImpl implements ExportService {
+    private final UserRepository userRepository;
+    private final RatingRepository ratingRepository;
+    private final UserReportRepository reportRepository;
+    private final ObjectWriter writer;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportServiceImpl(UserRepository userRepository, RatingRepository ratingRepository,
+                             UserReportRepository reportRepository, ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.ratingRepository = ratingRepository;
+        this.reportRepository = reportRepository;
+        // the container flushes the response buffer as it fills, flushing per row would defeat it
+        this.writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public void exportUsers(UserRole role, AccountActivityStatus status, Boolean isVerified, String search,
+                            OutputStream output) {
+        // same rules as UserSpecification.searchByKeyword in getAllUsers
+        String pattern = search != null && search.trim().length() >= 2
+                ? "%" + search.trim().toLowerCase() + "%" : null;
+        export("users", () -> userRepository.streamForExport(role, status, isVerified, pattern), output);
+    }
+
+    @Override
+    public void exportRatings(Long ratedUserId, LocalDateTime since, OutputStream output) {
+        export("ratings", () -> ratingRepository.streamForExport(ratedUserId, since), output);
+    }
+
+    @Override
+    public void exportReports(ReportStatus status, ReportType type, OutputStream output) {
+        export("reports", () -> reportRepository.streamForExport(status, type), output);
+    }
+
+    /**
+     * Writes every row of the cursor as one NDJSON line. Rows are DTO projections, so nothing is
+     * kept in the persistence context, and a slow client blocks the response write, which in turn
+     * stops the cursor from reading ahead.
+     */
+    private <T> void export(String name, Supplier<Stream<T>> query, OutputStream output) {
+        long started = System.currentTimeMillis();
+        long count = readOnlyTransaction.execute(status -> {
+            long written = 0;
+            try (Stream<T> rows = query.get()) {
+                SequenceWriter lines = writer.writeValues(output);
+                for (T row : (Iterable<T>) rows::iterator) {
+                    lines.write(row);
+                    written++;
+                }
+                lines.close();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return written;
+        });
+        log.info("Exported {} {} rows in {} ms", count, name, System.currentTimeMillis() - started);
+    }
+}
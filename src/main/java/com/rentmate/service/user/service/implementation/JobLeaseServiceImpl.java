@@ -0,0 +1,116 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.domain.dto.job.JobLeaseResponse;
+import com.rentmate.service.user.repository.ScheduledJobLeaseRepository;
+import com.rentmate.service.user.service.JobLeaseService;
+import com.rentmate.service.user.service.shared.exception.LeaseLostException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+@Service @Slf4j
+public class JobLeaseServiceImpl implements JobLeaseService {
+    private final ScheduledJobLeaseRepository leaseRepository;
+    private final String owner;
+    private final long leaseMs;
+    private final ThreadLocal<HeldLease> currentLease = new ThreadLocal<>();
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("job-lease-heartbeat").daemon().factory());
+
+    private static final class HeldLease {
+        private final String jobName;
+        private final long token;
+        private volatile boolean lost;
+
+        private HeldLease(String jobName, long token) {
+            this.jobName = jobName;
+            this.token = token;
+        }
+    }
+
+    public JobLeaseServiceImpl(ScheduledJobLeaseRepository leaseRepository,
+                               @Value("${spring.application.name:user-service}") String applicationName,
+                               @Value("${scheduler.lease.duration-seconds:120}") long leaseSeconds) {
+        this.leaseRepository = leaseRepository;
+        this.owner = applicationName + "@" + hostName() + "/" + UUID.randomUUID().toString().substring(0, 8);
+        this.leaseMs = TimeUnit.SECONDS.toMillis(leaseSeconds);
+    }
+
+    @Override
+    public boolean runExclusively(String jobName, Runnable job) {
+        leaseRepository.insertIfAbsent(jobName);
+        if (leaseRepository.tryAcquire(jobName, owner, leaseMs) == 0) {
+            log.debug("Skipping {}, another node holds the lease", jobName);
+            return false;
+        }
+        Long token = leaseRepository.findToken(jobName, owner);
+        if (token == null) return false;
+
+        HeldLease lease = new HeldLease(jobName, token);
+        long renewEvery = leaseMs / 3;
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleWithFixedDelay(
+                () -> renew(lease), renewEvery, renewEvery, TimeUnit.MILLISECONDS);
+
+        log.info("Acquired lease on {} with fencing token {}", jobName, token);
+        currentLease.set(lease);
+        try {
+            job.run();
+            return true;
+        } finally {
+            currentLease.remove();
+            heartbeat.cancel(false);
+            if (!lease.lost) leaseRepository.release(jobName, owner, token);
+        }
+    }
+
+    @Override
+    public void fence() {
+        HeldLease lease = currentLease.get();
+        if (lease == null) return;
+
+        if (lease.lost || leaseRepository.fence(lease.jobName, owner, lease.token) == 0) {
+            lease.lost = true;
+            throw new LeaseLostException("Lease on " + lease.jobName + " with token " + lease.token + " was lost");
+        }
+    }
+
+    @Override
+    public List<JobLeaseResponse> getLeases() {
+        return leaseRepository.findAllStatuses();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeats.shutdownNow();
+    }
+
+    private void renew(HeldLease lease) {
+        try {
+            if (leaseRepository.renew(lease.jobName, owner, lease.token, leaseMs) == 0) {
+                lease.lost = true;
+                log.warn("Lost lease on {} (token {}), its work will not be committed", lease.jobName, lease.token);
+            }
+        } catch (Exception e) {
+            // the lease runs out on its own if renewals keep failing, fence() then rejects the commit
+            log.error("Failed to renew lease on {}", lease.jobName, e);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
+    }
+}
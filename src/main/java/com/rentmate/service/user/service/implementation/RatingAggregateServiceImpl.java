@@ -0,0 +1,269 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.domain.entity.RatingFlushWatermark;
+import com.rentmate.service.user.domain.entity.UserRatingStats;
+import com.rentmate.service.user.repository.RatingFlushWatermarkRepository;
+import com.rentmate.service.user.repository.RatingRepository;
+import com.rentmate.service.user.repository.UserRatingStatsRepository;
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.service.JobLeaseService;
+import com.rentmate.service.user.service.RatingAggregateService;
+import com.rentmate.service.user.service.TrustScoreService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Rating changes are coalesced per rated user in memory and written every few hundred ms, so a burst of ratings
+ * for one user costs one UPDATE of its users row per flush instead of one per rating, each waiting on the row lock.
+ *
+ * Durability: every instance keeps a row in rating_flush_watermarks saying that all its changes made before
+ * flushed_through are written. If an instance stops heartbeating, another one recomputes from user_ratings every
+ * user rated since that watermark and removes the row.
+ *
+ * A recompute (recovery or reconcile) may already count changes that a live instance still buffers. Recomputes
+ * stamp recomputed_at, and a flush locks the rows first: a user rebuilt after its buffered changes committed is
+ * recomputed again instead of getting the delta, so no change is counted twice.
+ */
+@Service @Slf4j
+public class RatingAggregateServiceImpl implements RatingAggregateService {
+    private static final int FLUSH_CHUNK = 500;
+    private static final long RECONCILE_CHUNK = 1000;
+    // covers transactions that committed around the time the watermark was taken
+    private static final Duration RECOVERY_MARGIN = Duration.ofSeconds(5);
+    private static final long IDLE_HEARTBEAT_MS = 5000;
+
+    private final UserRatingStatsRepository statsRepository;
+    private final UserRepository userRepository;
+    private final RatingRepository ratingRepository;
+    private final RatingFlushWatermarkRepository watermarkRepository;
+    private final JobLeaseService jobLeaseService;
+    private final TrustScoreService trustScoreService;
+    private final TransactionTemplate transactionTemplate;
+    private final double decayPerSecond;
+    private final long instanceTimeoutSeconds;
+    private final String instanceId = UUID.randomUUID().toString();
+    // ConcurrentHashMap locks per bin, so raters of different users do not contend on the buffer
+    private final ConcurrentHashMap<Long, PendingDelta> pending = new ConcurrentHashMap<>();
+    private long lastHeartbeatMs;
+
+    private final class PendingDelta {
+        private final int[] stars = new int[5];
+        private final LocalDateTime refTime;
+        private final LocalDateTime firstRecordedAt;
+        // valued as of refTime
+        private double sum;
+        private double weight;
+
+        private PendingDelta(LocalDateTime refTime, LocalDateTime firstRecordedAt) {
+            this.refTime = refTime;
+            this.firstRecordedAt = firstRecordedAt;
+        }
+
+        private void add(int addedStars, int removedStars, double sumDelta, double weightDelta, LocalDateTime asOf) {
+            if (addedStars > 0) stars[addedStars - 1]++;
+            if (removedStars > 0) stars[removedStars - 1]--;
+            double factor = Math.exp(-decayPerSecond * Duration.between(asOf, refTime).toMillis() / 1000.0);
+            sum += sumDelta * factor;
+            weight += weightDelta * factor;
+        }
+
+        private PendingDelta merge(PendingDelta other) {
+            PendingDelta merged = new PendingDelta(refTime, firstRecordedAt.isBefore(other.firstRecordedAt)
+                    ? firstRecordedAt : other.firstRecordedAt);
+            for (int i = 0; i < 5; i++) merged.stars[i] = stars[i] + other.stars[i];
+            merged.sum = sum;
+            merged.weight = weight;
+            merged.add(0, 0, other.sum, other.weight, other.refTime);
+            return merged;
+        }
+    }
+
+    public RatingAggregateServiceImpl(UserRatingStatsRepository statsRepository, UserRepository userRepository,
+                                      RatingRepository ratingRepository,
+                                      RatingFlushWatermarkRepository watermarkRepository,
+                                      JobLeaseService jobLeaseService, TrustScoreService trustScoreService,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${rating.recent.half-life-days:90}") double recentHalfLifeDays,
+                                      @Value("${rating.aggregates.instance-timeout-seconds:30}") long instanceTimeoutSeconds) {
+        this.statsRepository = statsRepository;
+        this.userRepository = userRepository;
+        this.ratingRepository = ratingRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.jobLeaseService = jobLeaseService;
+        this.trustScoreService = trustScoreService;
+        this.transactionTemplate = transactionTemplate;
+        this.decayPerSecond = Math.log(2) / (recentHalfLifeDays * 86400);
+        this.instanceTimeoutSeconds = instanceTimeoutSeconds;
+    }
+
+    @Override
+    public void recordChange(Long ratedUserId, int addedStars, int removedStars,
+                             double sumDelta, double weightDelta, LocalDateTime asOf) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            buffer(ratedUserId, addedStars, removedStars, sumDelta, weightDelta, asOf);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                buffer(ratedUserId, addedStars, removedStars, sumDelta, weightDelta, asOf);
+            }
+        });
+    }
+
+    private void buffer(Long ratedUserId, int addedStars, int removedStars,
+                        double sumDelta, double weightDelta, LocalDateTime asOf) {
+        pending.compute(ratedUserId, (id, delta) -> {
+            if (delta == null) delta = new PendingDelta(asOf, LocalDateTime.now());
+            delta.add(addedStars, removedStars, sumDelta, weightDelta, asOf);
+            return delta;
+        });
+    }
+
+    @Override
+    public void applyChange(Long ratedUserId, int addedStars, int removedStars,
+                            double sumDelta, double weightDelta, LocalDateTime asOf) {
+        int[] stars = new int[5];
+        if (addedStars > 0) stars[addedStars - 1]++;
+        if (removedStars > 0) stars[removedStars - 1]--;
+        statsRepository.insertIfAbsent(ratedUserId);
+        statsRepository.applyDelta(ratedUserId, stars[0], stars[1], stars[2], stars[3], stars[4],
+                sumDelta, weightDelta, asOf, decayPerSecond);
+        userRepository.updateAverageRating(ratedUserId);
+        trustScoreService.refresh(ratedUserId);
+    }
+
+    @Override
+    public synchronized int flush() {
+        // nothing queued from here on is covered by this flush
+        LocalDateTime flushStartedAt = LocalDateTime.now();
+        Map<Long, PendingDelta> batch = new TreeMap<>();
+        for (Long userId : pending.keySet()) {
+            PendingDelta delta = pending.remove(userId);
+            if (delta != null) batch.put(userId, delta);
+        }
+
+        if (!batch.isEmpty()) {
+            // ascending ids, so concurrent flushes on other instances lock users rows in the same order
+            List<Long> userIds = new ArrayList<>(batch.keySet());
+            for (int from = 0; from < userIds.size(); from += FLUSH_CHUNK) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + FLUSH_CHUNK, userIds.size()));
+                try {
+                    transactionTemplate.executeWithoutResult(status -> {
+                        chunk.forEach(statsRepository::insertIfAbsent);
+                        Map<Long, LocalDateTime> recomputedAt = new HashMap<>();
+                        for (UserRatingStats stats : statsRepository.lockAll(chunk)) {
+                            if (stats.getRecomputedAt() != null)
+                                recomputedAt.put(stats.getUserId(), stats.getRecomputedAt());
+                        }
+                        List<Long> recompute = new ArrayList<>();
+                        for (Long userId : chunk) {
+                            PendingDelta delta = batch.get(userId);
+                            LocalDateTime recomputed = recomputedAt.get(userId);
+                            if (recomputed != null
+                                    && !recomputed.isBefore(delta.firstRecordedAt.minus(RECOVERY_MARGIN))) {
+                                // rebuilt after some of these changes committed, so it may count them already
+                                recompute.add(userId);
+                                continue;
+                            }
+                            statsRepository.applyDelta(userId, delta.stars[0], delta.stars[1], delta.stars[2],
+                                    delta.stars[3], delta.stars[4], delta.sum, delta.weight, delta.refTime,
+                                    decayPerSecond);
+                        }
+                        if (!recompute.isEmpty()) statsRepository.recomputeUsers(recompute, decayPerSecond);
+                        userRepository.updateAverageRatings(chunk);
+                        trustScoreService.refresh(chunk);
+                    });
+                } catch (RuntimeException e) {
+                    // put back what was not written; the next flush retries it
+                    for (Long userId : userIds.subList(from, userIds.size()))
+                        pending.merge(userId, batch.get(userId), PendingDelta::merge);
+                    throw e;
+                }
+            }
+        } else if (System.currentTimeMillis() - lastHeartbeatMs < IDLE_HEARTBEAT_MS) {
+            return 0;
+        }
+
+        LocalDateTime flushedThrough = pending.values().stream()
+                .map(delta -> delta.firstRecordedAt)
+                .filter(flushStartedAt::isAfter)
+                .min(LocalDateTime::compareTo)
+                .orElse(flushStartedAt);
+        watermarkRepository.upsert(instanceId, flushedThrough);
+        lastHeartbeatMs = System.currentTimeMillis();
+        return batch.size();
+    }
+
+    @Override
+    public int recoverAbandonedChanges() {
+        int recovered = 0;
+        for (RatingFlushWatermark watermark : watermarkRepository.findStale(instanceTimeoutSeconds)) {
+            if (watermark.getInstanceId().equals(instanceId)) continue;
+
+            List<Long> userIds = ratingRepository.findRatedUserIdsUpdatedSince(
+                    watermark.getFlushedThrough().minus(RECOVERY_MARGIN));
+            for (int from = 0; from < userIds.size(); from += FLUSH_CHUNK) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + FLUSH_CHUNK, userIds.size()));
+                transactionTemplate.executeWithoutResult(status -> {
+                    statsRepository.recomputeUsers(chunk, decayPerSecond);
+                    userRepository.updateAverageRatings(chunk);
+                    trustScoreService.refresh(chunk);
+                    jobLeaseService.fence();
+                });
+            }
+            watermarkRepository.deleteById(watermark.getInstanceId());
+            log.warn("Recovered rating aggregates of {} users from abandoned instance {} (flushed through {})",
+                    userIds.size(), watermark.getInstanceId(), watermark.getFlushedThrough());
+            recovered++;
+        }
+        return recovered;
+    }
+
+    @Override
+    public int reconcile() {
+        long maxId = userRepository.findMaxId().orElse(0L);
+        int drifted = 0;
+        // chunked so each transaction only locks the ratings of a slice of users
+        for (long fromId = 1; fromId <= maxId; fromId += RECONCILE_CHUNK) {
+            long from = fromId, to = fromId + RECONCILE_CHUNK - 1;
+            Integer changed = transactionTemplate.execute(status -> {
+                statsRepository.recompute(from, to, decayPerSecond);
+                statsRepository.clearWithoutRatings(from, to);
+                int synced = userRepository.syncRatingAggregates(from, to);
+                // also catches trust scores that missed a change
+                trustScoreService.refreshBetween(from, to);
+                return synced;
+            });
+            drifted += changed == null ? 0 : changed;
+        }
+        log.info("Reconciled rating stats up to user {}, corrected {} user aggregates", maxId, drifted);
+        return drifted;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        try {
+            flush();
+            watermarkRepository.deleteById(instanceId);
+        } catch (Exception e) {
+            // the watermark row stays behind, so another instance recovers what was not flushed
+            log.error("Could not flush rating aggregates on shutdown", e);
+        }
+    }
+}
@@ -4,26 +4,34 @@ import com.rentmate.service.user.domain.dto.PagedResponse;
 import com.rentmate.service.user.domain.dto.rating.*;
 import com.rentmate.service.user.domain.entity.User;
 import com.rentmate.service.user.domain.entity.UserRating;
+import com.rentmate.service.user.domain.entity.UserRatingStats;
 import com.rentmate.service.user.domain.mapper.RatingMapper;
 import com.rentmate.service.user.repository.RatingRepository;
+import com.rentmate.service.user.repository.UserRatingStatsRepository;
 import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.service.RatingAggregateService;
 import com.rentmate.service.user.service.RatingService;
 import com.rentmate.service.user.service.UserService;
 import com.rentmate.service.user.service.shared.exception.*;
-import jakarta.transaction.Transactional;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class RatingServiceImpl implements RatingService {
     private final RatingRepository ratingRepository;
     private final UserRepository userRepository;
+    private final UserRatingStatsRepository statsRepository;
+    private final RatingAggregateService aggregateService;
 
     @Override @Transactional
     public RatingResponse createRating(Long raterId, CreateRatingRequest request) {
@@ -35,17 +43,19 @@ public class RatingServiceImpl implements RatingService {
         if(ratingRepository.doesExist(request.getRentalRequestId()).orElse(false))
             throw new BadRequestException("Rating already exists for the specified rental ID");
 
-        User rater = new User(); rater.setId(raterId);
-        User ratedUser = new User(); ratedUser.setId(request.getRatedUserId());
+        // references, not new User()s: with a null version Hibernate would take those for unsaved users
+        User rater = userRepository.getReferenceById(raterId);
+        User ratedUser = userRepository.getReferenceById(request.getRatedUserId());
 
         UserRating rating = RatingMapper.toUserRating(request, rater, ratedUser);
         ratingRepository.save(rating);
-        userRepository.updateAverageRating(ratedUser.getId());
+        aggregateService.recordChange(ratedUser.getId(), rating.getRating(), 0, rating.getRating(), 1,
+                rating.getCreatedAt());
 
         return RatingMapper.toRatingResponse(rating, UserService.getAuthenticatedUser().getUsername());
     }
 
-    @Override
+    @Override @Transactional(readOnly = true)
     public PagedResponse<RatingResponse> getRatingsByUserId(Long userId, Integer page, Integer limit) {
         Pageable pageable = PageRequest
                 .of(page-1, limit, Sort.by("createdAt").descending());
@@ -66,6 +76,15 @@ public class RatingServiceImpl implements RatingService {
         );
     }
 
+    @Override @Transactional(readOnly = true)
+    public String getRatingsVersion(Long userId) {
+        // read from user_ratings rather than the user's version alone, which only moves when the buffered
+        // aggregate change is flushed
+        return ratingRepository.findRatingsVersion(userId)
+                .orElseThrow(() -> new NotFoundException("User with id " + userId + " not found"))
+                .tag();
+    }
+
     @Override @Transactional
     public RatingResponse updateRating(UpdateRatingRequest request) {
         UserRating rating = ratingRepository.findById(request.getRatingId()).orElseThrow(() -> new NotFoundException("Rating not found"));
@@ -73,11 +92,19 @@ public class RatingServiceImpl implements RatingService {
         if(!rating.getRater().getId().equals(UserService.getAuthenticatedUser().getId()))
             throw new ForbiddenActionException("You are not the rater of this rating");
 
+        int previousStars = rating.getRating();
         rating.setRating(request.getRating().byteValue());
         rating.setFeedback(request.getFeedback());
         rating.setUpdatedAt(LocalDateTime.now());
         ratingRepository.save(rating);
-        userRepository.updateAverageRating(rating.getRatedUser().getId());
+
+        if (previousStars != rating.getRating()) {
+            aggregateService.recordChange(rating.getRatedUser().getId(), rating.getRating(), previousStars,
+                    rating.getRating() - previousStars, 0, rating.getCreatedAt());
+        } else {
+            // the ratings ETag sees new stars in the star sum; a feedback-only edit only shows in the user's version
+            userRepository.bumpVersion(rating.getRatedUser().getId());
+        }
 
         return RatingMapper.toRatingResponse(rating, UserService.getAuthenticatedUser().getUsername());
     }
@@ -91,6 +118,33 @@ public class RatingServiceImpl implements RatingService {
             throw new ForbiddenActionException("You are not the rater of this rating");
 
         ratingRepository.delete(rating);
-        userRepository.updateAverageRating(rating.getRatedUser().getId());
+        // applied right away: once the row is gone, recovery could not find this user from user_ratings
+        aggregateService.applyChange(rating.getRatedUser().getId(), 0, rating.getRating(), -rating.getRating(), -1,
+                rating.getCreatedAt());
+    }
+
+    @Override @Transactional(readOnly = true)
+    public RatingDistributionResponse getRatingDistribution(Long userId) {
+        UserRatingStats stats = statsRepository.findById(userId).orElse(null);
+        if (stats == null) {
+            if (!userRepository.existsById(userId))
+                throw new NotFoundException("User with id " + userId + " not found");
+            return new RatingDistributionResponse(userId, 0, 0, List.of(0, 0, 0, 0, 0), null);
+        }
+
+        int total = stats.getStar1() + stats.getStar2() + stats.getStar3() + stats.getStar4() + stats.getStar5();
+        double average = total == 0 ? 0 : (stats.getStar1() + 2.0 * stats.getStar2() + 3.0 * stats.getStar3()
+                + 4.0 * stats.getStar4() + 5.0 * stats.getStar5()) / total;
+        // both sums decay by the same factor, so their ratio is current without decaying them to now
+        Double recentAverage = stats.getRecentWeight() > 0 ? stats.getRecentSum() / stats.getRecentWeight() : null;
+
+        return new RatingDistributionResponse(userId, total, average,
+                List.of(stats.getStar1(), stats.getStar2(), stats.getStar3(), stats.getStar4(), stats.getStar5()),
+                recentAverage);
+    }
+
+    @Override
+    public int reconcileRatingStats() {
+        return aggregateService.reconcile();
     }
 }
@@ -0,0 +1,83 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.domain.dto.rental.RentalResponse;
+import com.rentmate.service.user.domain.dto.rental.RentalSummary;
+import com.rentmate.service.user.repository.RentalProjectionRepository;
+import com.rentmate.service.user.service.RentalLookupService;
+import com.rentmate.service.user.service.shared.client.RentalServiceClient;
+import com.rentmate.service.user.service.shared.exception.NotFoundException;
+import com.rentmate.service.user.service.shared.exception.ServiceUnavailableException;
+import com.rentmate.service.user.service.shared.util.OutboundCallGuard;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+@Service @Slf4j
+public class RentalLookupServiceImpl implements RentalLookupService {
+    private static final int MAX_CACHED_RENTALS = 10_000;
+
+    private record CachedRental(RentalSummary rental, long expiresAt) {}
+
+    private final RentalServiceClient rentalClient;
+    private final RentalProjectionRepository projectionRepository;
+    private final OutboundCallGuard callGuard;
+    private final long cacheTtlNanos;
+    private final Map<Long, CachedRental> cache = new ConcurrentHashMap<>();
+
+    public RentalLookupServiceImpl(RentalServiceClient rentalClient, RentalProjectionRepository projectionRepository,
+                                   OutboundCallGuard callGuard,
+                                   @Value("${rental.lookup.cache-ttl-seconds:300}") long cacheTtlSeconds) {
+        this.rentalClient = rentalClient;
+        this.projectionRepository = projectionRepository;
+        this.callGuard = callGuard;
+        this.cacheTtlNanos = TimeUnit.SECONDS.toNanos(cacheTtlSeconds);
+    }
+
+    @Override
+    public RentalSummary getRental(Long rentalId) {
+        // the event-fed projection answers almost every lookup without leaving the service
+        var projected = projectionRepository.findById(rentalId);
+        if (projected.isPresent()) {
+            var p = projected.get();
+            return new RentalSummary(p.getRentalId(), p.getOwnerId(), p.getRenterId(), p.getStartDate(), p.getEndDate());
+        }
+
+        CachedRental cached = cache.get(rentalId);
+        if (cached != null && cached.expiresAt() - System.nanoTime() > 0) return cached.rental();
+
+        RentalSummary rental = fetch(rentalId);
+        if (cache.size() >= MAX_CACHED_RENTALS) evictExpired();
+        cache.put(rentalId, new CachedRental(rental, System.nanoTime() + cacheTtlNanos));
+        return rental;
+    }
+
+    private RentalSummary fetch(Long rentalId) {
+        RentalResponse response;
+        try {
+            response = callGuard.call(OutboundCallGuard.RENTAL_SERVICE, () -> rentalClient.getRentalById(rentalId));
+        } catch (FeignException.NotFound e) {
+            throw new NotFoundException("No rental with the id = " + rentalId);
+        } catch (ServiceUnavailableException e) {
+            log.warn("Rental lookup for {} rejected: {}", rentalId, e.getCause().toString());
+            throw e;
+        } catch (Exception e) {
+            log.error("Error while fetching rental {}", rentalId, e);
+            throw e;
+        }
+
+        if (response == null)
+            throw new NotFoundException("No rental with the id = " + rentalId);
+        return RentalSummary.from(response);
+    }
+
+    private void evictExpired() {
+        long now = System.nanoTime();
+        cache.values().removeIf(entry -> entry.expiresAt() - now <= 0);
+        if (cache.size() >= MAX_CACHED_RENTALS) cache.clear();
+    }
+}
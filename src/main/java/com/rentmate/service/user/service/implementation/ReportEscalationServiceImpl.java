@@ -1,5 +1,6 @@
 package com.rentmate.service.user.service.implementation;
 
+import com.rentmate.service.user.domain.dto.event.ReportEscalationDueEvent;
 import com.rentmate.service.user.domain.entity.User;
 import com.rentmate.service.user.domain.entity.UserReport;
 import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
@@ -8,13 +9,19 @@ import com.rentmate.service.user.domain.enumuration.ReportType;
 import com.rentmate.service.user.domain.mapper.ReportMapper;
 import com.rentmate.service.user.repository.UserReportRepository;
 import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.service.AdminStatsService;
+import com.rentmate.service.user.service.JobLeaseService;
 import com.rentmate.service.user.service.ReportEscalationService;
-import jakarta.transaction.Transactional;
+import com.rentmate.service.user.service.TrustScoreService;
+import com.rentmate.service.user.service.UserEventPublisher;
+import com.rentmate.service.user.service.shared.util.AccessTokenRevocations;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -22,6 +29,11 @@ import java.util.List;
 public class ReportEscalationServiceImpl implements ReportEscalationService {
     private final UserReportRepository reportRepository;
     private final UserRepository userRepository;
+    private final AccessTokenRevocations tokenRevocations;
+    private final JobLeaseService jobLeaseService;
+    private final TrustScoreService trustScoreService;
+    private final AdminStatsService statsService;
+    private final UserEventPublisher eventPublisher;
 
     @Value("${report.escalation-period-hours:72}")
     private Long escalationPeriod;
@@ -45,13 +57,49 @@ public class ReportEscalationServiceImpl implements ReportEscalationService {
             }
         }
 
+        // another node took over the job while this one ran: roll back instead of escalating twice
+        jobLeaseService.fence();
         return escalatedReports;
     }
 
+    @Override
+    public void scheduleEscalation(UserReport report) {
+        if (report.getReportType() != ReportType.OVERDUE) return;
+
+        LocalDateTime dueAt = report.getSubmittedAt().plusHours(escalationPeriod);
+        long delayMs = Duration.between(LocalDateTime.now(), dueAt).toMillis();
+        eventPublisher.scheduleReportEscalation(new ReportEscalationDueEvent(report.getId()), delayMs, escalationPeriod);
+    }
+
+    @Override @Transactional
+    public void escalateIfDue(Long reportId) {
+        // the row lock serializes this with resolve/dismiss and with the safety sweep
+        UserReport report = reportRepository.findByIdForUpdate(reportId).orElse(null);
+        if (report == null || report.getReportType() != ReportType.OVERDUE) return;
+
+        if (report.getStatus() == ReportStatus.UNDER_REVIEW) {
+            // an admin is on it; keep looking in case the claim is released unresolved
+            eventPublisher.scheduleReportEscalationRecheck(new ReportEscalationDueEvent(reportId));
+            return;
+        }
+        if (report.getStatus() != ReportStatus.PENDING) return;
+
+        if (report.getSubmittedAt().plusHours(escalationPeriod).isAfter(LocalDateTime.now())) {
+            // the escalation period was raised after the message was queued
+            eventPublisher.scheduleReportEscalationRecheck(new ReportEscalationDueEvent(reportId));
+            return;
+        }
+
+        escalateReport(report);
+        log.info("Escalated overdue report {} to THIEVING", reportId);
+    }
+
     private void escalateReport(UserReport overdueReport) {
         UserReport thievingReport = ReportMapper.createThievingReport(overdueReport, buildThievingDetails(overdueReport));
         reportRepository.save(thievingReport);
+        statsService.reportChanged(thievingReport.getReportType(), null, thievingReport.getStatus());
 
+        ReportStatus previousStatus = overdueReport.getStatus();
         overdueReport.setStatus(ReportStatus.RESOLVED);
         overdueReport.setResolvedAt(LocalDateTime.now());
         overdueReport.setResolutionNotes(String.format(
@@ -61,14 +109,19 @@ public class ReportEscalationServiceImpl implements ReportEscalationService {
         ));
 
         reportRepository.save(overdueReport);
+        statsService.reportChanged(overdueReport.getReportType(), previousStatus, overdueReport.getStatus());
 
         suspendUser(overdueReport.getReportedUser());
     }
 
     private void suspendUser(User reportedUser) {
+        statsService.userChanged(reportedUser.getRole(), reportedUser.getActivityStatus(),
+                reportedUser.getRole(), AccountActivityStatus.SUSPENDED_BY_ADMIN);
         reportedUser.setActivityStatus(AccountActivityStatus.SUSPENDED_BY_ADMIN);
         reportedUser.setDisabled(true);
         userRepository.save(reportedUser);
+        trustScoreService.refresh(reportedUser.getId());
+        tokenRevocations.revokeAll(reportedUser.getId());
     }
 
     private String buildThievingDetails(UserReport overdueReport) {
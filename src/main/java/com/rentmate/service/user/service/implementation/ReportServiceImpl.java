@@ -1,9 +1,14 @@
 package com.rentmate.service.user.service.implementation;
 
-import com.rentmate.service.user.domain.dto.rental.RentalResponse;
+import com.rentmate.service.user.domain.dto.BulkActionResponse;
+import com.rentmate.service.user.domain.dto.BulkActionResult;
+import com.rentmate.service.user.domain.dto.BulkActionResult.Outcome;
+import com.rentmate.service.user.domain.dto.SignedUploadParams;
+import com.rentmate.service.user.domain.dto.rental.RentalSummary;
 import com.rentmate.service.user.domain.dto.report.*;
 import com.rentmate.service.user.domain.dto.user.UserPrincipal;
 import com.rentmate.service.user.domain.dto.user.UserProfileResponse;
+import com.rentmate.service.user.domain.dto.user.UserRoleDto;
 import com.rentmate.service.user.domain.dto.user.UsernameDto;
 import com.rentmate.service.user.domain.entity.User;
 import com.rentmate.service.user.domain.entity.UserReport;
@@ -15,14 +20,18 @@ import com.rentmate.service.user.domain.mapper.ReportMapper;
 import com.rentmate.service.user.domain.mapper.UserMapper;
 import com.rentmate.service.user.repository.UserReportRepository;
 import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.service.AdminStatsService;
+import com.rentmate.service.user.service.RentalLookupService;
+import com.rentmate.service.user.service.ReportEscalationService;
 import com.rentmate.service.user.service.ReportService;
+import com.rentmate.service.user.service.TrustScoreService;
 import com.rentmate.service.user.service.UserEventPublisher;
 import com.rentmate.service.user.service.UserService;
-import com.rentmate.service.user.service.shared.client.RentalServiceClient;
 import com.rentmate.service.user.service.shared.exception.BadRequestException;
 import com.rentmate.service.user.service.shared.exception.ForbiddenActionException;
 import com.rentmate.service.user.service.shared.exception.NotFoundException;
 import com.rentmate.service.user.service.shared.specification.ReportSpecification;
+import com.rentmate.service.user.service.shared.util.CloudinaryUploadSigner;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -33,6 +42,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -42,33 +52,51 @@ public class ReportServiceImpl implements ReportService {
     private final UserReportRepository reportRepository;
     private final UserRepository userRepository;
     private final UserEventPublisher eventPublisher;
-    private final RentalServiceClient rentalService;
+    private final ReportEscalationService escalationService;
+    private final RentalLookupService rentalLookupService;
+    private final TrustScoreService trustScoreService;
+    private final AdminStatsService statsService;
+    private final TransactionTemplate transactionTemplate;
+    private final CloudinaryUploadSigner uploadSigner;
 
     @Value("${report.locking-period-minutes:30}")
     private Long lockingPeriodMinutes;
 
-    @Transactional
     public ReportResponse createReport(CreateReportRequest request) {
         boolean isSystemReport = request.getReportType() == CreateReportRequest.ReportType.FAKE_USER
                 || request.getReportType() == CreateReportRequest.ReportType.FRAUD;
 
         validateDetailsLength(request);
-        RentalResponse rental = validateRental(request);
-
-        User reporter = userRepository.findById(isSystemReport ? UserService.getAuthenticatedUserId() : rental.getOwnerId())
-                .orElseThrow(() -> new NotFoundException("Reporter user not found"));
-        User reportedUser = userRepository.findById(rental.getRenterId())
-                .orElseThrow(() -> new NotFoundException("Reported user not found"));
-
-        UserReport savedReport = reportRepository.save(ReportMapper.toUserReport(request, reporter, reportedUser));
-        updateReportedUserStatus(reportedUser, request.getReportType());
+        // remote call first, so no connection is held while waiting on the rental service
+        RentalSummary rental = validateRental(request);
+        Long reporterId = isSystemReport ? UserService.getAuthenticatedUserId() : rental.ownerId();
+
+        UserReport savedReport = transactionTemplate.execute(status -> {
+            Map<Long, User> users = new HashMap<>();
+            userRepository.findAllById(new HashSet<>(List.of(reporterId, rental.renterId())))
+                    .forEach(user -> users.put(user.getId(), user));
+
+            User reporter = Optional.ofNullable(users.get(reporterId))
+                    .orElseThrow(() -> new NotFoundException("Reporter user not found"));
+            User reportedUser = Optional.ofNullable(users.get(rental.renterId()))
+                    .orElseThrow(() -> new NotFoundException("Reported user not found"));
+
+            UserReport report = reportRepository.save(ReportMapper.toUserReport(request, reporter, reportedUser));
+            userRepository.updateActivityStatus(reportedUser.getId(), AccountActivityStatus.PENDING_REPORT_REVIEW);
+            statsService.reportChanged(report.getReportType(), null, report.getStatus());
+            statsService.userChanged(reportedUser.getRole(), reportedUser.getActivityStatus(),
+                    reportedUser.getRole(), AccountActivityStatus.PENDING_REPORT_REVIEW);
+            trustScoreService.refresh(reportedUser.getId());
+            return report;
+        });
 
         eventPublisher.publishReportCreatedEvent(EventMapper.toReportCreatedEvent(savedReport));
+        escalationService.scheduleEscalation(savedReport);
 
         return ReportMapper.toReportResponse(savedReport);
     }
 
-    @Override
+    @Override @Transactional(readOnly = true)
     public ReportListResponse getSubmittedReports(UserPrincipal loggedInUser, int page, int limit) {
         Pageable pageable = PageRequest.of(page-1, limit, Sort.by(Sort.Direction.DESC, "submittedAt"));
 
@@ -87,7 +115,7 @@ public class ReportServiceImpl implements ReportService {
         );
     }
 
-    @Override
+    @Override @Transactional(readOnly = true)
     public ReportListResponse getReceivedReports(UserPrincipal loggedInUser, int page, int limit) {
         Pageable pageable = PageRequest.of(page-1, limit, Sort.by(Sort.Direction.DESC, "submittedAt"));
 
@@ -106,7 +134,7 @@ public class ReportServiceImpl implements ReportService {
         );
     }
 
-    @Override
+    @Override @Transactional(readOnly = true)
     public ReportListResponse getAllReports(int page, int limit, ReportStatus status, ReportType type) {
         Pageable pageable = PageRequest.of(page-1, limit, Sort.by(Sort.Direction.DESC, "submittedAt"));
 
@@ -130,7 +158,7 @@ public class ReportServiceImpl implements ReportService {
         );
     }
 
-    @Override
+    @Override @Transactional(readOnly = true)
     public ReportDetailsResponse getReport(Long id) {
         UserReport report = reportRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Report not found"));
@@ -160,7 +188,8 @@ public class ReportServiceImpl implements ReportService {
             throw new BadRequestException("Report is locked by another admin until: " + report.getLockExpiresAt());
 
 
-        User user =  new User(); user.setId(loggedInUser.getId());
+        User user = userRepository.getReferenceById(loggedInUser.getId());
+        ReportStatus previousStatus = report.getStatus();
 
         report.setClaimedAt(LocalDateTime.now());
         report.setClaimedBy(user);
@@ -168,6 +197,7 @@ public class ReportServiceImpl implements ReportService {
         report.setStatus(ReportStatus.UNDER_REVIEW);
 
         reportRepository.save(report);
+        statsService.reportChanged(report.getReportType(), previousStatus, report.getStatus());
     }
 
     @Override @Transactional
@@ -177,12 +207,14 @@ public class ReportServiceImpl implements ReportService {
         if(!report.isLockedBy(loggedInUser.getId()))
             throw new ForbiddenActionException("You don't have a lock on this report");
 
+        ReportStatus previousStatus = report.getStatus();
         report.setClaimedBy(null);
         report.setClaimedAt(null);
         report.setLockExpiresAt(null);
         report.setStatus(ReportStatus.PENDING);
 
         reportRepository.save(report);
+        statsService.reportChanged(report.getReportType(), previousStatus, report.getStatus());
     }
 
     @Override @Transactional
@@ -198,14 +230,18 @@ public class ReportServiceImpl implements ReportService {
         if(dismissed){
             User reported = report.getReportedUser();
 
-            if(reported.getActivityStatus() == AccountActivityStatus.PENDING_REPORT_REVIEW)
+            if(reported.getActivityStatus() == AccountActivityStatus.PENDING_REPORT_REVIEW) {
                 reported.setActivityStatus(AccountActivityStatus.ACTIVE);
+                statsService.userChanged(reported.getRole(), AccountActivityStatus.PENDING_REPORT_REVIEW,
+                        reported.getRole(), AccountActivityStatus.ACTIVE);
+            }
 
             userRepository.save(reported);
         }
 
 
-        User resolver = new User(); resolver.setId(loggedInUser.getId());
+        User resolver = userRepository.getReferenceById(loggedInUser.getId());
+        ReportStatus previousStatus = report.getStatus();
 
         report.setStatus(dismissed ? ReportStatus.DISMISSED : ReportStatus.RESOLVED);
         report.setResolvedAt(LocalDateTime.now());
@@ -216,6 +252,8 @@ public class ReportServiceImpl implements ReportService {
         report.setLockExpiresAt(null);
 
         reportRepository.save(report);
+        statsService.reportChanged(report.getReportType(), previousStatus, report.getStatus());
+        trustScoreService.refresh(report.getReportedUser().getId());
     }
 
     @Override @Transactional
@@ -231,6 +269,99 @@ public class ReportServiceImpl implements ReportService {
         return report.getLockExpiresAt();
     }
 
+    @Override @Transactional
+    public BulkActionResponse claimReports(List<Long> ids, UserPrincipal loggedInUser) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BulkActionResult> results = new ArrayList<>(ids.size());
+        List<ReportActionRow> claimable = checkBulkAction(ids, loggedInUser.getId(), now, results);
+        if (claimable.isEmpty()) return BulkActionResponse.of(results);
+
+        int claimed = reportRepository.claimAll(claimable.stream().map(ReportActionRow::getId).toList(),
+                loggedInUser.getId(), now, now.plusMinutes(lockingPeriodMinutes));
+        if (claimed != claimable.size())
+            log.warn("Bulk claim updated {} of {} checked reports", claimed, claimable.size());
+
+        claimable.forEach(row -> statsService.reportChanged(ReportType.valueOf(row.getReportType()),
+                ReportStatus.valueOf(row.getStatus()), ReportStatus.UNDER_REVIEW));
+        return BulkActionResponse.of(results);
+    }
+
+    @Override @Transactional
+    public BulkActionResponse resolveReports(List<Long> ids, String message, UserPrincipal loggedInUser,
+                                             boolean dismissed) {
+        LocalDateTime now = LocalDateTime.now();
+        List<BulkActionResult> results = new ArrayList<>(ids.size());
+        List<ReportActionRow> resolvable = checkBulkAction(ids, loggedInUser.getId(), now, results);
+        if (resolvable.isEmpty()) return BulkActionResponse.of(results);
+
+        ReportStatus resolvedStatus = dismissed ? ReportStatus.DISMISSED : ReportStatus.RESOLVED;
+        int resolved = reportRepository.resolveAll(resolvable.stream().map(ReportActionRow::getId).toList(),
+                resolvedStatus.name(), loggedInUser.getId(), message, now);
+        if (resolved != resolvable.size())
+            log.warn("Bulk {} updated {} of {} checked reports", resolvedStatus, resolved, resolvable.size());
+
+        resolvable.forEach(row -> statsService.reportChanged(ReportType.valueOf(row.getReportType()),
+                ReportStatus.valueOf(row.getStatus()), resolvedStatus));
+
+        Set<Long> reportedUserIds = new HashSet<>();
+        resolvable.forEach(row -> reportedUserIds.add(row.getReportedUserId()));
+        if (dismissed) {
+            // same as a single dismissal: users held for review go back to ACTIVE, all in one statement
+            List<UserRoleDto> reactivated = userRepository.findRolesByIdInAndStatus(reportedUserIds,
+                    AccountActivityStatus.PENDING_REPORT_REVIEW);
+            if (!reactivated.isEmpty()) {
+                userRepository.updateActivityStatuses(reactivated.stream().map(UserRoleDto::id).toList(),
+                        AccountActivityStatus.PENDING_REPORT_REVIEW, AccountActivityStatus.ACTIVE);
+                reactivated.forEach(user -> statsService.userChanged(user.role(),
+                        AccountActivityStatus.PENDING_REPORT_REVIEW, user.role(), AccountActivityStatus.ACTIVE));
+            }
+        }
+        trustScoreService.refresh(reportedUserIds);
+
+        return BulkActionResponse.of(results);
+    }
+
+    @Override
+    public List<SignedUploadParams> getEvidenceUploadUrls(int count) {
+        String uploadId = UUID.randomUUID().toString();
+        List<String> publicIds = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) publicIds.add("evidence_" + uploadId + "_" + i);
+
+        log.debug("Issued {} report evidence upload slots for evidence_{}", count, uploadId);
+        return uploadSigner.sign("reports", publicIds);
+    }
+
+    /**
+     * Locks the reports and applies the checks of the single-report actions to each of them. Adds a result per
+     * distinct id, in request order, and returns the rows that passed.
+     */
+    private List<ReportActionRow> checkBulkAction(List<Long> ids, Long adminId, LocalDateTime now,
+                                                  List<BulkActionResult> results) {
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        Map<Long, ReportActionRow> rows = new HashMap<>();
+        reportRepository.findActionRowsForUpdate(distinctIds).forEach(row -> rows.put(row.getId(), row));
+
+        List<ReportActionRow> passed = new ArrayList<>(rows.size());
+        for (Long id : distinctIds) {
+            ReportActionRow row = rows.get(id);
+            if (row == null) {
+                results.add(BulkActionResult.rejected(id, Outcome.NOT_FOUND, "Report not found"));
+            } else if (!row.getStatus().equals(ReportStatus.PENDING.name())
+                    && !row.getStatus().equals(ReportStatus.UNDER_REVIEW.name())) {
+                results.add(BulkActionResult.rejected(id, Outcome.INVALID_STATE,
+                        "Report is " + row.getStatus()));
+            } else if (row.getClaimedBy() != null && !row.getClaimedBy().equals(adminId)
+                    && row.getLockExpiresAt() != null && row.getLockExpiresAt().isAfter(now)) {
+                results.add(BulkActionResult.rejected(id, Outcome.LOCKED,
+                        "Report is locked by another admin until: " + row.getLockExpiresAt()));
+            } else {
+                results.add(BulkActionResult.applied(id));
+                passed.add(row);
+            }
+        }
+        return passed;
+    }
+
     private void validateDetailsLength(CreateReportRequest request) {
         int minLength = switch (request.getReportType()) {
             case FAKE_USER, OVERDUE -> 20;
@@ -245,33 +376,17 @@ public class ReportServiceImpl implements ReportService {
         }
     }
 
-    private RentalResponse validateRental(CreateReportRequest request) {
-        RentalResponse rental ;
-        try{
-             rental = rentalService.getRentalById(request.getRelatedRentalId());
-        } catch (Exception e) {
-            log.error("Error while validating delivery ID", e);
-            throw e;
-        }
-
-        if(rental == null)
-            throw new NotFoundException("No rental with the id = " + request.getRelatedRentalId());
-
+    private RentalSummary validateRental(CreateReportRequest request) {
+        RentalSummary rental = rentalLookupService.getRental(request.getRelatedRentalId());
 
         // For OVERDUE reports, validate rental is actually overdue
         if (request.getReportType() == CreateReportRequest.ReportType.OVERDUE
-            && rental.getEndDate().isBefore(LocalDateTime.now()))
+            && rental.endDate().isBefore(LocalDateTime.now()))
             throw new BadRequestException("Rental is not overdue.");
 
         return rental;
     }
 
-    @Transactional
-    private void updateReportedUserStatus(User reportedUser, CreateReportRequest.ReportType reportType) {
-        reportedUser.setActivityStatus(AccountActivityStatus.PENDING_REPORT_REVIEW);
-        userRepository.save(reportedUser);
-    }
-
     private List<ReportResponse> getReportResponsesWithRelatedUsers(List<UserReport> reports) {
         var reporterUsers = getRelatedUsers(reports, true);
         var reportedUsers = getRelatedUsers(reports, false);
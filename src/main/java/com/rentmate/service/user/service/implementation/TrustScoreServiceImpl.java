@@ -0,0 +1,31 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.service.TrustScoreService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+@Service @RequiredArgsConstructor
+public class TrustScoreServiceImpl implements TrustScoreService {
+    private final UserRepository userRepository;
+
+    @Override @Transactional
+    public void refresh(Long userId) {
+        userRepository.refreshTrustScores(List.of(userId));
+    }
+
+    @Override @Transactional
+    public void refresh(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        userRepository.refreshTrustScores(userIds);
+    }
+
+    @Override @Transactional
+    public int refreshBetween(long fromId, long toId) {
+        return userRepository.refreshTrustScoresBetween(fromId, toId);
+    }
+}
@@ -8,6 +8,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor @Slf4j
 public class UserEventPublisherImpl implements UserEventPublisher {
@@ -20,6 +22,16 @@ public class UserEventPublisherImpl implements UserEventPublisher {
         rabbitTemplate.convertAndSend(exchange, "user.registered", event);
     }
 
+    @Override
+    public void publishUsersRegistered(List<UserRegisteredEvent> events) {
+        log.info("Publishing event: UserRegisteredEvent x" + events.size());
+        // one channel for the whole batch instead of a checkout per message
+        rabbitTemplate.invoke(operations -> {
+            events.forEach(event -> operations.convertAndSend(exchange, "user.registered", event));
+            return null;
+        });
+    }
+
     @Override
     public void publishPasswordResetRequestedEvent(PasswordResetRequestedEvent event) {
         log.info("Publishing event: " + event.getClass().getSimpleName() + " " + event.toString());
@@ -44,9 +56,60 @@ public class UserEventPublisherImpl implements UserEventPublisher {
         rabbitTemplate.convertAndSend(exchange, "user.identity.verification.rejected", event);
     }
 
+    @Override
+    public void publishIdentityVerificationsApproved(List<IdentityVerificationApprovedEvent> events) {
+        log.info("Publishing event: IdentityVerificationApprovedEvent x" + events.size());
+        rabbitTemplate.invoke(operations -> {
+            events.forEach(event -> operations.convertAndSend(exchange, "user.identity.verification.approved", event));
+            return null;
+        });
+    }
+
+    @Override
+    public void publishIdentityVerificationsRejected(List<IdentityVerificationRejectedEvent> events) {
+        log.info("Publishing event: IdentityVerificationRejectedEvent x" + events.size());
+        rabbitTemplate.invoke(operations -> {
+            events.forEach(event -> operations.convertAndSend(exchange, "user.identity.verification.rejected", event));
+            return null;
+        });
+    }
+
     @Override
     public void publishReportCreatedEvent(ReportCreatedEvent event) {
         log.info("Publishing event: " + event.getClass().getSimpleName() + " " + event.toString());
         rabbitTemplate.convertAndSend(exchange, "report.submitted", event);
     }
-}
\ No newline at end of file
+
+    @Override
+    public void publishAccessTokensRevokedEvent(AccessTokensRevokedEvent event) {
+        log.info("Publishing event: " + event.getClass().getSimpleName() + " " + event.toString());
+        rabbitTemplate.convertAndSend(exchange, "user.tokens.revoked", event);
+    }
+
+    @Override
+    public void publishAdminStatsChangedEvent(AdminStatsChangedEvent event) {
+        log.debug("Publishing {} admin counter changes", event.changes().size());
+        rabbitTemplate.convertAndSend(exchange, "user.admin-stats.changed", event);
+    }
+
+    @Override
+    public void scheduleReportEscalation(ReportEscalationDueEvent event, long delayMs, long escalationPeriodHours) {
+        log.info("Scheduling report escalation for report {} in {} ms", event.reportId(), delayMs);
+        if (delayMs <= 0) {
+            rabbitTemplate.convertAndSend("", RabbitMQConfig.REPORT_ESCALATION_DUE_QUEUE, event);
+            return;
+        }
+        // only new reports go here, published right after they are saved, so the delay is the whole period and the
+        // queue's own TTL applies; a report created a moment earlier is rechecked on arrival if it is not due yet
+        rabbitTemplate.convertAndSend("",
+                RabbitMQConfig.reportEscalationDelayQueueName(escalationPeriodHours), event);
+    }
+
+    @Override
+    public void scheduleReportEscalationRecheck(ReportEscalationDueEvent event) {
+        log.debug("Rechecking report escalation for report {} in {} ms", event.reportId(),
+                RabbitMQConfig.REPORT_ESCALATION_RECHECK_MS);
+        // no per-message TTL: the queue's own TTL keeps every recheck in queue order
+        rabbitTemplate.convertAndSend("", RabbitMQConfig.REPORT_ESCALATION_RECHECK_QUEUE, event);
+    }
+}
@@ -0,0 +1,282 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.rentmate.service.user.domain.dto.event.UserRegisteredEvent;
+import com.rentmate.service.user.domain.dto.user.CreateProfileRequest;
+import com.rentmate.service.user.domain.dto.user.UserImportResult;
+import com.rentmate.service.user.domain.dto.user.UserImportResult.Status;
+import com.rentmate.service.user.domain.entity.User;
+import com.rentmate.service.user.domain.enumuration.UserRole;
+import com.rentmate.service.user.domain.mapper.EventMapper;
+import com.rentmate.service.user.domain.mapper.UserMapper;
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.service.AdminStatsService;
+import com.rentmate.service.user.service.UserEventPublisher;
+import com.rentmate.service.user.service.UserImportService;
+import com.rentmate.service.user.service.shared.aspect.BatchWorkload;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor @Slf4j
+public class UserImportServiceImpl implements UserImportService {
+    private static final List<String> CSV_COLUMNS =
+            List.of("firstName", "lastName", "email", "phoneNumber", "password", "role");
+
+    private final UserRepository userRepository;
+    private final UserEventPublisher eventPublisher;
+    private final AdminStatsService statsService;
+    private final PasswordEncoder encoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${user.import.chunk-size:500}")
+    private int chunkSize;
+
+    private record ImportRow(int line, CreateProfileRequest request, String error) {}
+
+    @BatchWorkload
+    @Override
+    public void importUsers(InputStream input, OutputStream output) throws IOException {
+        ObjectWriter writer = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+
+        Map<String, Integer> csvHeader = null;
+        boolean ndjson = false;
+        boolean formatDetected = false;
+        List<ImportRow> chunk = new ArrayList<>(chunkSize);
+        int created = 0;
+
+        String raw;
+        int lineNumber = 0;
+        while ((raw = reader.readLine()) != null) {
+            lineNumber++;
+            if (raw.isBlank()) continue;
+
+            if (!formatDetected) {
+                formatDetected = true;
+                ndjson = raw.stripLeading().startsWith("{");
+                if (!ndjson) {
+                    Map<String, Integer> header = parseCsvHeader(raw);
+                    List<String> missing = CSV_COLUMNS.stream()
+                            .filter(column -> !header.containsKey(column.toLowerCase()))
+                            .toList();
+                    if (!missing.isEmpty()) {
+                        writeResults(writer, output, List.of(UserImportResult.rejected(lineNumber, Status.INVALID,
+                                null, "CSV header is missing columns: " + String.join(", ", missing))));
+                        return;
+                    }
+                    csvHeader = header;
+                    continue;
+                }
+            }
+
+            chunk.add(ndjson ? parseJsonRow(lineNumber, raw) : parseCsvRow(lineNumber, raw, csvHeader));
+            if (chunk.size() >= chunkSize) {
+                created += writeResults(writer, output, importChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) created += writeResults(writer, output, importChunk(chunk));
+
+        log.info("User import finished: {} rows read, {} users created", lineNumber, created);
+    }
+
+    /**
+     * Validates, de-duplicates, hashes and inserts one chunk. Memory stays bounded by the chunk size
+     * because each chunk is committed and its results are flushed before the next one is read.
+     */
+    private List<UserImportResult> importChunk(List<ImportRow> rows) {
+        UserImportResult[] results = new UserImportResult[rows.size()];
+        List<Integer> candidates = new ArrayList<>(rows.size());
+        Set<String> chunkEmails = new HashSet<>();
+        Set<String> chunkPhones = new HashSet<>();
+
+        for (int i = 0; i < rows.size(); i++) {
+            ImportRow row = rows.get(i);
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error != null) {
+                results[i] = UserImportResult.rejected(row.line(), Status.INVALID, emailOf(row), error);
+            } else if (!chunkEmails.add(row.request().getEmail()) || !chunkPhones.add(row.request().getPhoneNumber())) {
+                results[i] = UserImportResult.rejected(row.line(), Status.DUPLICATE, emailOf(row),
+                        "Email or phone number repeated in the same upload");
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        if (!candidates.isEmpty()) {
+            Set<String> existingEmails = new HashSet<>(userRepository.findExistingEmails(chunkEmails));
+            Set<String> existingPhones = new HashSet<>(userRepository.findExistingPhoneNumbers(chunkPhones));
+            candidates.removeIf(i -> {
+                CreateProfileRequest request = rows.get(i).request();
+                if (!existingEmails.contains(request.getEmail()) && !existingPhones.contains(request.getPhoneNumber()))
+                    return false;
+                results[i] = UserImportResult.rejected(rows.get(i).line(), Status.DUPLICATE, request.getEmail(),
+                        "User already exist, chack your email and phone number.");
+                return true;
+            });
+        }
+
+        if (!candidates.isEmpty()) {
+            // BCrypt dominates the cost of an import, spread it across all cores
+            List<User> users = candidates.parallelStream()
+                    .map(i -> UserMapper.toUser(rows.get(i).request(), encoder))
+                    .toList();
+
+            Set<User> saved = insert(users);
+            if (!saved.isEmpty()) statsService.usersCreated(saved);
+            List<UserRegisteredEvent> events = new ArrayList<>(saved.size());
+            for (int k = 0; k < candidates.size(); k++) {
+                int i = candidates.get(k);
+                User user = users.get(k);
+                if (saved.contains(user)) {
+                    results[i] = UserImportResult.created(rows.get(i).line(), user.getId(), user.getEmail());
+                    events.add(EventMapper.toUserRegisteredEvent(user));
+                } else {
+                    results[i] = UserImportResult.rejected(rows.get(i).line(), Status.DUPLICATE, user.getEmail(),
+                            "User already exist, chack your email and phone number.");
+                }
+            }
+            if (!events.isEmpty()) eventPublisher.publishUsersRegistered(events);
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Inserts the users as one batch. If a concurrent registration took an email or phone number
+     * between the duplicate check and the insert, the batch is retried row by row so only the
+     * conflicting rows are dropped.
+     */
+    private Set<User> insert(List<User> users) {
+        Set<User> saved = Collections.newSetFromMap(new IdentityHashMap<>());
+        try {
+            transactionTemplate.executeWithoutResult(status -> userRepository.saveAll(users));
+            saved.addAll(users);
+            return saved;
+        } catch (DataIntegrityViolationException ex) {
+            log.warn("Batch insert of {} users hit a unique constraint, retrying row by row", users.size());
+            for (User user : users) {
+                user.setId(null);
+                try {
+                    transactionTemplate.executeWithoutResult(status -> userRepository.save(user));
+                    saved.add(user);
+                } catch (DataIntegrityViolationException conflict) {
+                    log.debug("Skipping imported user {}: {}", user.getEmail(), conflict.getMostSpecificCause().getMessage());
+                }
+            }
+            return saved;
+        }
+    }
+
+    private String validate(CreateProfileRequest request) {
+        Set<ConstraintViolation<CreateProfileRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) return null;
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private int writeResults(ObjectWriter writer, OutputStream output, List<UserImportResult> results) throws IOException {
+        int created = 0;
+        for (UserImportResult result : results) {
+            writer.writeValue(output, result);
+            output.write('\n');
+            if (result.status() == Status.CREATED) created++;
+        }
+        output.flush();
+        return created;
+    }
+
+    private ImportRow parseJsonRow(int line, String raw) {
+        try {
+            return new ImportRow(line, objectMapper.readValue(raw, CreateProfileRequest.class), null);
+        } catch (IOException ex) {
+            return new ImportRow(line, null, "Malformed JSON row: " + ex.getOriginalMessage());
+        }
+    }
+
+    private static Map<String, Integer> parseCsvHeader(String raw) {
+        List<String> columns = splitCsvLine(raw);
+        Map<String, Integer> header = new HashMap<>();
+        for (int i = 0; i < columns.size(); i++) header.put(columns.get(i).toLowerCase(), i);
+        return header;
+    }
+
+    private static ImportRow parseCsvRow(int line, String raw, Map<String, Integer> header) {
+        List<String> values = splitCsvLine(raw);
+        CreateProfileRequest request = new CreateProfileRequest();
+        request.setFirstName(column(values, header, "firstName"));
+        request.setLastName(column(values, header, "lastName"));
+        request.setEmail(column(values, header, "email"));
+        request.setPhoneNumber(column(values, header, "phoneNumber"));
+        request.setPassword(column(values, header, "password"));
+
+        String role = column(values, header, "role");
+        if (role != null) {
+            try {
+                request.setRole(UserRole.valueOf(role.toUpperCase()));
+            } catch (IllegalArgumentException ex) {
+                return new ImportRow(line, request, "role: Unknown role " + role);
+            }
+        }
+        return new ImportRow(line, request, null);
+    }
+
+    private static String column(List<String> values, Map<String, Integer> header, String name) {
+        int index = header.get(name.toLowerCase());
+        if (index >= values.size()) return null;
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /** Splits one CSV record, honouring double-quoted fields and "" escapes. */
+    private static List<String> splitCsvLine(String raw) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < raw.length() && raw.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    private static String emailOf(ImportRow row) {
+        return row.request() != null ? row.request().getEmail() : null;
+    }
+}
@@ -12,11 +12,14 @@ import com.rentmate.service.user.domain.mapper.EventMapper;
 import com.rentmate.service.user.domain.mapper.UserMapper;
 import com.rentmate.service.user.repository.UserRepository;
 import com.rentmate.service.user.repository.UserSessionRepository;
+import com.rentmate.service.user.service.AdminStatsService;
+import com.rentmate.service.user.service.TrustScoreService;
 import com.rentmate.service.user.service.UserEventPublisher;
 import com.rentmate.service.user.service.UserService;
 import com.rentmate.service.user.service.shared.exception.BadRequestException;
 import com.rentmate.service.user.service.shared.exception.NotFoundException;
-import jakarta.transaction.Transactional;
+import com.rentmate.service.user.service.shared.util.AccessTokenRevocations;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -32,9 +35,12 @@ import java.util.List;
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserSessionRepository userSessionRepository;
+    private final AccessTokenRevocations tokenRevocations;
     private final UserEventPublisher eventPublisher;
+    private final TrustScoreService trustScoreService;
+    private final AdminStatsService statsService;
     private final PasswordEncoder encoder;
-    @Override
+    @Override @Transactional(readOnly = true)
     public UserProfileResponse getUserProfile() {
         User user = userRepository.
                 findById(UserService.getAuthenticatedUserId()).
@@ -63,7 +69,7 @@ public class UserServiceImpl implements UserService {
         return UserMapper.toUserProfileResponse(user);
     }
 
-    @Override
+    @Override @Transactional(readOnly = true)
     public PublicUserProfileResponse getPublicUserProfile(Long userId) {
         return userRepository.findById(userId, PublicUserProfileResponse.class)
                 .orElseThrow(() -> new NotFoundException("User profile not found"));
@@ -74,11 +80,14 @@ public class UserServiceImpl implements UserService {
         Long userId = UserService.getAuthenticatedUserId();
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("User profile not found"));
+        statsService.userChanged(user.getRole(), user.getActivityStatus(), user.getRole(), AccountActivityStatus.INACTIVE);
         user.setDisabled(true);
         user.setActivityStatus(AccountActivityStatus.INACTIVE);
         userRepository.save(user);
+        trustScoreService.refresh(userId);
 
         userSessionRepository.deactivateSessionsForUser(userId);
+        tokenRevocations.revokeAll(userId);
 
         ProfileDisabledEvent event = EventMapper.toProfileDisabledEvent(user,"self desire", "SELF");
         eventPublisher.publishProfileDisabledEvent(event);
@@ -89,14 +98,17 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("User profile not found"));
 
+        statsService.userChanged(user.getRole(), user.getActivityStatus(), user.getRole(), request.status());
         user.setActivityStatus(request.status());
         if(request.status() == AccountActivityStatus.SUSPENDED_BY_ADMIN) {
             user.setDisabled(true);
             userSessionRepository.deactivateSessionsForUser(userId);
+            tokenRevocations.revokeAll(userId);
         }
 
         userRepository.save(user);
         userRepository.flush();
+        trustScoreService.refresh(userId);
 
         if (user.isDisabled()) {
             ProfileDisabledEvent event = EventMapper.toProfileDisabledEvent(user, request.reason(), "ADMIN");
@@ -115,6 +127,7 @@ public class UserServiceImpl implements UserService {
 
         userRepository.save(user);
         userRepository.flush();
+        statsService.userChanged(null, null, user.getRole(), user.getActivityStatus());
 
         UserRegisteredEvent event = EventMapper.toUserRegisteredEvent(user);
         eventPublisher.publishUserRegistered(event);
@@ -127,13 +140,14 @@ public class UserServiceImpl implements UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("User profile not found"));
 
+        statsService.userChanged(user.getRole(), user.getActivityStatus(), request.role(), user.getActivityStatus());
         user.setRole(request.role());
         userRepository.save(user);
 
         return UserMapper.toUserProfileResponse(user);
     }
 
-    @Override
+    @Override @Transactional(readOnly = true)
     public UserListResponse getAllUsers(Integer page, Integer limit, UserRole role, AccountActivityStatus status,
                                         Boolean isVerified, String search, String sortBy, String sortOrder) {
 
@@ -167,13 +181,19 @@ public class UserServiceImpl implements UserService {
         );
     }
 
-    @Override
+    @Override @Transactional(readOnly = true)
     public UserProfileResponse getUserProfile(Long userId) {
         return UserMapper.toUserProfileResponse(userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("User profile not found")));
     }
 
 
+    @Override @Transactional(readOnly = true)
+    public long getUserVersion(Long userId) {
+        return userRepository.findVersionById(userId)
+                .orElseThrow(() -> new NotFoundException("User profile not found"));
+    }
+
     private Sort createSort(String sortBy, String sortOrder) {
         String field = mapSortField(sortBy);
 
@@ -194,6 +214,8 @@ public class UserServiceImpl implements UserService {
                 return "averageRating";
             case "firstname":
                 return "firstName";
+            case "trustscore":
+                return "trustScore";
             default:
                 return "createdAt";
         }
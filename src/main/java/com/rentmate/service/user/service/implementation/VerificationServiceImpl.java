@@ -1,82 +1,139 @@
 package com.rentmate.service.user.service.implementation;
 
+import com.rentmate.service.user.domain.dto.BulkActionResponse;
+import com.rentmate.service.user.domain.dto.BulkActionResult;
+import com.rentmate.service.user.domain.dto.BulkActionResult.Outcome;
+import com.rentmate.service.user.domain.dto.SignedUploadParams;
+import com.rentmate.service.user.domain.dto.event.IdentityVerificationApprovedEvent;
+import com.rentmate.service.user.domain.dto.event.IdentityVerificationRejectedEvent;
 import com.rentmate.service.user.domain.dto.user.UserEmailDto;
 import com.rentmate.service.user.domain.dto.verification.*;
 import com.rentmate.service.user.domain.entity.User;
+import com.rentmate.service.user.domain.entity.UserVerificationState;
 import com.rentmate.service.user.domain.entity.VerificationRequest;
 import com.rentmate.service.user.domain.enumuration.VerificationRequestStatus;
 import com.rentmate.service.user.domain.mapper.EventMapper;
 import com.rentmate.service.user.domain.mapper.VerificationMapper;
 import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.repository.UserVerificationStateRepository;
 import com.rentmate.service.user.repository.VerificationRequestRepository;
+import com.rentmate.service.user.service.AdminStatsService;
 import com.rentmate.service.user.service.CloudinaryService;
+import com.rentmate.service.user.service.TrustScoreService;
 import com.rentmate.service.user.service.UserEventPublisher;
 import com.rentmate.service.user.service.UserService;
 import com.rentmate.service.user.service.VerificationService;
+import com.rentmate.service.user.service.shared.exception.BadRequestException;
+import com.rentmate.service.user.service.shared.exception.ConflictException;
 import com.rentmate.service.user.service.shared.exception.ForbiddenActionException;
 import com.rentmate.service.user.service.shared.exception.NotFoundException;
 import com.rentmate.service.user.service.shared.specification.VerificationRequestSpecification;
-import jakarta.transaction.Transactional;
+import com.rentmate.service.user.service.shared.util.CloudinaryUploadSigner;
+import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.*;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
 
 @Service @RequiredArgsConstructor @Slf4j
 public class VerificationServiceImpl implements VerificationService {
     private final CloudinaryService cloudinaryService;
+    private final CloudinaryUploadSigner uploadSigner;
     private final UserRepository userRepository;
     private final VerificationRequestRepository verificationRepository;
+    private final UserVerificationStateRepository verificationStateRepository;
     private final UserEventPublisher eventPublisher;
+    private final TrustScoreService trustScoreService;
+    private final AdminStatsService statsService;
+    private final TransactionTemplate transactionTemplate;
+
+    // off by default, as before image checks existed: a slow or unreachable Cloudinary must not fail submissions
+    @Value("${verification.cloudinary.check-images:false}")
+    private boolean checkImages;
+
+    @Value("${verification.cloudinary.async-validation:false}")
+    private boolean asyncImageValidation;
+
     @Override
     public Map<String, Object> getUploadUrls() {
-        Map<String, Object> frontParams = cloudinaryService.generateSignedParams("id_front_" + UUID.randomUUID());
-        Map<String, Object> backParams = cloudinaryService.generateSignedParams("id_back_" + UUID.randomUUID());
+        String uploadId = UUID.randomUUID().toString();
+        List<SignedUploadParams> slots = uploadSigner.sign("verifications",
+                List.of("id_front_" + uploadId, "id_back_" + uploadId));
 
-        log.info("responding with signed params frontParams: {}, backParams: {}", frontParams, backParams);
+        // never log the signed params themselves, they carry the api key and a valid signature
+        log.debug("Issued verification upload slots for id_front_{} and id_back_{}", uploadId, uploadId);
 
         return Map.of(
-                "front", frontParams,
-                "back", backParams
+                "front", slots.get(0),
+                "back", slots.get(1)
         );
     }
 
-    @Override
+    @Override @Transactional(readOnly = true)
     public CanSubmitResponse canSubmit() {
         Long userId = UserService.getAuthenticatedUserId();
-        if (verificationRepository.anyPendingOrApprovedRequestForUser(userId).isPresent()) {
+        Optional<UserVerificationState> state = verificationStateRepository.findById(userId);
+
+        if (state.isEmpty())
+            return new CanSubmitResponse(true, "You can submit verification request",LocalDateTime.now());
+
+        if (state.get().getStatus() != VerificationRequestStatus.REJECTED) {
             return new CanSubmitResponse(false,
                     "You can't submit verification request for now because your already have one with PENDING/APPROVED status.",null);
         }
 
-        Optional<LocalDateTime> lastRejectionTime = verificationRepository.findLastRejectionTimeForUser(userId);
-
-        if(lastRejectionTime.isEmpty() || lastRejectionTime.get().plusHours(48).isBefore(LocalDateTime.now()))
+        LocalDateTime canResubmitAfter = state.get().getCanResubmitAfter();
+        if(canResubmitAfter == null || canResubmitAfter.isBefore(LocalDateTime.now()))
             return new CanSubmitResponse(true, "You can submit verification request",LocalDateTime.now());
 
-        return new CanSubmitResponse(false, "You can't submit verification request for now, 48 hours must be passed on the last rejection", lastRejectionTime.get().plusHours(48));
+        return new CanSubmitResponse(false, "You can't submit verification request for now, 48 hours must be passed on the last rejection", canResubmitAfter);
     }
 
     @Override
     public VerificationResponse createVerification(CreateVerificationRequest request) {
+        // cheap early exit before any remote call, the claim below is what actually guards the insert
         if(!canSubmit().canSubmit())
             throw new ForbiddenActionException("You can't submit verification request for now");
 
-        User user = new User();
-        user.setId(UserService.getAuthenticatedUserId());
+        User user = userRepository.getReferenceById(UserService.getAuthenticatedUserId());
         VerificationRequest verificationRequest = VerificationMapper.toVerificationRequest(request, user);
 
-        verificationRepository.save(verificationRequest);
+        if (checkImages && asyncImageValidation) {
+            // accept right away, the request only reaches the review queue once its images are confirmed
+            verificationRequest.setStatus(VerificationRequestStatus.VALIDATING);
+        } else if (checkImages) {
+            checkImagesExist(verificationRequest);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!claimSubmission(user.getId(), verificationRequest.getStatus()))
+                throw new ForbiddenActionException("You can't submit verification request for now");
+            verificationRepository.save(verificationRequest);
+            statsService.verificationChanged(null, verificationRequest.getStatus());
+        });
+
+        if (checkImages && asyncImageValidation) validateImagesInBackground(verificationRequest);
         return VerificationMapper.toVerificationResponse(verificationRequest);
     }
 
-    @Override
+    @Override @Transactional(readOnly = true)
     public VerificationDetailsResponse getVerification(Long id) {
         VerificationRequest vr = verificationRepository.findByIdWithDetails(id)
                 .orElseThrow(() -> new NotFoundException("Verification not found with the given id"));
@@ -88,9 +145,10 @@ public class VerificationServiceImpl implements VerificationService {
     public VerificationResponse approveVerification(Long id) {
         VerificationRequest vr = verificationRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Verification not found with the given id"));
+        checkReviewable(vr);
 
-        User reviewer = new User();
-        reviewer.setId(UserService.getAuthenticatedUserId());
+        User reviewer = userRepository.getReferenceById(UserService.getAuthenticatedUserId());
+        VerificationRequestStatus previousStatus = vr.getStatus();
 
         vr.setStatus(VerificationRequestStatus.APPROVED);
         vr.setReviewedBy(reviewer);
@@ -98,7 +156,10 @@ public class VerificationServiceImpl implements VerificationService {
         vr.setRejectionReason(null);
 
         verificationRepository.save(vr);
+        statsService.verificationChanged(previousStatus, vr.getStatus());
+        verificationStateRepository.updateState(vr.getUser().getId(), VerificationRequestStatus.APPROVED, null);
         userRepository.verifyUser(vr.getUser().getId());
+        trustScoreService.refresh(vr.getUser().getId());
 
         String email = userRepository.findById(vr.getUser().getId(), UserEmailDto.class)
                 .orElseThrow(() -> new NotFoundException("user not found"))
@@ -109,13 +170,14 @@ public class VerificationServiceImpl implements VerificationService {
         return VerificationMapper.toVerificationResponse(vr);
     }
 
-    @Override
+    @Override @Transactional
     public VerificationResponse rejectVerification(Long id, String reason) {
         VerificationRequest vr = verificationRepository.findById(id)
                 .orElseThrow(() -> new NotFoundException("Verification not found with the given id"));
+        checkReviewable(vr);
 
-        User reviewer = new User();
-        reviewer.setId(UserService.getAuthenticatedUserId());
+        User reviewer = userRepository.getReferenceById(UserService.getAuthenticatedUserId());
+        VerificationRequestStatus previousStatus = vr.getStatus();
 
         vr.setStatus(VerificationRequestStatus.REJECTED);
         vr.setReviewedBy(reviewer);
@@ -124,6 +186,9 @@ public class VerificationServiceImpl implements VerificationService {
         vr.setCanResubmitAfter(LocalDateTime.now().plusHours(48));
 
         verificationRepository.save(vr);
+        statsService.verificationChanged(previousStatus, vr.getStatus());
+        verificationStateRepository.updateState(vr.getUser().getId(), VerificationRequestStatus.REJECTED,
+                vr.getCanResubmitAfter());
 
         String email = userRepository.findById(vr.getUser().getId(), UserEmailDto.class)
                 .orElseThrow(() -> new NotFoundException("user not found"))
@@ -134,29 +199,41 @@ public class VerificationServiceImpl implements VerificationService {
         return VerificationMapper.toVerificationResponse(vr);
     }
 
-    @Override
+    @Override @Transactional
+    public BulkActionResponse approveVerifications(List<Long> ids) {
+        return reviewAll(ids, VerificationRequestStatus.APPROVED, null);
+    }
+
+    @Override @Transactional
+    public BulkActionResponse rejectVerifications(List<Long> ids, String reason) {
+        return reviewAll(ids, VerificationRequestStatus.REJECTED, reason);
+    }
+
+    @Override @Transactional(readOnly = true)
     public VerificationListResponse getAll(Integer page, Integer limit, VerificationRequestStatus status,
                                            String sortBy, String sortOrder) {
         Pageable peagble = PageRequest.of(page-1, limit, mapSort(sortBy, sortOrder));
 
-        Specification<VerificationRequest> spec = Specification.unrestricted();
-        if(status != null)
-            spec = spec.and(VerificationRequestSpecification.withStatus(status));
+        Page<Long> ids = status != null
+                ? verificationRepository.findIdsByStatus(status, peagble)
+                : verificationRepository.findIds(peagble);
 
-        Page<VerificationRequest> list = verificationRepository.findAll(spec,peagble);
+        Map<Long, VerificationResponse> rows = new HashMap<>();
+        if (ids.hasContent())
+            verificationRepository.findResponsesByIdIn(ids.getContent()).forEach(r -> rows.put(r.id(), r));
 
         return new VerificationListResponse(
                 page,
-                list.getTotalPages(),
-                list.getTotalElements(),
+                ids.getTotalPages(),
+                ids.getTotalElements(),
                 limit,
-                list.hasNext(),
-                list.hasPrevious(),
-                list.getContent().stream().map(VerificationMapper::toVerificationResponse).toList()
+                ids.hasNext(),
+                ids.hasPrevious(),
+                ids.getContent().stream().map(rows::get).filter(Objects::nonNull).toList()
         );
     }
 
-    @Override
+    @Override @Transactional(readOnly = true)
     public Iterable<VerificationResponse> getCurrentUserVerifications() {
         Long userId = UserService.getAuthenticatedUserId();
 
@@ -167,6 +244,143 @@ public class VerificationServiceImpl implements VerificationService {
                 .toList();
     }
 
+    @Override
+    public void retryStaleImageValidations() {
+        var stale = verificationRepository.findStaleValidations(LocalDateTime.now().minusMinutes(2));
+        if (stale.isEmpty()) return;
+
+        log.info("Retrying image validation for {} verification requests", stale.size());
+        stale.forEach(this::validateImagesInBackground);
+    }
+
+    /**
+     * Moves the user's verification state to {@code status} if they have no open request and are past
+     * any rejection cooldown. Runs as single-row statements, so two parallel submissions from the same
+     * user serialize on the state row and only one of them wins.
+     */
+    private boolean claimSubmission(Long userId, VerificationRequestStatus status) {
+        if (verificationStateRepository.insertIfAbsent(userId, status.name()) == 1) return true;
+        return verificationStateRepository.claimAfterRejection(userId, status, LocalDateTime.now()) == 1;
+    }
+
+    private static void checkReviewable(VerificationRequest vr) {
+        // VALIDATING requests are not in the review queue yet, the others were already reviewed
+        if (vr.getStatus() != VerificationRequestStatus.PENDING)
+            throw new ConflictException("Verification is " + vr.getStatus());
+    }
+
+    /*
+     * Set-based review: one locked read of the requests with their users' emails, one UPDATE of the requests, one
+     * of the verification states and, on approval, one of the users. The notification events go out as one batch
+     * after commit.
+     */
+    private BulkActionResponse reviewAll(List<Long> ids, VerificationRequestStatus decision, String reason) {
+        Long reviewerId = UserService.getAuthenticatedUserId();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime canResubmitAfter = decision == VerificationRequestStatus.REJECTED ? now.plusHours(48) : null;
+
+        Set<Long> distinctIds = new LinkedHashSet<>(ids);
+        Map<Long, VerificationReviewRow> rows = new HashMap<>();
+        verificationRepository.findReviewRowsForUpdate(distinctIds).forEach(row -> rows.put(row.getId(), row));
+
+        List<BulkActionResult> results = new ArrayList<>(distinctIds.size());
+        List<VerificationReviewRow> reviewable = new ArrayList<>(rows.size());
+        for (Long id : distinctIds) {
+            VerificationReviewRow row = rows.get(id);
+            if (row == null) {
+                results.add(BulkActionResult.rejected(id, Outcome.NOT_FOUND, "Verification not found with the given id"));
+            } else if (!row.getStatus().equals(VerificationRequestStatus.PENDING.name())) {
+                // same rule as checkReviewable
+                results.add(BulkActionResult.rejected(id, Outcome.INVALID_STATE, "Verification is " + row.getStatus()));
+            } else {
+                results.add(BulkActionResult.applied(id));
+                reviewable.add(row);
+            }
+        }
+        if (reviewable.isEmpty()) return BulkActionResponse.of(results);
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        reviewable.forEach(row -> userIds.add(row.getUserId()));
+
+        verificationRepository.reviewAll(reviewable.stream().map(VerificationReviewRow::getId).toList(),
+                decision.name(), reviewerId, now, reason, canResubmitAfter);
+        verificationStateRepository.updateStates(userIds, decision, canResubmitAfter);
+        if (decision == VerificationRequestStatus.APPROVED) {
+            userRepository.verifyUsers(userIds);
+            trustScoreService.refresh(userIds);
+        }
+        reviewable.forEach(row -> statsService.verificationChanged(VerificationRequestStatus.PENDING, decision));
+
+        if (decision == VerificationRequestStatus.APPROVED) {
+            List<IdentityVerificationApprovedEvent> events = reviewable.stream()
+                    .map(row -> new IdentityVerificationApprovedEvent(row.getUserId(), row.getId(), row.getEmail(),
+                            row.getCreatedAt(), now))
+                    .toList();
+            afterCommit(() -> eventPublisher.publishIdentityVerificationsApproved(events));
+        } else {
+            List<IdentityVerificationRejectedEvent> events = reviewable.stream()
+                    .map(row -> new IdentityVerificationRejectedEvent(row.getUserId(), row.getId(), row.getEmail(),
+                            row.getCreatedAt(), now, reason))
+                    .toList();
+            afterCommit(() -> eventPublisher.publishIdentityVerificationsRejected(events));
+        }
+
+        return BulkActionResponse.of(results);
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    action.run();
+                } catch (Exception e) {
+                    // the reviews are committed; only the notifications are lost
+                    log.error("Could not publish verification review events", e);
+                }
+            }
+        });
+    }
+
+    private void checkImagesExist(VerificationRequest vr) {
+        boolean exists;
+        try {
+            exists = cloudinaryService.resourcesExist(vr.getIdFrontImageUrl(), vr.getIdBackImageUrl()).join();
+        } catch (CompletionException e) {
+            log.warn("Could not validate ID images: {}", e.getCause().toString());
+            throw new BadRequestException("ID images could not be validated right now, please try again");
+        }
+        if (!exists) throw new BadRequestException("ID images were not found, upload them before submitting");
+    }
+
+    private void validateImagesInBackground(VerificationRequest vr) {
+        Long id = vr.getId();
+        Long userId = vr.getUser().getId();
+        cloudinaryService.resourcesExist(vr.getIdFrontImageUrl(), vr.getIdBackImageUrl())
+                .whenComplete((exists, error) -> {
+                    if (error != null) {
+                        // left in VALIDATING, retryStaleImageValidations picks it up again
+                        log.warn("Image validation for verification {} failed: {}", id,
+                                error instanceof TimeoutException ? "timed out" : error.toString());
+                    } else if (exists) {
+                        completeValidation(id, userId, VerificationRequestStatus.PENDING, null);
+                    } else {
+                        completeValidation(id, userId, VerificationRequestStatus.REJECTED,
+                                "ID images were not found, upload them again and resubmit");
+                    }
+                });
+    }
+
+    private void completeValidation(Long id, Long userId, VerificationRequestStatus status, String reason) {
+        transactionTemplate.executeWithoutResult(tx -> {
+            // a failed image check is not a review rejection, so no resubmission cooldown
+            if (verificationRepository.completeValidation(id, status, reason) == 1) {
+                verificationStateRepository.updateState(userId, status, null);
+                statsService.verificationChanged(VerificationRequestStatus.VALIDATING, status);
+            }
+        });
+    }
+
     private Sort mapSort(String sortBy, String sortOrder) {
         String sortByMapped = switch (sortBy.toLowerCase().trim()) {
             case "id" -> "id";
@@ -174,7 +388,8 @@ public class VerificationServiceImpl implements VerificationService {
             default -> "createdAt";
         };
 
-        return sortOrder.toLowerCase().trim().equals("desc") ?
-                Sort.by(sortByMapped).descending() : Sort.by(sortByMapped).ascending();
+        // id as tie-breaker keeps pages stable and matches the trailing column of the indexes
+        Sort sort = sortByMapped.equals("id") ? Sort.by("id") : Sort.by(sortByMapped).and(Sort.by("id"));
+        return sortOrder.toLowerCase().trim().equals("desc") ? sort.descending() : sort.ascending();
     }
 }
\ No newline at end of file
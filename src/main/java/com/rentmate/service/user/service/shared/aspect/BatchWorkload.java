@@ -0,0 +1,15 @@
+package com.rentmate.service.user.service.shared.aspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Runs the method's database work on the batch connection pool, keeping the interactive pool free for requests.
+ * Use it for scheduled jobs and bulk endpoints.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface BatchWorkload {
+}
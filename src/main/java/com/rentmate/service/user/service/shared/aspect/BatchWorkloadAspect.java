@@ -0,0 +1,26 @@
+package com.rentmate.service.user.service.shared.aspect;
+
+import com.rentmate.service.user.config.datasource.WorkloadRoutingDataSource;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// runs outside @Transactional so the workload is known before the transaction takes its connection
+@Aspect @Component @Order(Ordered.HIGHEST_PRECEDENCE)
+public class BatchWorkloadAspect {
+
+    @Around("@annotation(com.rentmate.service.user.service.shared.aspect.BatchWorkload) || " +
+            "@within(com.rentmate.service.user.service.shared.aspect.BatchWorkload)")
+    public Object runAsBatch(ProceedingJoinPoint joinPoint) throws Throwable {
+        boolean outer = !WorkloadRoutingDataSource.isBatchWorkload();
+        WorkloadRoutingDataSource.setBatchWorkload(true);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (outer) WorkloadRoutingDataSource.setBatchWorkload(false);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ProblemDetail;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -26,6 +27,14 @@ public class GlobalExceptionHandlers {
         return result;
     }
 
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ProblemDetail handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException exception) {
+        var result = ProblemDetail.forStatus(HttpStatus.CONFLICT);
+        result.setTitle("Conflict");
+        result.setDetail("The resource was modified by another request, reload it and try again.");
+        return result;
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ProblemDetail> handleValidationException(MethodArgumentNotValidException ex) {
         ProblemDetail pd = ProblemDetail.forStatus(HttpStatus.BAD_REQUEST);
@@ -103,4 +112,12 @@ public class GlobalExceptionHandlers {
         result.setDetail(ex.getMessage());
         return ResponseEntity.status(HttpStatus.FORBIDDEN).body(result);
     }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ProblemDetail> handleServiceUnavailableException(ServiceUnavailableException ex) {
+        var result = ProblemDetail.forStatus(HttpStatus.SERVICE_UNAVAILABLE);
+        result.setTitle("Service unavailable");
+        result.setDetail(ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(result);
+    }
 }
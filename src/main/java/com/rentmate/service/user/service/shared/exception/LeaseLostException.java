@@ -0,0 +1,7 @@
+package com.rentmate.service.user.service.shared.exception;
+
+public class LeaseLostException extends RuntimeException {
+    public LeaseLostException(String message) {
+        super(message);
+    }
+}
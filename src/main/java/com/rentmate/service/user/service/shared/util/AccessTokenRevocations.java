@@ -0,0 +1,100 @@
+package com.rentmate.service.user.service.shared.util;
+
+import com.rentmate.service.user.domain.dto.event.AccessTokensRevokedEvent;
+import com.rentmate.service.user.repository.AccessTokenRevocationRepository;
+import com.rentmate.service.user.service.UserEventPublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Users whose outstanding access tokens must stop working before they expire (suspension, password
+ * reset, disabled profile). Only revocations younger than the access token lifetime are kept, so the
+ * map stays small and a lookup is a single hash probe per request. Every instance keeps its own copy,
+ * kept in sync through the {@code user.tokens.revoked} event, and loads the ones it has not seen from
+ * access_token_revocations when it starts.
+ */
+@Component @Slf4j
+public class AccessTokenRevocations {
+    // userId -> tokens issued strictly before this epoch second are revoked
+    private final Map<Long, Long> revokedBefore = new ConcurrentHashMap<>();
+    private final AccessTokenRevocationRepository revocationRepository;
+    private final UserEventPublisher eventPublisher;
+    private final long tokenLifetimeSeconds;
+
+    public AccessTokenRevocations(AccessTokenRevocationRepository revocationRepository,
+                                  UserEventPublisher eventPublisher,
+                                  @Value("${jwt.expiration-time-minutes:60}") long tokenLifetimeMinutes) {
+        this.revocationRepository = revocationRepository;
+        this.eventPublisher = eventPublisher;
+        this.tokenLifetimeSeconds = TimeUnit.MINUTES.toSeconds(tokenLifetimeMinutes);
+    }
+
+    /**
+     * Revokes every access token the user holds right now, on all instances. Tokens issued in the same
+     * second as the revocation stay valid, so a login right after a password reset is not locked out.
+     * <p>
+     * Inside a transaction the revocation is stored with it and only takes effect once it commits, so a
+     * suspension or password reset that rolls back leaves the user's tokens alone.
+     */
+    public void revokeAll(Long userId) {
+        long issuedBefore = System.currentTimeMillis() / 1000;
+        revocationRepository.upsert(userId, issuedBefore);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            broadcast(userId, issuedBefore);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                broadcast(userId, issuedBefore);
+            }
+        });
+    }
+
+    public void apply(Long userId, long issuedBefore) {
+        revokedBefore.merge(userId, issuedBefore, Math::max);
+    }
+
+    public boolean isRevoked(Long userId, Date issuedAt) {
+        Long before = revokedBefore.get(userId);
+        return before != null && (issuedAt == null || issuedAt.getTime() / 1000 < before);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRecent() {
+        long cutoff = System.currentTimeMillis() / 1000 - tokenLifetimeSeconds;
+        var recent = revocationRepository.findByRevokedBeforeGreaterThanEqual(cutoff);
+        recent.forEach(revocation -> apply(revocation.getUserId(), revocation.getRevokedBefore()));
+        log.info("Loaded {} access token revocations", recent.size());
+    }
+
+    @Scheduled(fixedDelay = 5, timeUnit = TimeUnit.MINUTES)
+    public void purgeExpired() {
+        // any token issued before this point has expired on its own
+        long cutoff = System.currentTimeMillis() / 1000 - tokenLifetimeSeconds;
+        revokedBefore.values().removeIf(issuedBefore -> issuedBefore < cutoff);
+        revocationRepository.deleteOlderThan(cutoff);
+    }
+
+    private void broadcast(Long userId, long issuedBefore) {
+        apply(userId, issuedBefore);
+        try {
+            eventPublisher.publishAccessTokensRevokedEvent(new AccessTokensRevokedEvent(userId, issuedBefore));
+        } catch (Exception e) {
+            // running instances miss this one, instances started later still load it
+            log.error("Could not publish the access token revocation of user {}", userId, e);
+        }
+    }
+}
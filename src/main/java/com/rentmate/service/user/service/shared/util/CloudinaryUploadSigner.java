@@ -0,0 +1,75 @@
+package com.rentmate.service.user.service.shared.util;
+
+import com.cloudinary.Cloudinary;
+import com.rentmate.service.user.domain.dto.SignedUploadParams;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Signs direct-upload parameters the same way {@code Cloudinary#apiSignRequest} does
+ * (sorted {@code key=value} pairs joined by {@code &}, followed by the API secret, hex digest),
+ * but with the key, secret and digest algorithm resolved once instead of on every call.
+ */
+@Component
+public class CloudinaryUploadSigner {
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final String apiKey;
+    private final byte[] apiSecret;
+    private final ThreadLocal<MessageDigest> digest;
+
+    public CloudinaryUploadSigner(Cloudinary cloudinary) {
+        this.apiKey = cloudinary.config.apiKey;
+        this.apiSecret = cloudinary.config.apiSecret == null
+                ? new byte[0] : cloudinary.config.apiSecret.getBytes(StandardCharsets.UTF_8);
+
+        String algorithm = cloudinary.config.signatureAlgorithm.getAlgorithmId();
+        newDigest(algorithm); // fail at startup rather than on the first upload
+        this.digest = ThreadLocal.withInitial(() -> newDigest(algorithm));
+    }
+
+    public SignedUploadParams sign(String folder, String publicId) {
+        return sign(folder, publicId, System.currentTimeMillis() / 1000, new StringBuilder(96));
+    }
+
+    /**
+     * Signs one upload slot per public id, all sharing the same timestamp.
+     */
+    public List<SignedUploadParams> sign(String folder, List<String> publicIds) {
+        long timestamp = System.currentTimeMillis() / 1000;
+        StringBuilder payload = new StringBuilder(96);
+        List<SignedUploadParams> slots = new ArrayList<>(publicIds.size());
+        for (String publicId : publicIds) {
+            slots.add(sign(folder, publicId, timestamp, payload));
+        }
+        return slots;
+    }
+
+    private SignedUploadParams sign(String folder, String publicId, long timestamp, StringBuilder payload) {
+        payload.setLength(0);
+        // parameters in alphabetical order, as Cloudinary expects
+        payload.append("folder=").append(folder)
+                .append("&public_id=").append(publicId)
+                .append("&timestamp=").append(timestamp);
+
+        MessageDigest md = digest.get();
+        md.update(payload.toString().getBytes(StandardCharsets.UTF_8));
+        String signature = HEX.formatHex(md.digest(apiSecret));
+
+        return new SignedUploadParams(publicId, folder, timestamp, signature, apiKey);
+    }
+
+    private static MessageDigest newDigest(String algorithm) {
+        try {
+            return MessageDigest.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unsupported Cloudinary signature algorithm " + algorithm, e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.rentmate.service.user.service.shared.util;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.PublicJwk;
+import io.jsonwebtoken.security.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keys used to sign and verify access tokens.
+ *
+ * <p>With {@code jwt.signing.algorithm=HS256} tokens are signed with the shared {@code jwt.secret-key} as before.
+ * With {@code ES256} or {@code EdDSA} (Ed25519) they are signed with the first private key in
+ * {@code jwt.signing.keys} and carry its id in the {@code kid} header. The public halves of all configured keys are
+ * published at {@code /.well-known/jwks.json}, so peer services can verify tokens without calling us.
+ *
+ * <p>{@code jwt.signing.keys} is a comma separated list of {@code kid:pkcs8-private-key:x509-public-key}, both keys
+ * base64 (DER). To rotate, put the new key first and keep the old one as {@code kid::x509-public-key} until the
+ * tokens it signed have expired.
+ */
+@Component @Slf4j
+public class JwtSigningKeys {
+    private final SecretKey hmacKey;
+    private final boolean acceptHmac;
+    private final SignatureAlgorithm algorithm;
+    private final String activeKeyId;
+    private final PrivateKey activeKey;
+    private final Map<String, PublicKey> verificationKeys = new LinkedHashMap<>();
+    private final List<PublicJwk<?>> publishedKeys = new ArrayList<>();
+
+    public JwtSigningKeys(@Value("${jwt.secret-key:this-is-not-a-key-at-all}") String secret,
+                          @Value("${jwt.signing.algorithm:HS256}") String algorithm,
+                          @Value("${jwt.signing.keys:}") List<String> keys,
+                          @Value("${jwt.signing.accept-hmac:true}") boolean acceptHmac) {
+        this.hmacKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.acceptHmac = acceptHmac;
+        this.algorithm = switch (algorithm.toUpperCase()) {
+            case "HS256" -> null;
+            case "ES256" -> Jwts.SIG.ES256;
+            case "EDDSA" -> Jwts.SIG.EdDSA;
+            default -> throw new IllegalStateException("Unsupported jwt.signing.algorithm " + algorithm);
+        };
+
+        String activeId = null;
+        PrivateKey active = null;
+        if (this.algorithm != null) {
+            String keyFactory = this.algorithm == Jwts.SIG.ES256 ? "EC" : "Ed25519";
+            for (String entry : keys) {
+                if (entry.isBlank()) continue;
+                String[] parts = entry.trim().split(":", 3);
+                if (parts.length != 3) {
+                    throw new IllegalStateException("jwt.signing.keys entries must be kid:private-key:public-key");
+                }
+                addVerificationKey(parts[0], decodePublic(keyFactory, parts[2]));
+                if (active == null && !parts[1].isBlank()) {
+                    activeId = parts[0];
+                    active = decodePrivate(keyFactory, parts[1]);
+                }
+            }
+            if (active == null) {
+                // fine for local runs; in a cluster every instance would sign with a different key
+                KeyPair pair = this.algorithm == Jwts.SIG.ES256
+                        ? Jwts.SIG.ES256.keyPair().build()
+                        : Jwks.CRV.Ed25519.keyPair().build();
+                activeId = UUID.randomUUID().toString();
+                active = pair.getPrivate();
+                addVerificationKey(activeId, pair.getPublic());
+                log.warn("No jwt.signing.keys configured for {}, signing with an ephemeral key {}",
+                        this.algorithm.getId(), activeId);
+            }
+        }
+        this.activeKeyId = activeId;
+        this.activeKey = active;
+    }
+
+    public boolean isAsymmetric() {
+        return algorithm != null;
+    }
+
+    public SignatureAlgorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public String getActiveKeyId() {
+        return activeKeyId;
+    }
+
+    public PrivateKey getActiveKey() {
+        return activeKey;
+    }
+
+    public SecretKey getHmacKey() {
+        return hmacKey;
+    }
+
+    /**
+     * Key that verifies a token with the given {@code kid}. Tokens without one are the HMAC tokens issued before
+     * the switch to asymmetric signing and are accepted only while {@code jwt.signing.accept-hmac} is on.
+     */
+    public Key verificationKey(String keyId) {
+        if (keyId == null) {
+            if (!isAsymmetric() || acceptHmac) return hmacKey;
+            throw new JwtException("Token has no key id");
+        }
+        PublicKey key = verificationKeys.get(keyId);
+        if (key == null) {
+            throw new JwtException("Unknown signing key " + keyId);
+        }
+        return key;
+    }
+
+    /**
+     * The public keys as a JWK set. Empty in HS256 mode, where there is nothing peers can verify with.
+     */
+    public Map<String, Object> publicJwks() {
+        return Map.of("keys", publishedKeys);
+    }
+
+    private void addVerificationKey(String keyId, PublicKey key) {
+        verificationKeys.put(keyId, key);
+        publishedKeys.add(Jwks.builder().key(key)
+                .id(keyId)
+                .algorithm(algorithm.getId())
+                .publicKeyUse("sig")
+                .build());
+    }
+
+    private static PrivateKey decodePrivate(String keyFactory, String base64) {
+        try {
+            return KeyFactory.getInstance(keyFactory)
+                    .generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(base64)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid private key in jwt.signing.keys", e);
+        }
+    }
+
+    private static PublicKey decodePublic(String keyFactory, String base64) {
+        try {
+            return KeyFactory.getInstance(keyFactory)
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(base64)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid public key in jwt.signing.keys", e);
+        }
+    }
+}
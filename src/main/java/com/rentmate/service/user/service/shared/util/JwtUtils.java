@@ -4,55 +4,69 @@ import com.rentmate.service.user.domain.dto.auth.ApplicationUser;
 import com.rentmate.service.user.domain.dto.user.UserPrincipal;
 import com.rentmate.service.user.domain.dto.user.UserProfileResponse;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.ProtectedHeader;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.security.Key;
 import java.util.Date;
 
 @Component
 public class JwtUtils {
-    private SecretKey key;
+    private final JwtSigningKeys signingKeys;
+    private final JwtParser parser;
     private long expirationTime;
 
-    public JwtUtils(@Value(value = "${jwt.secret-key:this-is-not-a-key-at-all}") String secret,
+    public JwtUtils(JwtSigningKeys signingKeys,
                     @Value(value = "${jwt.expiration-time-minutes:60}")long jwtExpirationMs) {
-        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.signingKeys = signingKeys;
         this.expirationTime = jwtExpirationMs;
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<>() {
+                    @Override
+                    protected Key locate(ProtectedHeader header) {
+                        return signingKeys.verificationKey(header.getKeyId());
+                    }
+                })
+                .build();
     }
 
     public String generateJwtToken(UserProfileResponse user) {
-        return Jwts.builder()
+        var builder = Jwts.builder()
                 .subject(user.id().toString())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + 1000 * 60 * expirationTime))
                 .claim("role", "ROLE_"+user.role())
                 .claim("username", user.username())
-                .claim("email", user.email())
-                .signWith(key)
-                .compact();
+                .claim("email", user.email());
+
+        if (signingKeys.isAsymmetric()) {
+            return builder.header().keyId(signingKeys.getActiveKeyId()).and()
+                    .signWith(signingKeys.getActiveKey(), signingKeys.getAlgorithm())
+                    .compact();
+        }
+        return builder.signWith(signingKeys.getHmacKey()).compact();
     }
 
 
     public boolean validateJwtToken(String authToken) {
-        Jwts.parser().verifyWith(key);
+        parser.parseSignedClaims(authToken);
         return true;
     }
 
     public Claims extractAllClaims(String token) {
-        return Jwts.parser().
-                verifyWith(key).
-                build().
-                parseSignedClaims(token).
-                getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public UserPrincipal extractUserPrincipal(String token) {
-        var claims = extractAllClaims(token);
+        return toUserPrincipal(extractAllClaims(token));
+    }
+
+    public UserPrincipal toUserPrincipal(Claims claims) {
         return new UserPrincipal(
                 claims.get("username", String.class),
                 Long.parseLong(claims.getSubject()),
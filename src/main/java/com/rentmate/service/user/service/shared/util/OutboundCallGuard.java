@@ -0,0 +1,149 @@
+package com.rentmate.service.user.service.shared.util;
+
+import com.rentmate.service.user.service.shared.exception.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs calls to other systems behind a per-dependency bulkhead, circuit breaker and time limit,
+ * so a slow or failing dependency can only hold a bounded number of request threads.
+ * Limits are configured per dependency under {@code resilience4j.*.instances.<dependency>}.
+ * <p>
+ * A call that runs past its time limit is interrupted, which on a virtual thread also aborts a blocked
+ * socket read. It keeps its bulkhead permit until it has actually stopped, so calls that ignore the
+ * interrupt still count against max-concurrent-calls.
+ */
+@Component
+public class OutboundCallGuard {
+    public static final String RENTAL_SERVICE = "rental-service";
+    public static final String CLOUDINARY = "cloudinary";
+
+    private final BulkheadRegistry bulkheads;
+    private final CircuitBreakerRegistry circuitBreakers;
+    private final TimeLimiterRegistry timeLimiters;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public OutboundCallGuard(BulkheadRegistry bulkheads, CircuitBreakerRegistry circuitBreakers,
+                             TimeLimiterRegistry timeLimiters) {
+        this.bulkheads = bulkheads;
+        this.circuitBreakers = circuitBreakers;
+        this.timeLimiters = timeLimiters;
+    }
+
+    /**
+     * Runs {@code call} for {@code dependency}. Failures of the call itself are rethrown unchanged
+     * (checked ones wrapped in {@link CompletionException}); a full bulkhead, open circuit or timeout
+     * becomes a {@link ServiceUnavailableException}.
+     */
+    public <T> T call(String dependency, Callable<T> call) {
+        Bulkhead bulkhead = bulkheads.bulkhead(dependency);
+        CircuitBreaker circuitBreaker = circuitBreakers.circuitBreaker(dependency);
+        TimeLimiter timeLimiter = timeLimiters.timeLimiter(dependency);
+
+        // the bulkhead sits outside the breaker, so rejected calls don't count as dependency failures
+        try {
+            bulkhead.acquirePermission();
+        } catch (BulkheadFullException e) {
+            throw unavailable(dependency, e);
+        }
+
+        InterruptibleCall<T> running = new InterruptibleCall<>(call, bulkhead);
+        Callable<T> timed = TimeLimiter.decorateFutureSupplier(timeLimiter, () -> running.start(executor));
+        try {
+            return CircuitBreaker.decorateCallable(circuitBreaker, timed).call();
+        } catch (CallNotPermittedException | TimeoutException e) {
+            throw unavailable(dependency, e);
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause());
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new CompletionException(e);
+        } finally {
+            // from here on the worker gives the permit back, if it was started
+            running.releaseIfNotStarted();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ServiceUnavailableException unavailable(String dependency, Exception cause) {
+        return new ServiceUnavailableException(dependency + " is not available right now, please try again later", cause);
+    }
+
+    /**
+     * Future of one call whose {@code cancel(true)} interrupts the thread running it; the future of
+     * {@link CompletableFuture#supplyAsync} ignores interruption, so a timed-out call would keep going.
+     * The bulkhead permit is released exactly once, when the call has finished or was never started.
+     */
+    private static final class InterruptibleCall<T> extends CompletableFuture<T> {
+        private final Callable<T> call;
+        private final Bulkhead bulkhead;
+        private final AtomicBoolean released = new AtomicBoolean();
+        private volatile boolean started;
+        private volatile Thread worker;
+
+        private InterruptibleCall(Callable<T> call, Bulkhead bulkhead) {
+            this.call = call;
+            this.bulkhead = bulkhead;
+        }
+
+        private InterruptibleCall<T> start(ExecutorService executor) {
+            // a virtual-thread-per-task executor starts every task it accepts, so run() always releases
+            executor.execute(this::run);
+            started = true;
+            return this;
+        }
+
+        private void run() {
+            worker = Thread.currentThread();
+            try {
+                if (!isDone()) complete(call.call());
+            } catch (Throwable e) {
+                completeExceptionally(e);
+            } finally {
+                worker = null;
+                release();
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            boolean cancelled = super.cancel(mayInterruptIfRunning);
+            Thread running = worker;
+            if (mayInterruptIfRunning && running != null) running.interrupt();
+            return cancelled;
+        }
+
+        private void releaseIfNotStarted() {
+            if (!started) release();
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) bulkhead.onComplete();
+        }
+    }
+
+    private static RuntimeException unwrap(Throwable cause) {
+        while (cause instanceof CompletionException && cause.getCause() != null
+                && cause.getCause() instanceof RuntimeException) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof RuntimeException runtime) return runtime;
+        return new CompletionException(cause);
+    }
+}
@@ -0,0 +1,36 @@
+package db.migration;
+
+import com.rentmate.service.user.repository.UserRepository;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+/**
+ * Scores the users that existed before V16 with the query the service keeps trust scores up to date with, one
+ * range of ids per statement. Runs outside a transaction so each range commits on its own; the query only touches
+ * rows whose score or tier differs, so a failed run can simply be repeated.
+ */
+public class V16_1__backfill_trust_scores extends BaseJavaMigration {
+    private static final long CHUNK = 1000;
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) {
+        NamedParameterJdbcTemplate jdbcTemplate =
+                new NamedParameterJdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        Long maxId = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT MAX(id) FROM users", Long.class);
+        if (maxId == null) return;
+
+        for (long fromId = 1; fromId <= maxId; fromId += CHUNK) {
+            jdbcTemplate.update(UserRepository.REFRESH_TRUST_SCORES_BETWEEN, new MapSqlParameterSource()
+                    .addValue("fromId", fromId)
+                    .addValue("toId", fromId + CHUNK - 1));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+-- Rental fields needed by report validation, maintained from rental-service events.
+CREATE TABLE rental_projections (
+    rental_id BIGINT NOT NULL,
+    owner_id BIGINT NOT NULL,
+    renter_id BIGINT NOT NULL,
+    status VARCHAR(32) NULL,
+    start_date DATETIME NULL,
+    end_date DATETIME NULL,
+    source_updated_at DATETIME(6) NOT NULL,
+
+    PRIMARY KEY (rental_id)
+);
@@ -0,0 +1,14 @@
+-- One row per scheduled job. The node whose lease is current runs the job; the fencing token grows with
+-- every acquisition so a node that lost its lease cannot commit work after the next holder started.
+CREATE TABLE scheduled_job_leases (
+    job_name VARCHAR(100) NOT NULL,
+    owner VARCHAR(255) NULL,
+    fencing_token BIGINT NOT NULL DEFAULT 0,
+    lease_until DATETIME(3) NOT NULL DEFAULT '1970-01-01 00:00:00',
+    acquired_at DATETIME(3) NULL,
+    heartbeat_at DATETIME(3) NULL,
+
+    PRIMARY KEY (job_name)
+);
+
+INSERT INTO scheduled_job_leases (job_name) VALUES ('report-escalation'), ('report-lock-release');
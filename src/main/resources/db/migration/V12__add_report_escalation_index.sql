@@ -0,0 +1,2 @@
+-- Escalation safety sweep: PENDING OVERDUE reports submitted before a cutoff.
+CREATE INDEX idx_report_type_status_submitted ON user_reports (report_type, status, submitted_at);
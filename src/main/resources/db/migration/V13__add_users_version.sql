@@ -0,0 +1,2 @@
+-- Row version for optimistic locking and conditional GETs (ETags) on profiles and ratings.
+ALTER TABLE users ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,26 @@
+-- Per-user rating histogram, maintained incrementally on every rating change so the distribution and the
+-- average no longer need a scan of user_ratings. recent_sum / recent_weight hold an exponentially decayed
+-- (90 day half-life) sum of ratings and count as of decayed_at; their ratio is the recent average.
+CREATE TABLE user_rating_stats (
+    user_id BIGINT NOT NULL,
+    star_1 INT NOT NULL DEFAULT 0,
+    star_2 INT NOT NULL DEFAULT 0,
+    star_3 INT NOT NULL DEFAULT 0,
+    star_4 INT NOT NULL DEFAULT 0,
+    star_5 INT NOT NULL DEFAULT 0,
+    recent_sum DOUBLE NOT NULL DEFAULT 0,
+    recent_weight DOUBLE NOT NULL DEFAULT 0,
+    decayed_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_rating_stats_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+INSERT INTO user_rating_stats (user_id, star_1, star_2, star_3, star_4, star_5, recent_sum, recent_weight, decayed_at)
+SELECT rated_user_id,
+       SUM(rating = 1), SUM(rating = 2), SUM(rating = 3), SUM(rating = 4), SUM(rating = 5),
+       SUM(rating * EXP(-LN(2) * TIMESTAMPDIFF(SECOND, created_at, NOW(3)) / (90 * 86400))),
+       SUM(EXP(-LN(2) * TIMESTAMPDIFF(SECOND, created_at, NOW(3)) / (90 * 86400))),
+       NOW(3)
+FROM user_ratings
+GROUP BY rated_user_id;
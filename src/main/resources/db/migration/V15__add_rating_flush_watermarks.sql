@@ -0,0 +1,12 @@
+-- Rating aggregates are buffered in memory and flushed every few hundred ms. Each instance records up to when
+-- its buffered changes are safely flushed; if it dies, ratings updated after that point get their aggregates
+-- recomputed by another instance.
+CREATE TABLE rating_flush_watermarks (
+    instance_id VARCHAR(64) NOT NULL,
+    flushed_through DATETIME(3) NOT NULL,
+    heartbeat_at DATETIME(3) NOT NULL,
+
+    PRIMARY KEY (instance_id)
+);
+
+CREATE INDEX idx_rating_updated_at ON user_ratings (updated_at);
@@ -0,0 +1,8 @@
+-- Precomputed trust score (0-100) and tier, so other services read one field instead of combining ratings,
+-- verification, reports and status themselves. The defaults are what a new, active, unrated and unverified
+-- account scores. Existing users are scored by db.migration.V16_1__backfill_trust_scores.
+ALTER TABLE users
+    ADD COLUMN trust_score SMALLINT NOT NULL DEFAULT 38,
+    ADD COLUMN trust_tier VARCHAR(20) NOT NULL DEFAULT 'LOW';
+
+CREATE INDEX idx_users_trust_score ON users (trust_score);
@@ -0,0 +1,11 @@
+-- Access tokens of a user issued before revoked_before (epoch seconds) are rejected. Instances keep recent rows
+-- in memory and learn of new ones through the user.tokens.revoked event; the table lets an instance that starts
+-- later, or missed an event, load the revocations that still matter.
+CREATE TABLE access_token_revocations (
+    user_id BIGINT NOT NULL,
+    revoked_before BIGINT NOT NULL,
+
+    PRIMARY KEY (user_id)
+);
+
+CREATE INDEX idx_revocations_revoked_before ON access_token_revocations (revoked_before);
@@ -0,0 +1,3 @@
+-- Covers the ratings ETag query (count, star sum and last update of a user's ratings) without row lookups.
+-- Also serves the rated_user_id foreign key, so MySQL drops the index it created for it.
+CREATE INDEX idx_rating_rated_user_updated ON user_ratings (rated_user_id, updated_at, rating);
@@ -0,0 +1,3 @@
+-- When the row was last rebuilt from user_ratings. A flush whose buffered changes committed before that may
+-- already be counted in it, so the flush recomputes the user instead of adding them again.
+ALTER TABLE user_rating_stats ADD COLUMN recomputed_at DATETIME(3) NULL;
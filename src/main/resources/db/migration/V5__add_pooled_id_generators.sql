@@ -0,0 +1,20 @@
+-- Pooled (pooled-lo) id allocation for high-volume tables so Hibernate can batch inserts.
+-- next_val holds the first id of the next block handed out to an application instance.
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(64) NOT NULL,
+    next_val BIGINT NOT NULL,
+
+    PRIMARY KEY (sequence_name)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'user_sessions', COALESCE(MAX(id), 0) + 1 FROM user_sessions;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'password_reset_tokens', COALESCE(MAX(id), 0) + 1 FROM password_reset_tokens;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'user_ratings', COALESCE(MAX(id), 0) + 1 FROM user_ratings;
+
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'user_reports', COALESCE(MAX(id), 0) + 1 FROM user_reports;
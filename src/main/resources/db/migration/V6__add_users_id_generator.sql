@@ -0,0 +1,3 @@
+-- Users join the pooled id allocation so bulk imports can be inserted in JDBC batches.
+INSERT INTO id_generators (sequence_name, next_val)
+SELECT 'users', COALESCE(MAX(id), 0) + 1 FROM users;
@@ -0,0 +1,2 @@
+alter table `verification_requests` modify column status
+enum('VALIDATING','PENDING','APPROVED','REJECTED') NOT NULL DEFAULT 'PENDING';
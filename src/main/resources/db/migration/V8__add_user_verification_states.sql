@@ -0,0 +1,26 @@
+-- One row per user holding the status of their latest verification request, so submission
+-- eligibility is a primary key lookup instead of two scans over verification_requests.
+CREATE TABLE user_verification_states (
+    user_id BIGINT NOT NULL,
+    status ENUM('VALIDATING', 'PENDING', 'APPROVED', 'REJECTED') NOT NULL,
+    can_resubmit_after TIMESTAMP NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_verification_state_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+);
+
+INSERT INTO user_verification_states (user_id, status, can_resubmit_after)
+SELECT user_id,
+       CASE
+           WHEN SUM(status = 'APPROVED') > 0 THEN 'APPROVED'
+           WHEN SUM(status = 'PENDING') > 0 THEN 'PENDING'
+           WHEN SUM(status = 'VALIDATING') > 0 THEN 'VALIDATING'
+           ELSE 'REJECTED'
+       END,
+       CASE
+           WHEN SUM(status IN ('APPROVED', 'PENDING', 'VALIDATING')) = 0
+               THEN MAX(reviewed_at) + INTERVAL 48 HOUR
+       END
+FROM verification_requests
+GROUP BY user_id;
@@ -0,0 +1,4 @@
+-- Admin review queue: filter by status, order by submission or review time.
+CREATE INDEX idx_verification_status_created ON verification_requests (status, created_at, id);
+CREATE INDEX idx_verification_status_reviewed ON verification_requests (status, reviewed_at, id);
+CREATE INDEX idx_verification_created ON verification_requests (created_at, id);
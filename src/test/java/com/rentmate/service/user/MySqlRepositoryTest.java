@@ -0,0 +1,27 @@
+package com.rentmate.service.user;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JPA slice on {@link MySqlTestcontainer} with the Flyway schema, each test rolled back. Skipped without Docker.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest(properties = {
+        // there is no config server in tests
+        "spring.cloud.config.fail-fast=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(MySqlTestcontainer.class)
+@Testcontainers(disabledWithoutDocker = true)
+public @interface MySqlRepositoryTest {
+}
@@ -0,0 +1,21 @@
+package com.rentmate.service.user;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * MySQL in a container, for tests of the native queries and of JDBC behaviour that only MySQL shows. Contexts that
+ * import it are cached, so test classes with the same setup share one container.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class MySqlTestcontainer {
+
+    @Bean
+    @ServiceConnection
+    MySQLContainer<?> mysqlContainer() {
+        return new MySQLContainer<>(DockerImageName.parse("mysql:8.4"));
+    }
+}
@@ -0,0 +1,24 @@
+package com.rentmate.service.user;
+
+import com.rentmate.service.user.domain.entity.User;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/** New users with the unique columns filled in, unique within the JVM, for tests that write to the database. */
+public final class TestUsers {
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    private TestUsers() {
+    }
+
+    public static User user() {
+        int n = SEQUENCE.incrementAndGet();
+        User user = new User();
+        user.setFirstName("Test");
+        user.setLastName("User" + n);
+        user.setEmail("user" + n + "@rentmate.test");
+        user.setPassword("{noop}password");
+        user.setPhoneNumber(String.format("+2010%08d", n));
+        return user;
+    }
+}
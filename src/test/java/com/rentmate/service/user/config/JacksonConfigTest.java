@@ -0,0 +1,59 @@
+package com.rentmate.service.user.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentmate.service.user.domain.dto.PagedResponse;
+import com.rentmate.service.user.domain.dto.rating.RatingResponse;
+import com.rentmate.service.user.domain.dto.user.UserProfileResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JacksonConfigTest {
+
+    @Test
+    void serializersAreBuiltWhenTheApplicationIsReady() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.register(JacksonConfig.class);
+            context.registerBean(ObjectMapper.class, () -> Jackson2ObjectMapperBuilder.json()
+                    .modulesToInstall(context.getBean(Module.class)).build());
+            context.refresh();
+            ObjectMapper objectMapper = context.getBean(ObjectMapper.class);
+            int cachedBefore = objectMapper.getSerializerProviderInstance().cachedSerializersCount();
+
+            context.publishEvent(new ApplicationReadyEvent(new SpringApplication(), new String[0], context, Duration.ZERO));
+
+            // one per DTO at least; the exact number grows with the dto package
+            assertThat(objectMapper.getSerializerProviderInstance().cachedSerializersCount())
+                    .isGreaterThan(cachedBefore + 20);
+        }
+    }
+
+    @Test
+    void blackbirdSerializesDtosLikeReflection() throws Exception {
+        ObjectMapper reflection = Jackson2ObjectMapperBuilder.json().build();
+        ObjectMapper blackbird = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new JacksonConfig().blackbirdModule()).build();
+        List<Object> samples = List.of(
+                new UserProfileResponse(7L, "sara@rentmate.test", "Sara Adel", true, "USER", "01012345678",
+                        "ACTIVE", 4.5, 12, LocalDate.of(2025, 3, 1)),
+                new PagedResponse<>(1, 3, 25L, 10, true, false, List.of(
+                        new RatingResponse(1L, 8L, 7L, "Omar Nabil", 5, "on time", LocalDateTime.of(2026, 1, 2, 9, 0)))),
+                ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, "User not found"));
+
+        for (Object sample : samples) {
+            assertThat(blackbird.writeValueAsString(sample)).isEqualTo(reflection.writeValueAsString(sample));
+        }
+    }
+}
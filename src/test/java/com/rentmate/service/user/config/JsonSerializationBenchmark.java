@@ -0,0 +1,114 @@
+package com.rentmate.service.user.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentmate.service.user.domain.dto.PagedResponse;
+import com.rentmate.service.user.domain.dto.rating.RatingResponse;
+import com.rentmate.service.user.domain.dto.user.UserProfileResponse;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Response serialization with reflective accessors and with Blackbird's generated ones, for a profile, a page of
+ * 20 ratings and a ProblemDetail. {@link #firstRatingsPage} is the first response of its type on a fresh mapper,
+ * with and without the pre-warm {@link JacksonConfig} runs at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+    @Param({"reflection", "blackbird"})
+    public String accessors;
+
+    private ObjectMapper objectMapper;
+    private UserProfileResponse profile;
+    private PagedResponse<RatingResponse> ratingsPage;
+    private ProblemDetail problem;
+
+    @Setup
+    public void setUp() {
+        objectMapper = objectMapper(accessors.equals("blackbird"));
+        profile = new UserProfileResponse(7L, "sara@rentmate.test", "Sara Adel", true, "USER", "01012345678",
+                "ACTIVE", 4.5, 12, LocalDate.of(2025, 3, 1));
+        ratingsPage = ratingsPage();
+        problem = ProblemDetail.forStatusAndDetail(HttpStatus.NOT_FOUND, "User with id 7 not found");
+    }
+
+    @Benchmark
+    public byte[] profile() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(profile);
+    }
+
+    @Benchmark
+    public byte[] ratingsPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(ratingsPage);
+    }
+
+    @Benchmark
+    public byte[] problemDetail() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(problem);
+    }
+
+    @State(Scope.Thread)
+    public static class FreshMapper {
+        @Param({"false", "true"})
+        public boolean prewarmed;
+
+        ObjectMapper objectMapper;
+        PagedResponse<RatingResponse> ratingsPage;
+
+        @Setup(Level.Invocation)
+        public void setUp() {
+            objectMapper = objectMapper(true);
+            if (prewarmed) {
+                objectMapper.canSerialize(PagedResponse.class);
+                objectMapper.canSerialize(RatingResponse.class);
+            }
+            ratingsPage = ratingsPage();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 50)
+    public byte[] firstRatingsPage(FreshMapper fresh) throws JsonProcessingException {
+        return fresh.objectMapper.writeValueAsBytes(fresh.ratingsPage);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder().include(getClass().getName()).build()).run();
+    }
+
+    private static ObjectMapper objectMapper(boolean blackbird) {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (blackbird) builder.modulesToInstall(new JacksonConfig().blackbirdModule());
+        return builder.build();
+    }
+
+    private static PagedResponse<RatingResponse> ratingsPage() {
+        List<RatingResponse> ratings = LongStream.rangeClosed(1, 20)
+                .mapToObj(id -> new RatingResponse(id, 100 + id, 7L, "Rater " + id, (int) (id % 5) + 1,
+                        "Returned the item on time and in good condition", LocalDateTime.of(2026, 1, 1, 9, 0).plusDays(id)))
+                .toList();
+        return new PagedResponse<>(1, 3, 45L, 20, true, false, ratings);
+    }
+}
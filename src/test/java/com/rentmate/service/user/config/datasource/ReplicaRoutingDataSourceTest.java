@@ -0,0 +1,144 @@
+package com.rentmate.service.user.config.datasource;
+
+import com.rentmate.service.user.config.DataSourceConfig;
+import com.rentmate.service.user.domain.dto.user.UserPrincipal;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Routing of the data source {@link DataSourceConfig} builds when a replica is configured, against two in-memory
+ * H2 databases that each hold a marker row naming themselves.
+ */
+class ReplicaRoutingDataSourceTest {
+    private static final long MAX_LAG_MS = 300;
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+    private JdbcTemplate jdbc;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        DataSourceProperties primaryProperties = properties("jdbc:h2:mem:primary-" + suffix + ";DB_CLOSE_DELAY=-1");
+        DataSourceProperties replicaProperties = properties("jdbc:h2:mem:replica-" + suffix + ";DB_CLOSE_DELAY=-1");
+
+        DataSourceConfig config = new DataSourceConfig(new MockEnvironment());
+        HikariDataSource interactive = track(config.interactiveDataSource(primaryProperties));
+        HikariDataSource batch = track(config.batchDataSource(primaryProperties));
+        HikariDataSource replica = track(config.replicaDataSource(replicaProperties));
+        mark(interactive, "primary");
+        mark(replica, "replica");
+
+        DataSource dataSource = config.dataSource(interactive, batch,
+                new StaticListableBeanFactory(Map.of("replicaDataSource", replica)).getBeanProvider(HikariDataSource.class),
+                new ReplicaLagGuard(MAX_LAG_MS));
+
+        jdbc = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        pools.forEach(HikariDataSource::close);
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertThat(readOnlyTransaction.execute(status -> database())).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionsAndNonTransactionalWorkUseThePrimary() {
+        assertThat(writeTransaction.execute(status -> {
+            jdbc.update("insert into writes (id) values (1)");
+            return database();
+        })).isEqualTo("primary");
+        assertThat(database()).isEqualTo("primary");
+    }
+
+    @Test
+    void userReadsThePrimaryUntilMaxLagHasPassedSinceTheirWrite() throws InterruptedException {
+        authenticate(7L);
+        writeTransaction.executeWithoutResult(status -> jdbc.update("insert into writes (id) values (1)"));
+
+        assertThat(readOnlyTransaction.execute(status -> database())).isEqualTo("primary");
+
+        authenticate(8L);
+        assertThat(readOnlyTransaction.execute(status -> database())).isEqualTo("replica");
+
+        Thread.sleep(MAX_LAG_MS + 100);
+        authenticate(7L);
+        assertThat(readOnlyTransaction.execute(status -> database())).isEqualTo("replica");
+    }
+
+    @Test
+    void rolledBackWriteKeepsTheUserOnTheReplica() {
+        authenticate(7L);
+        writeTransaction.executeWithoutResult(status -> {
+            jdbc.update("insert into writes (id) values (1)");
+            status.setRollbackOnly();
+        });
+
+        assertThat(readOnlyTransaction.execute(status -> database())).isEqualTo("replica");
+    }
+
+    @Test
+    void anonymousWritesAreNotTracked() {
+        writeTransaction.executeWithoutResult(status -> jdbc.update("insert into writes (id) values (1)"));
+
+        assertThat(readOnlyTransaction.execute(status -> database())).isEqualTo("replica");
+    }
+
+    private String database() {
+        return jdbc.queryForObject("select name from marker", String.class);
+    }
+
+    private HikariDataSource track(HikariDataSource pool) {
+        pool.setMaximumPoolSize(2);
+        pools.add(pool);
+        return pool;
+    }
+
+    private static void mark(DataSource dataSource, String name) {
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+        setup.execute("create table marker (name varchar(16))");
+        setup.execute("create table writes (id bigint)");
+        setup.update("insert into marker (name) values (?)", name);
+    }
+
+    private static void authenticate(Long userId) {
+        UserPrincipal principal = new UserPrincipal("user" + userId, userId, "user" + userId + "@rentmate.test", "ROLE_USER");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+
+    private static DataSourceProperties properties(String url) {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(url);
+        properties.setUsername("sa");
+        return properties;
+    }
+}
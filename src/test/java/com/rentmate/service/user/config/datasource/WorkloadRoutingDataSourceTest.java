@@ -0,0 +1,127 @@
+package com.rentmate.service.user.config.datasource;
+
+import com.rentmate.service.user.config.DataSourceConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pool isolation of the data source {@link DataSourceConfig} builds: request traffic keeps getting connections
+ * while batch work holds every connection of its own pool. Runs against an in-memory H2 database.
+ */
+class WorkloadRoutingDataSourceTest {
+    private static final int BATCH_POOL_SIZE = 2;
+    private static final int INTERACTIVE_THREADS = 8;
+    private static final int TRANSACTIONS_PER_THREAD = 50;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private HikariDataSource interactive;
+    private HikariDataSource batch;
+    private JdbcTemplate jdbc;
+    private TransactionTemplate transaction;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.datasource.hikari.maximum-pool-size", "4")
+                .withProperty("spring.datasource.hikari.connection-timeout", "1000")
+                .withProperty("datasource.pools.batch.maximum-pool-size", String.valueOf(BATCH_POOL_SIZE))
+                .withProperty("datasource.pools.batch.connection-timeout", "500");
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl("jdbc:h2:mem:workload-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        properties.setUsername("sa");
+
+        DataSourceConfig config = new DataSourceConfig(environment);
+        interactive = config.interactiveDataSource(properties);
+        batch = config.batchDataSource(properties);
+        DataSource dataSource = config.dataSource(interactive, batch,
+                new StaticListableBeanFactory().getBeanProvider(HikariDataSource.class), new ReplicaLagGuard(2000));
+
+        jdbc = new JdbcTemplate(dataSource);
+        transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        interactive.close();
+        batch.close();
+    }
+
+    @Test
+    void requestTrafficIsServedWhileBatchWorkHoldsItsWholePool() throws Exception {
+        CountDownLatch holding = new CountDownLatch(BATCH_POOL_SIZE);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<?>> batchJobs = new ArrayList<>();
+        for (int i = 0; i < BATCH_POOL_SIZE; i++) {
+            batchJobs.add(executor.submit(() -> asBatch(() -> transaction.executeWithoutResult(status -> {
+                jdbc.queryForObject("select 1", Integer.class);
+                holding.countDown();
+                awaitQuietly(release);
+            }))));
+        }
+        assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(batch.getHikariPoolMXBean().getActiveConnections()).isEqualTo(BATCH_POOL_SIZE);
+
+        // one more batch job cannot get a connection...
+        Future<?> starved = executor.submit(() -> asBatch(
+                () -> transaction.executeWithoutResult(status -> jdbc.queryForObject("select 1", Integer.class))));
+        assertThatThrownBy(() -> starved.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(DataAccessException.class);
+
+        // ...while requests get theirs without queueing behind it
+        AtomicLong slowestNanos = new AtomicLong();
+        List<Future<?>> requests = new ArrayList<>();
+        for (int i = 0; i < INTERACTIVE_THREADS; i++) {
+            requests.add(executor.submit(() -> {
+                for (int n = 0; n < TRANSACTIONS_PER_THREAD; n++) {
+                    long start = System.nanoTime();
+                    transaction.executeWithoutResult(status -> jdbc.queryForObject("select 1", Integer.class));
+                    slowestNanos.accumulateAndGet(System.nanoTime() - start, Math::max);
+                }
+            }));
+        }
+        for (Future<?> request : requests) request.get(30, TimeUnit.SECONDS);
+
+        assertThat(TimeUnit.NANOSECONDS.toMillis(slowestNanos.get())).isLessThan(250);
+        assertThat(interactive.getHikariPoolMXBean().getThreadsAwaitingConnection()).isZero();
+
+        release.countDown();
+        for (Future<?> job : batchJobs) job.get(5, TimeUnit.SECONDS);
+        assertThat(batch.getHikariPoolMXBean().getActiveConnections()).isZero();
+    }
+
+    private static void asBatch(Runnable work) {
+        WorkloadRoutingDataSource.setBatchWorkload(true);
+        try {
+            work.run();
+        } finally {
+            WorkloadRoutingDataSource.setBatchWorkload(false);
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.rentmate.service.user.config.filter;
+
+import com.rentmate.service.user.repository.AccessTokenRevocationRepository;
+import com.rentmate.service.user.service.UserEventPublisher;
+import com.rentmate.service.user.service.shared.util.AccessTokenRevocations;
+import com.rentmate.service.user.service.shared.util.JwtSigningKeys;
+import com.rentmate.service.user.service.shared.util.JwtUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Cost of authenticating a request in {@link JwtAuthFilter}, and of the revocation lookup it adds, with
+ * {@code revocations} users revoked on this instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtAuthFilterBenchmark {
+    @Param({"0", "100000"})
+    public int revocations;
+
+    private JwtAuthFilter filter;
+    private AccessTokenRevocations tokenRevocations;
+    private String token;
+    private Date issuedAt;
+
+    @Setup
+    public void setUp() {
+        JwtUtils jwtUtils = new JwtUtils(new JwtSigningKeys(JwtAuthFilterTest.SECRET, "HS256", List.of(), true), 60);
+        tokenRevocations = new AccessTokenRevocations(mock(AccessTokenRevocationRepository.class),
+                mock(UserEventPublisher.class), 60);
+        long now = System.currentTimeMillis() / 1000;
+        // other users' revocations, the benchmarked user is never revoked
+        for (long userId = 1_000; userId < 1_000 + revocations; userId++) tokenRevocations.apply(userId, now);
+
+        filter = new JwtAuthFilter(jwtUtils, tokenRevocations);
+        token = jwtUtils.generateJwtToken(JwtAuthFilterTest.profile());
+        issuedAt = new Date();
+    }
+
+    @Benchmark
+    public Object authenticate() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(JwtAuthFilterTest.bearer(token), new MockHttpServletResponse(), chain);
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public boolean revocationLookup() {
+        return tokenRevocations.isRevoked(JwtAuthFilterTest.USER_ID, issuedAt);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder().include(getClass().getName()).build()).run();
+    }
+}
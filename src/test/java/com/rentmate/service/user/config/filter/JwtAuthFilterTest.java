@@ -0,0 +1,126 @@
+package com.rentmate.service.user.config.filter;
+
+import com.rentmate.service.user.domain.dto.user.UserPrincipal;
+import com.rentmate.service.user.domain.dto.user.UserProfileResponse;
+import com.rentmate.service.user.repository.AccessTokenRevocationRepository;
+import com.rentmate.service.user.service.UserEventPublisher;
+import com.rentmate.service.user.service.shared.util.AccessTokenRevocations;
+import com.rentmate.service.user.service.shared.util.JwtSigningKeys;
+import com.rentmate.service.user.service.shared.util.JwtUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class JwtAuthFilterTest {
+    static final String SECRET = "test-secret-that-is-long-enough-for-hs256";
+    static final Long USER_ID = 7L;
+
+    private final JwtUtils jwtUtils = new JwtUtils(new JwtSigningKeys(SECRET, "HS256", List.of(), true), 60);
+    private final AccessTokenRevocations revocations = new AccessTokenRevocations(
+            mock(AccessTokenRevocationRepository.class), mock(UserEventPublisher.class), 60);
+    private final JwtAuthFilter filter = new JwtAuthFilter(jwtUtils, revocations);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void validTokenAuthenticatesTheRequest() throws Exception {
+        MockFilterChain chain = filter(bearer(jwtUtils.generateJwtToken(profile())));
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getPrincipal()).isInstanceOfSatisfying(UserPrincipal.class, principal -> {
+            assertThat(principal.getId()).isEqualTo(USER_ID);
+            assertThat(principal.getEmail()).isEqualTo("sara@rentmate.test");
+        });
+        assertThat(authentication.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly("ROLE_USER");
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void revokedTokenLeavesTheRequestAnonymous() throws Exception {
+        String token = jwtUtils.generateJwtToken(profile());
+        // revoked a second after the token was issued
+        revocations.apply(USER_ID, System.currentTimeMillis() / 1000 + 1);
+
+        MockFilterChain chain = filter(bearer(token));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void tokenIssuedAfterTheRevocationIsAccepted() throws Exception {
+        revocations.apply(USER_ID, System.currentTimeMillis() / 1000 - 5);
+
+        filter(bearer(jwtUtils.generateJwtToken(profile())));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+    }
+
+    @Test
+    void malformedOrForeignTokensLeaveTheRequestAnonymous() throws Exception {
+        JwtUtils otherIssuer = new JwtUtils(
+                new JwtSigningKeys("another-secret-that-is-long-enough-for-hs256", "HS256", List.of(), true), 60);
+
+        for (String token : List.of("not.a.jwt", otherIssuer.generateJwtToken(profile()))) {
+            MockFilterChain chain = filter(bearer(token));
+
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+            assertThat(chain.getRequest()).isNotNull();
+        }
+    }
+
+    @Test
+    void requestWithoutBearerTokenPassesThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Basic dXNlcjpwYXNz");
+
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    @Test
+    void existingAuthenticationIsKept() throws Exception {
+        var existing = new UsernamePasswordAuthenticationToken("service", null, List.of());
+        SecurityContextHolder.getContext().setAuthentication(existing);
+
+        filter(bearer(jwtUtils.generateJwtToken(profile())));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isSameAs(existing);
+    }
+
+    private MockFilterChain filter(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain;
+    }
+
+    static MockHttpServletRequest bearer(String token) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/me");
+        request.addHeader("Authorization", "Bearer " + token);
+        return request;
+    }
+
+    static UserProfileResponse profile() {
+        return new UserProfileResponse(USER_ID, "sara@rentmate.test", "Sara Adel", true, "USER", "01012345678",
+                "ACTIVE", 4.5, 12, LocalDate.of(2025, 3, 1));
+    }
+}
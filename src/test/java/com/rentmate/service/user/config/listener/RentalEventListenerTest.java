@@ -0,0 +1,148 @@
+package com.rentmate.service.user.config.listener;
+
+import com.rentmate.service.user.config.RabbitMQConfig;
+import com.rentmate.service.user.domain.dto.event.RentalLifecycleEvent;
+import com.rentmate.service.user.repository.RentalProjectionRepository;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.annotation.EnableRabbit;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.test.TestRabbitTemplate;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+/**
+ * Delivers messages to the listener through spring-rabbit-test's TestRabbitTemplate, with the production
+ * message converter and no broker. Which of two rows wins is decided by the upsert in MySQL; these tests
+ * check that every event reaches it stamped with its own modification time.
+ */
+@SpringJUnitConfig
+class RentalEventListenerTest {
+    private static final LocalDateTime START = LocalDateTime.of(2026, 3, 1, 10, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 3, 8, 10, 0);
+
+    @Autowired
+    private TestRabbitTemplate template;
+
+    @Autowired
+    private RentalProjectionRepository projectionRepository;
+
+    @BeforeEach
+    void resetRepository() {
+        reset(projectionRepository);
+    }
+
+    @Test
+    void eventIsUpsertedWithItsModificationTime() {
+        LocalDateTime modifiedAt = LocalDateTime.of(2026, 3, 1, 9, 0);
+
+        template.convertAndSend(RabbitMQConfig.RENTAL_PROJECTION_QUEUE,
+                new RentalLifecycleEvent(1L, 10L, 20L, "Approved", START, END, modifiedAt));
+
+        verify(projectionRepository).upsert(1L, 10L, 20L, "Approved", START, END, modifiedAt);
+    }
+
+    @Test
+    void outOfOrderEventsKeepTheirOwnModificationTimes() {
+        LocalDateTime older = LocalDateTime.of(2026, 3, 1, 9, 0);
+        LocalDateTime newer = LocalDateTime.of(2026, 3, 8, 11, 0);
+
+        // the newer event overtakes the older one; restamping either on arrival would let the older one win
+        template.convertAndSend(RabbitMQConfig.RENTAL_PROJECTION_QUEUE,
+                new RentalLifecycleEvent(1L, 10L, 20L, "Completed", START, END, newer));
+        template.convertAndSend(RabbitMQConfig.RENTAL_PROJECTION_QUEUE,
+                new RentalLifecycleEvent(1L, 10L, 20L, "Approved", START, END, older));
+
+        InOrder inOrder = inOrder(projectionRepository);
+        inOrder.verify(projectionRepository).upsert(1L, 10L, 20L, "Completed", START, END, newer);
+        inOrder.verify(projectionRepository).upsert(1L, 10L, 20L, "Approved", START, END, older);
+    }
+
+    @Test
+    void incompleteEventIsIgnored() {
+        template.convertAndSend(RabbitMQConfig.RENTAL_PROJECTION_QUEUE,
+                new RentalLifecycleEvent(1L, null, 20L, "Approved", START, END, START));
+
+        verifyNoInteractions(projectionRepository);
+    }
+
+    @Test
+    void producerTypeHeaderAndUnknownFieldsAreIgnored() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setHeader("__TypeId__", "com.rentmate.service.rental.event.RentalStatusChangedEvent");
+        String body = """
+                {"rentalId": 2, "ownerId": 11, "renterId": 21, "status": "Paid", "totalPrice": 120.50,
+                 "startDate": "2026-03-01T10:00:00", "endDate": "2026-03-08T10:00:00",
+                 "lastModifiedDate": "2026-03-02T08:30:00"}
+                """;
+
+        template.send(RabbitMQConfig.RENTAL_PROJECTION_QUEUE,
+                new Message(body.getBytes(StandardCharsets.UTF_8), properties));
+
+        verify(projectionRepository).upsert(2L, 11L, 21L, "Paid", START, END, LocalDateTime.of(2026, 3, 2, 8, 30));
+    }
+
+    @Configuration
+    @EnableRabbit
+    static class Config {
+        @Bean
+        ConnectionFactory connectionFactory() throws Exception {
+            ConnectionFactory factory = mock(ConnectionFactory.class);
+            Connection connection = mock(Connection.class);
+            Channel channel = mock(Channel.class);
+            doReturn(connection).when(factory).createConnection();
+            doReturn(channel).when(connection).createChannel(anyBoolean());
+            when(channel.isOpen()).thenReturn(true);
+            return factory;
+        }
+
+        @Bean
+        MessageConverter messageConverter() {
+            return new RabbitMQConfig().messageConverter();
+        }
+
+        @Bean
+        SimpleRabbitListenerContainerFactory rabbitListenerContainerFactory(ConnectionFactory connectionFactory,
+                                                                            MessageConverter messageConverter) {
+            SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+            factory.setConnectionFactory(connectionFactory);
+            factory.setMessageConverter(messageConverter);
+            // TestRabbitTemplate hands messages to the listeners itself, nothing needs to consume
+            factory.setAutoStartup(false);
+            return factory;
+        }
+
+        @Bean
+        TestRabbitTemplate template(ConnectionFactory connectionFactory, MessageConverter messageConverter) {
+            TestRabbitTemplate template = new TestRabbitTemplate(connectionFactory);
+            template.setMessageConverter(messageConverter);
+            return template;
+        }
+
+        @Bean
+        RentalProjectionRepository projectionRepository() {
+            return mock(RentalProjectionRepository.class);
+        }
+
+        @Bean
+        RentalEventListener rentalEventListener(RentalProjectionRepository projectionRepository) {
+            return new RentalEventListener(projectionRepository);
+        }
+    }
+}
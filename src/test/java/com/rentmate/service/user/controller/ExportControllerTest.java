@@ -0,0 +1,69 @@
+package com.rentmate.service.user.controller;
+
+import com.rentmate.service.user.domain.enumuration.ReportStatus;
+import com.rentmate.service.user.service.ExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class ExportControllerTest {
+    private static final String NDJSON = "{\"id\":1}\n{\"id\":2}";
+
+    private final ExportService exportService = mock(ExportService.class);
+    private final ExportController controller = new ExportController(exportService);
+
+    @Test
+    void plainExportIsServedAsNdjsonAttachment() throws IOException {
+        writesNdjson();
+
+        ResponseEntity<StreamingResponseBody> response = controller.exportReports(ReportStatus.PENDING, null, false);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .isEqualTo("attachment; filename=\"reports.ndjson\"");
+        assertThat(new String(body(response), StandardCharsets.UTF_8)).isEqualTo(NDJSON);
+    }
+
+    @Test
+    void gzipExportDecompressesToTheSameLines() throws IOException {
+        writesNdjson();
+
+        ResponseEntity<StreamingResponseBody> response = controller.exportReports(ReportStatus.PENDING, null, true);
+
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.parseMediaType("application/gzip"));
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION))
+                .isEqualTo("attachment; filename=\"reports.ndjson.gz\"");
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(body(response)))) {
+            assertThat(new String(gzip.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(NDJSON);
+        }
+    }
+
+    private void writesNdjson() {
+        doAnswer(call -> {
+            OutputStream output = call.getArgument(2);
+            output.write(NDJSON.getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).exportReports(eq(ReportStatus.PENDING), any(), any(OutputStream.class));
+    }
+
+    private static byte[] body(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+        return output.toByteArray();
+    }
+}
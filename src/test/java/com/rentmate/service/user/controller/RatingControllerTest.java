@@ -0,0 +1,98 @@
+package com.rentmate.service.user.controller;
+
+import com.rentmate.service.user.domain.dto.PagedResponse;
+import com.rentmate.service.user.domain.dto.rating.RatingDistributionResponse;
+import com.rentmate.service.user.domain.dto.rating.RatingResponse;
+import com.rentmate.service.user.service.RatingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class RatingControllerTest {
+    private static final Long USER_ID = 7L;
+
+    private final RatingService ratingService = mock(RatingService.class);
+    private final RatingController controller = new RatingController(ratingService);
+
+    @Test
+    void pageIsServedWithAWeakETagThatMustBeRevalidated() {
+        when(ratingService.getRatingsVersion(USER_ID)).thenReturn("3-2-9-1767261600");
+        PagedResponse<RatingResponse> page = new PagedResponse<>(1, 1, 2L, 10, false, false, List.of());
+        when(ratingService.getRatingsByUserId(USER_ID, 1, 10)).thenReturn(page);
+
+        ResponseEntity<PagedResponse<RatingResponse>> response = get(null, 1, 10);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("W/\"r7-3-2-9-1767261600-1-10\"");
+        assertThat(response.getHeaders().getCacheControl()).isEqualTo("no-cache, private");
+        assertThat(response.getBody()).isSameAs(page);
+    }
+
+    @Test
+    void matchingETagIsAnsweredWith304WithoutLoadingThePage() {
+        when(ratingService.getRatingsVersion(USER_ID)).thenReturn("3-2-9-1767261600");
+
+        ResponseEntity<PagedResponse<RatingResponse>> response = get("W/\"r7-3-2-9-1767261600-1-10\"", 1, 10);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(response.getHeaders().getETag()).isEqualTo("W/\"r7-3-2-9-1767261600-1-10\"");
+        assertThat(response.getBody()).isNull();
+        verify(ratingService, never()).getRatingsByUserId(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void changedRatingsGetAFreshPage() {
+        // a rating was added since the client cached the page
+        when(ratingService.getRatingsVersion(USER_ID)).thenReturn("3-3-14-1767261700");
+        when(ratingService.getRatingsByUserId(USER_ID, 1, 10))
+                .thenReturn(new PagedResponse<>(1, 1, 3L, 10, false, false, List.of()));
+
+        ResponseEntity<PagedResponse<RatingResponse>> response = get("W/\"r7-3-2-9-1767261600-1-10\"", 1, 10);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("W/\"r7-3-3-14-1767261700-1-10\"");
+        assertThat(response.getBody()).isNotNull();
+    }
+
+    @Test
+    void eachPageHasItsOwnETag() {
+        when(ratingService.getRatingsVersion(USER_ID)).thenReturn("3-2-9-1767261600");
+        when(ratingService.getRatingsByUserId(USER_ID, 2, 10))
+                .thenReturn(new PagedResponse<>(2, 2, 12L, 10, false, true, List.of()));
+
+        ResponseEntity<PagedResponse<RatingResponse>> response = get("W/\"r7-3-2-9-1767261600-1-10\"", 2, 10);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("W/\"r7-3-2-9-1767261600-2-10\"");
+    }
+
+    @Test
+    void distributionIsServedFromTheService() {
+        RatingDistributionResponse distribution =
+                new RatingDistributionResponse(USER_ID, 10, 3.9, List.of(1, 0, 2, 3, 4), 4.2);
+        when(ratingService.getRatingDistribution(USER_ID)).thenReturn(distribution);
+
+        ResponseEntity<RatingDistributionResponse> response = controller.getRatingDistribution(USER_ID);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(distribution);
+    }
+
+    private ResponseEntity<PagedResponse<RatingResponse>> get(String ifNoneMatch, int page, int limit) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/users/" + USER_ID + "/ratings");
+        if (ifNoneMatch != null) request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        return controller.getUserRatings(USER_ID, page, limit,
+                new ServletWebRequest(request, new MockHttpServletResponse()));
+    }
+}
@@ -0,0 +1,110 @@
+package com.rentmate.service.user.repository;
+
+import com.rentmate.service.user.MySqlRepositoryTest;
+import com.rentmate.service.user.TestUsers;
+import com.rentmate.service.user.domain.entity.User;
+import com.rentmate.service.user.domain.entity.UserSession;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pooled table ids let Hibernate batch inserts, and the driver rewrites each batch into one multi-row INSERT.
+ * Com_insert is the server's count of INSERT statements on the test transaction's connection.
+ */
+@MySqlRepositoryTest
+class BulkInsertBatchingTest {
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserSessionRepository sessionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void sessionsAreInsertedOneStatementPerBatch() {
+        User user = userRepository.save(TestUsers.user());
+        entityManager.flush();
+
+        long before = insertStatements();
+        sessionRepository.saveAll(sessions(user, 500));
+        entityManager.flush();
+
+        assertThat(insertStatements() - before).isEqualTo(500 / BATCH_SIZE);
+    }
+
+    @Test
+    void usersAreInsertedOneStatementPerBatch() {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < 120; i++) users.add(TestUsers.user());
+
+        long before = insertStatements();
+        userRepository.saveAll(users);
+        entityManager.flush();
+
+        // 50 + 50 + 20
+        assertThat(insertStatements() - before).isEqualTo(3);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void batchedInsertThroughput() {
+        User user = userRepository.save(TestUsers.user());
+        entityManager.flush();
+        int rows = 20_000;
+        Session session = entityManager.unwrap(Session.class);
+
+        session.setJdbcBatchSize(1);
+        long unbatchedNanos = timeInserts(user, rows);
+        session.setJdbcBatchSize(BATCH_SIZE);
+        long batchedNanos = timeInserts(user, rows);
+
+        System.out.printf("%d session inserts: unbatched %d rows/s, batched %d rows/s%n", rows,
+                rows * TimeUnit.SECONDS.toNanos(1) / unbatchedNanos, rows * TimeUnit.SECONDS.toNanos(1) / batchedNanos);
+        assertThat(batchedNanos).isLessThan(unbatchedNanos);
+    }
+
+    private long timeInserts(User user, int rows) {
+        List<UserSession> sessions = sessions(user, rows);
+        long start = System.nanoTime();
+        sessionRepository.saveAll(sessions);
+        entityManager.flush();
+        long elapsed = System.nanoTime() - start;
+        entityManager.clear();
+        return elapsed;
+    }
+
+    private long insertStatements() {
+        return jdbcTemplate.queryForObject("SHOW SESSION STATUS LIKE 'Com_insert'",
+                (rs, rowNum) -> rs.getLong("Value"));
+    }
+
+    private static List<UserSession> sessions(User user, int count) {
+        List<UserSession> sessions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UserSession session = new UserSession();
+            session.setUser(user);
+            session.setToken("token-" + System.nanoTime() + "-" + i);
+            session.setExpiresAt(LocalDateTime.now().plusDays(7));
+            sessions.add(session);
+        }
+        return sessions;
+    }
+}
@@ -0,0 +1,150 @@
+package com.rentmate.service.user.repository;
+
+import com.rentmate.service.user.MySqlRepositoryTest;
+import com.rentmate.service.user.TestUsers;
+import com.rentmate.service.user.domain.entity.UserRatingStats;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+/**
+ * The rating distribution is read from the user's row in user_rating_stats instead of grouping their ratings,
+ * so its cost does not grow with the number of ratings.
+ */
+@MySqlRepositoryTest
+class RatingDistributionQueryTest {
+    private static final double DECAY_PER_SECOND = Math.log(2) / (90 * 86400);
+    private static final String GROUPED_COUNTS =
+            "SELECT rating, COUNT(*) AS n FROM user_ratings WHERE rated_user_id = ? GROUP BY rating";
+
+    @Autowired
+    private UserRatingStatsRepository statsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long ratedUserId;
+    private Long raterId;
+
+    @BeforeEach
+    void setUp() {
+        ratedUserId = userRepository.save(TestUsers.user()).getId();
+        raterId = userRepository.save(TestUsers.user()).getId();
+        entityManager.flush();
+    }
+
+    @Test
+    void countersMatchTheRatingsAfterRecomputeAndAfterADelta() {
+        insertRatings(500, 0);
+        statsRepository.recomputeUsers(List.of(ratedUserId), DECAY_PER_SECOND);
+        assertThat(counters()).containsExactlyElementsOf(groupedCounts());
+
+        // a new 5-star rating, applied the way RatingAggregateService does
+        insertRatings(1, 500);
+        int stars = jdbcTemplate.queryForObject(
+                "SELECT rating FROM user_ratings WHERE rated_user_id = ? AND rental_request_id = 500",
+                Integer.class, ratedUserId);
+        int[] delta = new int[5];
+        delta[stars - 1] = 1;
+        statsRepository.applyDelta(ratedUserId, delta[0], delta[1], delta[2], delta[3], delta[4],
+                stars, 1, LocalDateTime.now(), DECAY_PER_SECOND);
+
+        assertThat(counters()).containsExactlyElementsOf(groupedCounts());
+    }
+
+    @Test
+    void recentAverageWeighsOlderRatingsDown() {
+        jdbcTemplate.update("""
+                INSERT INTO user_ratings (rater_id, rated_user_id, rental_request_id, rating, created_at, updated_at)
+                VALUES (?, ?, 1, 1, NOW() - INTERVAL 180 DAY, NOW()), (?, ?, 2, 5, NOW(), NOW())
+                """, raterId, ratedUserId, raterId, ratedUserId);
+        statsRepository.recomputeUsers(List.of(ratedUserId), DECAY_PER_SECOND);
+
+        UserRatingStats stats = stats();
+        // two half-lives old: the 1-star counts a quarter as much as the 5-star
+        assertThat(stats.getRecentSum() / stats.getRecentWeight()).isCloseTo((0.25 + 5) / 1.25, within(0.01));
+    }
+
+    @Test
+    @Tag("benchmark")
+    void distributionOf100kRatings() {
+        int ratings = 100_000;
+        long insertStart = System.nanoTime();
+        insertRatings(ratings, 0);
+        statsRepository.recomputeUsers(List.of(ratedUserId), DECAY_PER_SECOND);
+        long setupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - insertStart);
+
+        int counterReads = 1_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < counterReads; i++) stats();
+        long counterNanos = (System.nanoTime() - start) / counterReads;
+
+        int groupedReads = 20;
+        start = System.nanoTime();
+        for (int i = 0; i < groupedReads; i++) groupedCounts();
+        long groupedNanos = (System.nanoTime() - start) / groupedReads;
+
+        assertThat(counters().stream().mapToInt(Integer::intValue).sum()).isEqualTo(ratings);
+        assertThat(counters()).containsExactlyElementsOf(groupedCounts());
+        System.out.printf("%d ratings (set up in %d ms): counters %d us/read, GROUP BY %d us/read (%.0fx)%n",
+                ratings, setupMillis, TimeUnit.NANOSECONDS.toMicros(counterNanos),
+                TimeUnit.NANOSECONDS.toMicros(groupedNanos), (double) groupedNanos / counterNanos);
+    }
+
+    private UserRatingStats stats() {
+        entityManager.clear();
+        return statsRepository.findById(ratedUserId).orElseThrow();
+    }
+
+    private List<Integer> counters() {
+        UserRatingStats stats = stats();
+        return List.of(stats.getStar1(), stats.getStar2(), stats.getStar3(), stats.getStar4(), stats.getStar5());
+    }
+
+    private List<Integer> groupedCounts() {
+        Integer[] counts = {0, 0, 0, 0, 0};
+        for (Map<String, Object> row : jdbcTemplate.queryForList(GROUPED_COUNTS, ratedUserId)) {
+            counts[((Number) row.get("rating")).intValue() - 1] = ((Number) row.get("n")).intValue();
+        }
+        return List.of(counts);
+    }
+
+    // rental request ids from firstRentalId on, stars skewed towards 4 and 5, created over the last two years
+    private void insertRatings(int count, int firstRentalId) {
+        Random random = new Random(firstRentalId);
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int stars = Math.min(5, 1 + random.nextInt(4) + random.nextInt(2));
+            Timestamp createdAt = Timestamp.valueOf(now.minusMinutes(random.nextInt(2 * 365 * 24 * 60)));
+            rows.add(new Object[]{raterId, ratedUserId, firstRentalId + i, stars, createdAt, createdAt});
+            if (rows.size() == 1_000 || i == count - 1) {
+                jdbcTemplate.batchUpdate("""
+                        INSERT INTO user_ratings (rater_id, rated_user_id, rental_request_id, rating, created_at, updated_at)
+                        VALUES (?, ?, ?, ?, ?, ?)
+                        """, rows);
+                rows.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.rentmate.service.user.repository;
+
+import com.rentmate.service.user.MySqlRepositoryTest;
+import com.rentmate.service.user.TestUsers;
+import com.rentmate.service.user.domain.dto.rating.CreateRatingRequest;
+import com.rentmate.service.user.domain.dto.rating.RatingResponse;
+import com.rentmate.service.user.domain.dto.rating.UpdateRatingRequest;
+import com.rentmate.service.user.domain.dto.user.UserPrincipal;
+import com.rentmate.service.user.service.RatingAggregateService;
+import com.rentmate.service.user.service.implementation.RatingServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.*;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * The ratings ETag against the real schema: it must move in the same transaction as any rating change, so a client
+ * revalidating right after a change never gets a 304 for the page it cached before.
+ */
+@MySqlRepositoryTest
+class RatingsVersionReplayTest {
+    private static final int STEPS = 300;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserRatingStatsRepository statsRepository;
+
+    private final RatingAggregateService aggregateService = mock(RatingAggregateService.class);
+    private RatingServiceImpl ratingService;
+    private Long ratedUserId;
+    private List<Long> raterIds;
+    private long nextRentalId = 1;
+
+    @BeforeEach
+    void setUp() {
+        ratingService = new RatingServiceImpl(ratingRepository, userRepository, statsRepository, aggregateService);
+        ratedUserId = userRepository.save(TestUsers.user()).getId();
+        raterIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) raterIds.add(userRepository.save(TestUsers.user()).getId());
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void everyChangeMovesTheVersionBeforeTheAggregateIsFlushed() {
+        String initial = ratingService.getRatingsVersion(ratedUserId);
+        assertThat(ratingService.getRatingsVersion(ratedUserId)).isEqualTo(initial);
+
+        RatingResponse created = create(raterIds.get(0), 4, "fine");
+        String afterCreate = ratingService.getRatingsVersion(ratedUserId);
+        assertThat(afterCreate).isNotEqualTo(initial);
+
+        update(created, 2, "fine");
+        String afterRestar = ratingService.getRatingsVersion(ratedUserId);
+        assertThat(afterRestar).isNotEqualTo(afterCreate);
+
+        update(created, 2, "late, but fine");
+        String afterFeedback = ratingService.getRatingsVersion(ratedUserId);
+        assertThat(afterFeedback).isNotEqualTo(afterRestar);
+
+        delete(created);
+        assertThat(ratingService.getRatingsVersion(ratedUserId)).isNotIn(afterCreate, afterRestar, afterFeedback);
+        // the aggregate buffer was never flushed, so none of this came from its version bump
+        verify(aggregateService, never()).flush();
+    }
+
+    @Test
+    void replayedTrafficNeverGetsA304ForAPageThatChanged() {
+        // stand in for the aggregate service, which bumps the user's version when a deletion is applied and when
+        // a buffered star change is flushed
+        doAnswer(call -> userRepository.bumpVersion(call.getArgument(0)))
+                .when(aggregateService).applyChange(anyLong(), anyInt(), anyInt(), anyDouble(), anyDouble(), any());
+        doAnswer(call -> userRepository.bumpVersion(call.getArgument(0)))
+                .when(aggregateService).recordChange(anyLong(), anyInt(), anyInt(), anyDouble(), anyDouble(), any());
+
+        Random random = new Random(43);
+        Map<String, List<RatingResponse>> contentByVersion = new HashMap<>();
+        String clientVersion = null;
+        List<RatingResponse> clientContent = null;
+        int notModified = 0;
+
+        for (int step = 0; step < STEPS; step++) {
+            List<RatingResponse> ratings = ratings();
+            int action = random.nextInt(10);
+            if (action < 3 || ratings.isEmpty()) {
+                create(raterIds.get(random.nextInt(raterIds.size())), 1 + random.nextInt(5), "feedback " + step);
+            } else if (action < 5) {
+                RatingResponse rating = ratings.get(random.nextInt(ratings.size()));
+                update(rating, 1 + (rating.rating() + random.nextInt(4)) % 5, rating.feedback());
+            } else if (action < 7) {
+                RatingResponse rating = ratings.get(random.nextInt(ratings.size()));
+                update(rating, rating.rating(), "edited at " + step);
+            } else if (action < 8) {
+                delete(ratings.get(random.nextInt(ratings.size())));
+            }
+            // otherwise a read-only step: the client just revalidates
+
+            String version = ratingService.getRatingsVersion(ratedUserId);
+            List<RatingResponse> content = ratings();
+            List<RatingResponse> seen = contentByVersion.putIfAbsent(version, content);
+            assertThat(seen == null ? content : seen).as("content behind version %s at step %d", version, step)
+                    .isEqualTo(content);
+
+            if (version.equals(clientVersion)) {
+                notModified++;
+                assertThat(clientContent).as("304 at step %d", step).isEqualTo(content);
+            }
+            clientVersion = version;
+            clientContent = content;
+        }
+
+        assertThat(notModified).isPositive();
+    }
+
+    private RatingResponse create(Long raterId, int stars, String feedback) {
+        authenticate(raterId);
+        CreateRatingRequest request = new CreateRatingRequest();
+        request.setRatedUserId(ratedUserId);
+        request.setRentalRequestId(nextRentalId++);
+        request.setRating(stars);
+        request.setFeedback(feedback);
+        return ratingService.createRating(raterId, request);
+    }
+
+    private void update(RatingResponse rating, int stars, String feedback) {
+        authenticate(rating.raterUserId());
+        UpdateRatingRequest request = new UpdateRatingRequest();
+        request.setRatingId(rating.id());
+        request.setRating(stars);
+        request.setFeedback(feedback);
+        ratingService.updateRating(request);
+    }
+
+    private void delete(RatingResponse rating) {
+        authenticate(rating.raterUserId());
+        ratingService.deleteRating(rating.id());
+    }
+
+    private List<RatingResponse> ratings() {
+        return StreamSupport.stream(ratingService.getRatingsByUserId(ratedUserId, 1, 100).getItems().spliterator(), false)
+                .sorted(Comparator.comparing(RatingResponse::id))
+                .toList();
+    }
+
+    private static void authenticate(Long userId) {
+        UserPrincipal principal = new UserPrincipal("user" + userId, userId, "user" + userId + "@rentmate.test", "USER");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
@@ -0,0 +1,143 @@
+package com.rentmate.service.user.repository;
+
+import com.rentmate.service.user.MySqlRepositoryTest;
+import com.rentmate.service.user.TestUsers;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The trust score formula of UserRepository.refreshTrustScores, the one V16_1 backfills with, against the real
+ * schema. The cases sit on either side of the tier cut-offs.
+ */
+@MySqlRepositoryTest
+class TrustScoreQueryTest {
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Long reporterId;
+
+    @BeforeEach
+    void setUp() {
+        reporterId = newUser();
+    }
+
+    @Test
+    void newAccountKeepsTheColumnDefaults() {
+        Long userId = newUser();
+
+        // 45 * (3 - 1) / 4 + 15 for an active account = 37.5
+        assertThat(userRepository.refreshTrustScores(List.of(userId))).isZero();
+        assertThat(trust(userId)).containsEntry("trust_score", 38).containsEntry("trust_tier", "LOW");
+    }
+
+    @Test
+    void scoresAroundTheTierCutOffs() {
+        // 33.75 for five 5-star ratings + 1.5 for their count + 25 verified + 15 active - 5 for an open report
+        Long high = rated(5, 5.0, true, "ACTIVE");
+        report(high, "PENDING");
+        // 36.35 for eight 5-star ratings + 2.4 for their count + 25 verified + 5 inactive
+        Long medium = rated(8, 5.0, true, "INACTIVE");
+        // 22.5 for a 3-star average + 2.7 for nine ratings + 15 active
+        Long lowestMedium = rated(9, 3.0, false, "ACTIVE");
+        // 22.5 + 1.5 for five ratings + 15 active
+        Long highestLow = rated(5, 3.0, false, "ACTIVE");
+
+        userRepository.refreshTrustScores(List.of(high, medium, lowestMedium, highestLow));
+
+        assertThat(trust(high)).containsEntry("trust_score", 70).containsEntry("trust_tier", "HIGH");
+        assertThat(trust(medium)).containsEntry("trust_score", 69).containsEntry("trust_tier", "MEDIUM");
+        assertThat(trust(lowestMedium)).containsEntry("trust_score", 40).containsEntry("trust_tier", "MEDIUM");
+        assertThat(trust(highestLow)).containsEntry("trust_score", 39).containsEntry("trust_tier", "LOW");
+    }
+
+    @Test
+    void upheldReportsCostMoreThanOpenOnesAndTheScoreStopsAtZero() {
+        Long reported = rated(5, 3.0, true, "INACTIVE");
+        report(reported, "RESOLVED");
+        report(reported, "DISMISSED");
+        Long repeatOffender = newUser();
+        for (int i = 0; i < 3; i++) report(repeatOffender, "RESOLVED");
+
+        userRepository.refreshTrustScores(List.of(reported, repeatOffender));
+
+        // 22.5 + 1.5 + 25 + 5 - 15; dismissed reports do not count
+        assertThat(trust(reported)).containsEntry("trust_score", 39).containsEntry("trust_tier", "LOW");
+        assertThat(trust(repeatOffender)).containsEntry("trust_score", 0).containsEntry("trust_tier", "LOW");
+    }
+
+    @Test
+    void disabledAndSuspendedAccountsAreRestricted() {
+        Long disabled = rated(50, 5.0, true, "ACTIVE");
+        jdbcTemplate.update("UPDATE users SET is_disabled = TRUE WHERE id = ?", disabled);
+        Long suspended = rated(50, 5.0, true, "SUSPENDED_BY_ADMIN");
+
+        userRepository.refreshTrustScoresBetween(Math.min(disabled, suspended), Math.max(disabled, suspended));
+
+        assertThat(trust(disabled)).containsEntry("trust_score", 0).containsEntry("trust_tier", "RESTRICTED");
+        assertThat(trust(suspended)).containsEntry("trust_score", 0).containsEntry("trust_tier", "RESTRICTED");
+    }
+
+    @Test
+    void onlyRowsWhoseScoreOrTierChangedAreReVersioned() {
+        Long unchanged = newUser();
+        Long changed = rated(5, 5.0, true, "ACTIVE");
+        long unchangedVersion = version(unchanged);
+        long changedVersion = version(changed);
+
+        assertThat(userRepository.refreshTrustScoresBetween(Math.min(unchanged, changed), Math.max(unchanged, changed)))
+                .isEqualTo(1);
+        assertThat(version(unchanged)).isEqualTo(unchangedVersion);
+        assertThat(version(changed)).isEqualTo(changedVersion + 1);
+
+        // a second refresh finds nothing to change
+        assertThat(userRepository.refreshTrustScores(List.of(unchanged, changed))).isZero();
+        assertThat(version(changed)).isEqualTo(changedVersion + 1);
+    }
+
+    private Long newUser() {
+        Long userId = userRepository.save(TestUsers.user()).getId();
+        entityManager.flush();
+        return userId;
+    }
+
+    private Long rated(int ratings, double average, boolean verified, String status) {
+        Long userId = newUser();
+        jdbcTemplate.update("""
+                UPDATE users SET total_ratings = ?, average_rating = ?, is_identity_verified = ?,
+                                 account_activity_status = ?
+                WHERE id = ?
+                """, ratings, average, verified, status, userId);
+        return userId;
+    }
+
+    private void report(Long reportedUserId, String status) {
+        jdbcTemplate.update("""
+                INSERT INTO user_reports (reporter_user_id, reported_user_id, report_type, details, status)
+                VALUES (?, ?, 'DAMAGE', 'Returned with a cracked lens', ?)
+                """, reporterId, reportedUserId, status);
+    }
+
+    private Map<String, Object> trust(Long userId) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT trust_score, trust_tier FROM users WHERE id = ?", userId);
+        return Map.of("trust_score", ((Number) row.get("trust_score")).intValue(), "trust_tier", row.get("trust_tier"));
+    }
+
+    private long version(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT version FROM users WHERE id = ?", Long.class, userId);
+    }
+}
@@ -0,0 +1,120 @@
+package com.rentmate.service.user.repository;
+
+import com.rentmate.service.user.MySqlRepositoryTest;
+import com.rentmate.service.user.TestUsers;
+import com.rentmate.service.user.domain.dto.verification.VerificationResponse;
+import com.rentmate.service.user.domain.entity.User;
+import com.rentmate.service.user.domain.entity.VerificationRequest;
+import com.rentmate.service.user.domain.enumuration.VerificationRequestStatus;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The admin review queue reads a page of ids from the status index, then projects only those rows,
+ * the same two steps as VerificationServiceImpl.getAll.
+ */
+@MySqlRepositoryTest
+class VerificationQueueQueryTest {
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 9, 0);
+
+    @Autowired
+    private VerificationRequestRepository verificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 60; i++) {
+            User user = userRepository.save(TestUsers.user());
+            VerificationRequest request = new VerificationRequest();
+            request.setUser(user);
+            request.setIdFrontImageUrl("https://res.cloudinary.com/demo/image/upload/front_" + i + ".jpg");
+            request.setIdBackImageUrl("https://res.cloudinary.com/demo/image/upload/back_" + i + ".jpg");
+            request.setIdNumber("2990101000" + String.format("%04d", i));
+            request.setStatus(i % 3 == 0 ? VerificationRequestStatus.APPROVED : VerificationRequestStatus.PENDING);
+            // pairs share a timestamp, so the id tie-breaker decides their order
+            request.setCreatedAt(START.plusMinutes(i / 2));
+            verificationRepository.save(request);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {5, 20, 30})
+    void pageTakesThreeStatementsWhateverItsSize(int pageSize) {
+        Page<Long> ids = verificationRepository.findIdsByStatus(VerificationRequestStatus.PENDING,
+                PageRequest.of(0, pageSize, newestFirst()));
+        List<VerificationResponse> rows = verificationRepository.findResponsesByIdIn(ids.getContent());
+
+        // page of ids, its count, and the projection
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(ids.getTotalElements()).isEqualTo(40);
+        assertThat(rows).hasSize(pageSize);
+    }
+
+    @Test
+    void pagesFollowTheSortWithIdAsTieBreaker() {
+        Pageable firstPage = PageRequest.of(0, 7, newestFirst());
+        List<Long> first = verificationRepository.findIdsByStatus(VerificationRequestStatus.PENDING, firstPage).getContent();
+        List<Long> second = verificationRepository.findIdsByStatus(VerificationRequestStatus.PENDING, firstPage.next())
+                .getContent();
+
+        List<Long> expected = jdbcTemplate.queryForList("""
+                SELECT id FROM verification_requests WHERE status = 'PENDING'
+                ORDER BY created_at DESC, id DESC LIMIT 14
+                """, Long.class);
+        assertThat(first).containsExactlyElementsOf(expected.subList(0, 7));
+        assertThat(second).containsExactlyElementsOf(expected.subList(7, 14));
+
+        List<VerificationResponse> rows = verificationRepository.findResponsesByIdIn(first);
+        assertThat(rows).extracting(VerificationResponse::id).containsExactlyInAnyOrderElementsOf(first);
+        assertThat(rows).extracting(VerificationResponse::status).containsOnly(VerificationRequestStatus.PENDING);
+    }
+
+    @Test
+    void idPageIsServedFromTheStatusIndexAlone() {
+        Map<String, Object> plan = jdbcTemplate.queryForMap("""
+                EXPLAIN SELECT id FROM verification_requests WHERE status = 'PENDING'
+                ORDER BY created_at DESC, id DESC LIMIT 20
+                """);
+
+        assertThat(plan.get("key")).isEqualTo("idx_verification_status_created");
+        assertThat((String) plan.get("Extra")).contains("Using index").doesNotContain("filesort");
+    }
+
+    private static Sort newestFirst() {
+        // as VerificationServiceImpl.mapSort builds it for sortBy=createdAt, sortOrder=desc
+        return Sort.by("createdAt").and(Sort.by("id")).descending();
+    }
+}
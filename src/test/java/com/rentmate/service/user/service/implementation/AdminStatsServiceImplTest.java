@@ -0,0 +1,162 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.domain.dto.event.AdminStatsChangedEvent;
+import com.rentmate.service.user.domain.dto.event.AdminStatsChangedEvent.Change;
+import com.rentmate.service.user.domain.dto.stats.AdminStatsCount;
+import com.rentmate.service.user.domain.dto.stats.AdminStatsResponse;
+import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
+import com.rentmate.service.user.domain.enumuration.ReportStatus;
+import com.rentmate.service.user.domain.enumuration.ReportType;
+import com.rentmate.service.user.domain.enumuration.UserRole;
+import com.rentmate.service.user.domain.enumuration.VerificationRequestStatus;
+import com.rentmate.service.user.repository.UserReportRepository;
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.repository.VerificationRequestRepository;
+import com.rentmate.service.user.service.UserEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AdminStatsServiceImplTest {
+    private final UserReportRepository reportRepository = mock(UserReportRepository.class);
+    private final VerificationRequestRepository verificationRepository = mock(VerificationRequestRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserEventPublisher eventPublisher = mock(UserEventPublisher.class);
+    private final AdminStatsServiceImpl service =
+            new AdminStatsServiceImpl(reportRepository, verificationRepository, userRepository, eventPublisher);
+
+    @AfterEach
+    void clearSynchronization() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(service);
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void changesOfATransactionAreCountedAndBroadcastOnceAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        service.reportChanged(ReportType.FRAUD, null, ReportStatus.PENDING);
+        service.reportChanged(ReportType.FRAUD, ReportStatus.PENDING, ReportStatus.UNDER_REVIEW);
+        service.verificationChanged(VerificationRequestStatus.PENDING, VerificationRequestStatus.APPROVED);
+
+        assertThat(reports(ReportStatus.UNDER_REVIEW, ReportType.FRAUD)).isZero();
+        verifyNoInteractions(eventPublisher);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).hasSize(1);
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(reports(ReportStatus.PENDING, ReportType.FRAUD)).isZero();
+        assertThat(reports(ReportStatus.UNDER_REVIEW, ReportType.FRAUD)).isEqualTo(1);
+        assertThat(service.getStats().verifications()).containsEntry("PENDING", -1L).containsEntry("APPROVED", 1L);
+        ArgumentCaptor<AdminStatsChangedEvent> event = ArgumentCaptor.forClass(AdminStatsChangedEvent.class);
+        verify(eventPublisher, times(1)).publishAdminStatsChangedEvent(event.capture());
+        assertThat(event.getValue().changes()).containsExactly(
+                new Change("reports", "PENDING", "FRAUD", 1),
+                new Change("reports", "PENDING", "FRAUD", -1),
+                new Change("reports", "UNDER_REVIEW", "FRAUD", 1),
+                new Change("verifications", "PENDING", "", -1),
+                new Change("verifications", "APPROVED", "", 1));
+    }
+
+    @Test
+    void rolledBackChangesAreNeitherCountedNorBroadcast() {
+        TransactionSynchronizationManager.initSynchronization();
+        service.reportChanged(ReportType.DAMAGE, null, ReportStatus.PENDING);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(reports(ReportStatus.PENDING, ReportType.DAMAGE)).isZero();
+        verifyNoInteractions(eventPublisher);
+        assertThat(TransactionSynchronizationManager.hasResource(service)).isFalse();
+    }
+
+    @Test
+    void failedBroadcastStillCountsLocally() {
+        doThrow(new IllegalStateException("broker down")).when(eventPublisher).publishAdminStatsChangedEvent(any());
+
+        service.userChanged(null, null, UserRole.USER, AccountActivityStatus.ACTIVE);
+
+        assertThat(users(AccountActivityStatus.ACTIVE, UserRole.USER)).isEqualTo(1);
+    }
+
+    @Test
+    void changesFromAnotherInstanceAreAppliedAndOwnOnesIgnored() {
+        service.apply(new AdminStatsChangedEvent("other-node", List.of(
+                new Change("users", "ACTIVE", "USER", -1),
+                new Change("users", "SUSPENDED_BY_ADMIN", "USER", 1))));
+
+        assertThat(users(AccountActivityStatus.ACTIVE, UserRole.USER)).isEqualTo(-1);
+        assertThat(users(AccountActivityStatus.SUSPENDED_BY_ADMIN, UserRole.USER)).isEqualTo(1);
+        verifyNoInteractions(eventPublisher);
+
+        // the broker also delivers this instance's own broadcast back to it
+        service.reportChanged(ReportType.OVERDUE, null, ReportStatus.PENDING);
+        ArgumentCaptor<AdminStatsChangedEvent> own = ArgumentCaptor.forClass(AdminStatsChangedEvent.class);
+        verify(eventPublisher).publishAdminStatsChangedEvent(own.capture());
+        service.apply(own.getValue());
+
+        assertThat(reports(ReportStatus.PENDING, ReportType.OVERDUE)).isEqualTo(1);
+    }
+
+    @Test
+    void reseedCorrectsDriftedCountersAndClearsStaleOnes() {
+        service.apply(new AdminStatsChangedEvent("other-node", List.of(
+                new Change("reports", "PENDING", "FRAUD", 3),
+                new Change("reports", "DISMISSED", "FRAUD", 2))));
+        when(reportRepository.countByStatusAndType())
+                .thenReturn(List.of(new AdminStatsCount(ReportStatus.PENDING, ReportType.FRAUD, 5L)));
+        when(verificationRepository.countByStatus())
+                .thenReturn(List.of(new AdminStatsCount(VerificationRequestStatus.PENDING, 4L)));
+        when(userRepository.countByStatusAndRole())
+                .thenReturn(List.of(new AdminStatsCount(AccountActivityStatus.ACTIVE, UserRole.USER, 10L)));
+
+        service.reseed();
+
+        AdminStatsResponse stats = service.getStats();
+        assertThat(reports(ReportStatus.PENDING, ReportType.FRAUD)).isEqualTo(5);
+        assertThat(reports(ReportStatus.DISMISSED, ReportType.FRAUD)).isZero();
+        assertThat(stats.verifications()).containsEntry("PENDING", 4L);
+        assertThat(stats.users().get("ACTIVE")).containsEntry("USER", 10L);
+        assertThat(stats.reconciledAt()).isNotNull();
+    }
+
+    @Test
+    void changeAppliedWhileReseedingIsKept() {
+        when(reportRepository.countByStatusAndType())
+                .thenReturn(List.of(new AdminStatsCount(ReportStatus.PENDING, ReportType.FRAUD, 5L)));
+        // a report and a user commit after the reports were counted, while the users are being counted but too
+        // late to be in that count
+        when(userRepository.countByStatusAndRole()).thenAnswer(call -> {
+            service.reportChanged(ReportType.FRAUD, null, ReportStatus.PENDING);
+            service.userChanged(null, null, UserRole.USER, AccountActivityStatus.ACTIVE);
+            return List.of(new AdminStatsCount(AccountActivityStatus.ACTIVE, UserRole.USER, 10L));
+        });
+
+        service.reseed();
+
+        assertThat(reports(ReportStatus.PENDING, ReportType.FRAUD)).isEqualTo(6);
+        assertThat(users(AccountActivityStatus.ACTIVE, UserRole.USER)).isEqualTo(11);
+    }
+
+    private static void complete(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations())
+            synchronization.afterCompletion(status);
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private long reports(ReportStatus status, ReportType type) {
+        return service.getStats().reports().get(status.name()).get(type.name());
+    }
+
+    private long users(AccountActivityStatus status, UserRole role) {
+        return service.getStats().users().get(status.name()).get(role.name());
+    }
+}
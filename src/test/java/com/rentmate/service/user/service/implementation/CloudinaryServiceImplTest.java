@@ -0,0 +1,240 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import com.rentmate.service.user.service.shared.exception.ServiceUnavailableException;
+import com.rentmate.service.user.service.shared.util.OutboundCallGuard;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the image checks against a local HTTP stub of the Cloudinary Admin API through the real SDK,
+ * so timeouts, 404s and cache hits behave as they do on the wire.
+ */
+class CloudinaryServiceImplTest {
+    private static final Duration TIME_LIMIT = Duration.ofMillis(300);
+    private static final String UPLOADS = "https://res.cloudinary.com/demo/image/upload/v1700000000/verifications/";
+
+    private final AtomicInteger stubHits = new AtomicInteger();
+    private volatile long stubLatencyMs;
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private OutboundCallGuard callGuard;
+    private Cloudinary cloudinary;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubExecutor = Executors.newCachedThreadPool();
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/v1_1/demo/resources/image/upload/", this::answerResource);
+        stub.setExecutor(stubExecutor);
+        stub.start();
+
+        cloudinary = new Cloudinary(ObjectUtils.asMap(
+                "cloud_name", "demo",
+                "api_key", "key",
+                "api_secret", "secret",
+                "upload_prefix", "http://localhost:" + stub.getAddress().getPort()));
+        callGuard = new OutboundCallGuard(BulkheadRegistry.ofDefaults(), CircuitBreakerRegistry.ofDefaults(),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(TIME_LIMIT).build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        callGuard.shutdown();
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    void existingImageIsCheckedOnceAndThenServedFromTheCache() {
+        CloudinaryServiceImpl service = service(60, 100);
+
+        assertThat(service.resourceExists(UPLOADS + "id_front_1.jpg")).isTrue();
+        assertThat(service.resourceExists(UPLOADS + "id_front_1.jpg")).isTrue();
+
+        assertThat(stubHits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void missingImageIsNotCached() {
+        CloudinaryServiceImpl service = service(60, 100);
+
+        assertThat(service.resourceExists(UPLOADS + "missing_1.jpg")).isFalse();
+        assertThat(service.resourceExists(UPLOADS + "missing_1.jpg")).isFalse();
+
+        assertThat(stubHits.get()).isEqualTo(2);
+        assertThat(service.cachedResources()).isZero();
+    }
+
+    @Test
+    void urlWithoutPublicIdIsRejectedWithoutACall() {
+        assertThat(service(60, 100).resourceExists(" ")).isFalse();
+
+        assertThat(stubHits.get()).isZero();
+    }
+
+    @Test
+    void expiredEntriesAreCheckedAgain() {
+        CloudinaryServiceImpl service = service(0, 100);
+
+        service.resourceExists(UPLOADS + "id_front_1.jpg");
+        service.resourceExists(UPLOADS + "id_front_1.jpg");
+
+        assertThat(stubHits.get()).isEqualTo(2);
+        assertThat(service.cachedResources()).isEqualTo(1);
+    }
+
+    @Test
+    void fullCacheDropsTheLeastRecentlyCheckedImage() {
+        CloudinaryServiceImpl service = service(60, 2);
+        service.resourceExists(UPLOADS + "a.jpg");
+        service.resourceExists(UPLOADS + "b.jpg");
+        service.resourceExists(UPLOADS + "a.jpg");
+        service.resourceExists(UPLOADS + "c.jpg");
+        assertThat(service.cachedResources()).isEqualTo(2);
+        assertThat(stubHits.get()).isEqualTo(3);
+
+        // b was evicted, a was kept because it was checked after b
+        service.resourceExists(UPLOADS + "a.jpg");
+        assertThat(stubHits.get()).isEqualTo(3);
+        service.resourceExists(UPLOADS + "b.jpg");
+        assertThat(stubHits.get()).isEqualTo(4);
+    }
+
+    @Test
+    void slowCloudinaryFailsFastAtTheTimeLimit() {
+        stubLatencyMs = 3000;
+        CloudinaryServiceImpl service = service(60, 100);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> service.resourceExists(UPLOADS + "id_front_1.jpg"))
+                .isInstanceOf(ServiceUnavailableException.class);
+        long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(tookMs).isLessThan(stubLatencyMs / 2);
+        assertThat(service.cachedResources()).isZero();
+    }
+
+    @Test
+    void imagesAreCheckedInParallel() throws Exception {
+        stubLatencyMs = 200;
+        CloudinaryServiceImpl service = service(60, 100);
+
+        long startedAt = System.nanoTime();
+        boolean allExist = service.resourcesExist(UPLOADS + "front.jpg", UPLOADS + "back.jpg", UPLOADS + "selfie.jpg")
+                .get(5, TimeUnit.SECONDS);
+        long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(allExist).isTrue();
+        assertThat(stubHits.get()).isEqualTo(3);
+        assertThat(tookMs).isLessThan(3 * stubLatencyMs);
+    }
+
+    @Test
+    void anyMissingImageFailsTheCheck() throws Exception {
+        CloudinaryServiceImpl service = service(60, 100);
+
+        assertThat(service.resourcesExist(UPLOADS + "front.jpg", UPLOADS + "missing_back.jpg")
+                .get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @Test
+    void parallelCheckCompletesExceptionallyAtTheValidationTimeout() {
+        stubLatencyMs = 250;
+        CloudinaryServiceImpl service = new CloudinaryServiceImpl(cloudinary, callGuard, 100, 60, 100);
+
+        assertThatThrownBy(() -> service.resourcesExist(UPLOADS + "front.jpg").get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void checkLatencyWithAndWithoutTheCache() {
+        stubLatencyMs = 20;
+        CloudinaryServiceImpl service = service(60, 10_000);
+        int images = 200;
+
+        long[] cold = new long[images];
+        long[] cached = new long[images];
+        for (int i = 0; i < images; i++) {
+            long startedAt = System.nanoTime();
+            service.resourceExists(UPLOADS + "image_" + i + ".jpg");
+            cold[i] = System.nanoTime() - startedAt;
+        }
+        for (int i = 0; i < images; i++) {
+            long startedAt = System.nanoTime();
+            service.resourceExists(UPLOADS + "image_" + i + ".jpg");
+            cached[i] = System.nanoTime() - startedAt;
+        }
+
+        System.out.printf("cold check p50 %.2f ms p99 %.2f ms, cached check p50 %.4f ms p99 %.4f ms%n",
+                percentileMs(cold, 50), percentileMs(cold, 99), percentileMs(cached, 50), percentileMs(cached, 99));
+        assertThat(stubHits.get()).isEqualTo(images);
+    }
+
+    private CloudinaryServiceImpl service(long cacheTtlMinutes, int cacheMaxEntries) {
+        return new CloudinaryServiceImpl(cloudinary, callGuard, 3000, cacheTtlMinutes, cacheMaxEntries);
+    }
+
+    private static double percentileMs(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        return sorted[Math.min(sorted.length - 1, sorted.length * percentile / 100)] / 1_000_000.0;
+    }
+
+    private void answerResource(HttpExchange exchange) throws IOException {
+        stubHits.incrementAndGet();
+        try (exchange) {
+            String publicId = exchange.getRequestURI().getPath().substring("/v1_1/demo/resources/image/upload/".length());
+            if (stubLatencyMs > 0) Thread.sleep(stubLatencyMs);
+
+            byte[] body;
+            int status;
+            if (publicId.contains("missing")) {
+                status = 404;
+                body = """
+                        {"error": {"message": "Resource not found - %s"}}
+                        """.formatted(publicId).getBytes(StandardCharsets.UTF_8);
+            } else {
+                status = 200;
+                body = """
+                        {"public_id": "%s", "resource_type": "image", "type": "upload", "format": "jpg", "bytes": 1024}
+                        """.formatted(publicId).getBytes(StandardCharsets.UTF_8);
+            }
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.rentmate.service.user.domain.dto.export.UserExportRow;
+import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
+import com.rentmate.service.user.domain.enumuration.UserRole;
+import com.rentmate.service.user.repository.RatingRepository;
+import com.rentmate.service.user.repository.UserReportRepository;
+import com.rentmate.service.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ExportServiceImplTest {
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2026, 5, 1, 12, 0);
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private ExportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExportServiceImpl(userRepository, mock(RatingRepository.class), mock(UserReportRepository.class),
+                objectMapper, transactionManager);
+    }
+
+    @Test
+    void everyRowIsWrittenAsOneJsonLineInsideAReadOnlyTransaction() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(userRepository.streamForExport(any(), any(), any(), any()))
+                .thenReturn(rows(3).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        service.exportUsers(UserRole.USER, null, true, "  Sa ", output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(3);
+        for (int i = 0; i < lines.length; i++) {
+            assertThat(objectMapper.readValue(lines[i], UserExportRow.class)).isEqualTo(row(i + 1));
+        }
+        assertThat(closed).isTrue();
+        verify(userRepository).streamForExport(UserRole.USER, null, true, "%sa%");
+
+        ArgumentCaptor<TransactionDefinition> transaction = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager).getTransaction(transaction.capture());
+        assertThat(transaction.getValue().isReadOnly()).isTrue();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void searchShorterThanTwoCharactersIsIgnored() {
+        when(userRepository.streamForExport(any(), any(), any(), any())).thenReturn(Stream.empty());
+
+        service.exportUsers(null, AccountActivityStatus.ACTIVE, null, " a ", OutputStream.nullOutputStream());
+
+        verify(userRepository).streamForExport(null, AccountActivityStatus.ACTIVE, null, null);
+    }
+
+    @Test
+    void rowsAreWrittenWhileTheCursorIsStillBeingRead() {
+        // the memory check: output starts long before the cursor is exhausted, so rows are never collected
+        int total = 100_000;
+        AtomicLong read = new AtomicLong();
+        AtomicLong readAtFirstWrite = new AtomicLong(-1);
+        when(userRepository.streamForExport(any(), any(), any(), any()))
+                .thenReturn(rows(total).peek(row -> read.incrementAndGet()));
+        CountingOutputStream output = new CountingOutputStream() {
+            @Override
+            public void write(byte[] bytes, int offset, int length) {
+                readAtFirstWrite.compareAndSet(-1, read.get());
+                super.write(bytes, offset, length);
+            }
+        };
+
+        service.exportUsers(null, null, null, null, output);
+
+        assertThat(output.rows()).isEqualTo(total);
+        assertThat(readAtFirstWrite.get()).isBetween(1L, 1_000L);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void exportThroughputAndHeap() {
+        int total = 2_000_000;
+        when(userRepository.streamForExport(any(), any(), any(), any())).thenReturn(rows(total));
+        CountingOutputStream output = new CountingOutputStream();
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        long started = System.nanoTime();
+        service.exportUsers(null, null, null, null, output);
+        long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+
+        long peakHeap = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+        System.out.printf("exported %d rows (%d MB) in %d ms, %d rows/s, peak heap %d MB%n",
+                output.rows(), output.bytes >> 20, elapsedMs, total * 1000L / Math.max(elapsedMs, 1),
+                peakHeap >> 20);
+        assertThat(output.rows()).isEqualTo(total);
+    }
+
+    private static Stream<UserExportRow> rows(int count) {
+        return LongStream.rangeClosed(1, count).mapToObj(ExportServiceImplTest::row);
+    }
+
+    private static UserExportRow row(long id) {
+        return new UserExportRow(id, "First" + id, "Last" + id, "user" + id + "@rentmate.test", "0101234567" + id % 10,
+                UserRole.USER, AccountActivityStatus.ACTIVE, id % 2 == 0, false, new BigDecimal("4.50"),
+                (int) id % 20, CREATED_AT);
+    }
+
+    private static class CountingOutputStream extends OutputStream {
+        long bytes;
+        long separators;
+
+        @Override
+        public void write(int b) {
+            bytes++;
+            if (b == '\n') separators++;
+        }
+
+        long rows() {
+            return bytes == 0 ? 0 : separators + 1;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            for (int i = offset; i < offset + length; i++) write(bytes[i]);
+        }
+    }
+}
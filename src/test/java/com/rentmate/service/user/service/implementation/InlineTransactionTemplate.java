@@ -0,0 +1,16 @@
+package com.rentmate.service.user.service.implementation;
+
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Runs the callback on the calling thread without a transaction manager, for services tested against mocked
+ * repositories.
+ */
+class InlineTransactionTemplate extends TransactionTemplate {
+    @Override
+    public <T> T execute(TransactionCallback<T> action) {
+        return action.doInTransaction(new SimpleTransactionStatus());
+    }
+}
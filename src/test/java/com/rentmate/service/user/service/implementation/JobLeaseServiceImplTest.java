@@ -0,0 +1,242 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.repository.ScheduledJobLeaseRepository;
+import com.rentmate.service.user.service.JobLeaseService;
+import com.rentmate.service.user.service.shared.exception.LeaseLostException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Two application contexts, each with its own JobLeaseServiceImpl, share one lease table, the way two nodes share
+ * the database. The table applies the same conditions as the statements in ScheduledJobLeaseRepository.
+ */
+class JobLeaseServiceImplTest {
+    private static final String JOB = "report-escalation";
+
+    private final LeaseTable table = new LeaseTable();
+    private final List<AnnotationConfigApplicationContext> contexts = new ArrayList<>();
+    private final ExecutorService pool = Executors.newCachedThreadPool();
+    private ScheduledJobLeaseRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ScheduledJobLeaseRepository.class);
+        when(repository.insertIfAbsent(anyString())).thenAnswer(call -> table.insertIfAbsent(call.getArgument(0)));
+        when(repository.tryAcquire(anyString(), anyString(), anyLong())).thenAnswer(call ->
+                table.tryAcquire(call.getArgument(0), call.getArgument(1), call.<Long>getArgument(2)));
+        when(repository.findToken(anyString(), anyString())).thenAnswer(call ->
+                table.findToken(call.getArgument(0), call.getArgument(1)));
+        when(repository.renew(anyString(), anyString(), anyLong(), anyLong())).thenAnswer(call ->
+                table.renew(call.getArgument(0), call.getArgument(1), call.<Long>getArgument(2),
+                        call.<Long>getArgument(3)));
+        when(repository.fence(anyString(), anyString(), anyLong())).thenAnswer(call ->
+                table.fence(call.getArgument(0), call.getArgument(1), call.<Long>getArgument(2)));
+        when(repository.release(anyString(), anyString(), anyLong())).thenAnswer(call ->
+                table.release(call.getArgument(0), call.getArgument(1), call.<Long>getArgument(2)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+        contexts.forEach(AnnotationConfigApplicationContext::close);
+    }
+
+    @Test
+    void nodesRacingForOneLeaseRunTheJobOnce() throws Exception {
+        JobLeaseService nodeA = startNode(120);
+        JobLeaseService nodeB = startNode(120);
+        AtomicInteger runs = new AtomicInteger();
+        CyclicBarrier start = new CyclicBarrier(2);
+        Runnable job = () -> {
+            runs.incrementAndGet();
+            sleep(200);
+        };
+
+        Future<Boolean> ranOnA = pool.submit(() -> {
+            start.await();
+            return nodeA.runExclusively(JOB, job);
+        });
+        Future<Boolean> ranOnB = pool.submit(() -> {
+            start.await();
+            return nodeB.runExclusively(JOB, job);
+        });
+
+        assertThat(List.of(ranOnA.get(5, TimeUnit.SECONDS), ranOnB.get(5, TimeUnit.SECONDS)))
+                .containsExactlyInAnyOrder(true, false);
+        assertThat(runs.get()).isEqualTo(1);
+        assertThat(table.token(JOB)).isEqualTo(1);
+
+        // a released lease goes to whichever node asks next, with a new token
+        JobLeaseService loser = ranOnA.get() ? nodeB : nodeA;
+        assertThat(runEventually(loser, job)).isTrue();
+        assertThat(runs.get()).isEqualTo(2);
+        assertThat(table.token(JOB)).isEqualTo(2);
+    }
+
+    @Test
+    void commitIsFencedOffOnceTheLeaseIsLost() throws Exception {
+        JobLeaseService nodeA = startNode(120);
+        JobLeaseService nodeB = startNode(120);
+        AtomicBoolean ranOnB = new AtomicBoolean();
+
+        boolean ranOnA = nodeA.runExclusively(JOB, () -> {
+            // node A stalls past its lease, e.g. a long GC pause, and node B takes over
+            table.expire(JOB);
+            assertThat(runOn(nodeB, () -> ranOnB.set(true))).isTrue();
+
+            assertThatThrownBy(nodeA::fence).isInstanceOf(LeaseLostException.class);
+        });
+
+        assertThat(ranOnA).isTrue();
+        assertThat(ranOnB).isTrue();
+        // A must not try to release a lease it no longer holds
+        assertThat(table.token(JOB)).isEqualTo(2);
+        verify(repository, never()).release(JOB, table.ownerOfToken(JOB, 1), 1L);
+    }
+
+    @Test
+    void heartbeatKeepsTheLeaseWhileTheJobOutlivesItsDuration() throws Exception {
+        JobLeaseService nodeA = startNode(1);
+        JobLeaseService nodeB = startNode(1);
+        AtomicInteger takenOverOnB = new AtomicInteger();
+
+        boolean ranOnA = nodeA.runExclusively(JOB, () -> {
+            long until = System.currentTimeMillis() + 1500;
+            while (System.currentTimeMillis() < until) {
+                if (runOn(nodeB, takenOverOnB::incrementAndGet)) break;
+                sleep(100);
+            }
+            nodeA.fence();
+        });
+
+        assertThat(ranOnA).isTrue();
+        assertThat(takenOverOnB.get()).isZero();
+    }
+
+    @Test
+    void fenceOutsideALeasedJobDoesNothing() {
+        JobLeaseService node = startNode(120);
+
+        node.fence();
+
+        assertThat(table.token(JOB)).isZero();
+    }
+
+    private JobLeaseService startNode(long leaseSeconds) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(JobLeaseServiceImpl.class,
+                () -> new JobLeaseServiceImpl(repository, "user-service", leaseSeconds));
+        context.refresh();
+        contexts.add(context);
+        return context.getBean(JobLeaseService.class);
+    }
+
+    private boolean runOn(JobLeaseService node, Runnable job) {
+        try {
+            return pool.submit(() -> node.runExclusively(JOB, job)).get(5, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private boolean runEventually(JobLeaseService node, Runnable job) {
+        // release sets lease_until to NOW(3), so the lease is free from the next millisecond on
+        for (int attempt = 0; attempt < 50; attempt++) {
+            if (runOn(node, job)) return true;
+            sleep(10);
+        }
+        return false;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** scheduled_job_leases in memory; each method is one statement of ScheduledJobLeaseRepository. */
+    private static final class LeaseTable {
+        private final Map<String, Row> rows = new HashMap<>();
+
+        private static final class Row {
+            private String owner;
+            private long token;
+            private long leaseUntil;
+            private final Map<Long, String> owners = new HashMap<>();
+        }
+
+        synchronized int insertIfAbsent(String job) {
+            return rows.putIfAbsent(job, new Row()) == null ? 1 : 0;
+        }
+
+        synchronized int tryAcquire(String job, String owner, long leaseMs) {
+            Row row = rows.get(job);
+            long now = System.currentTimeMillis();
+            if (row == null || !(row.leaseUntil < now || owner.equals(row.owner))) return 0;
+            row.owner = owner;
+            row.token++;
+            row.leaseUntil = now + leaseMs;
+            row.owners.put(row.token, owner);
+            return 1;
+        }
+
+        synchronized Long findToken(String job, String owner) {
+            Row row = rows.get(job);
+            return row != null && owner.equals(row.owner) ? row.token : null;
+        }
+
+        synchronized int renew(String job, String owner, long token, long leaseMs) {
+            Row row = rows.get(job);
+            if (!held(row, owner, token)) return 0;
+            row.leaseUntil = System.currentTimeMillis() + leaseMs;
+            return 1;
+        }
+
+        synchronized int fence(String job, String owner, long token) {
+            return held(rows.get(job), owner, token) ? 1 : 0;
+        }
+
+        synchronized int release(String job, String owner, long token) {
+            Row row = rows.get(job);
+            if (row == null || !owner.equals(row.owner) || row.token != token) return 0;
+            row.leaseUntil = System.currentTimeMillis();
+            return 1;
+        }
+
+        synchronized void expire(String job) {
+            rows.get(job).leaseUntil = System.currentTimeMillis() - 1;
+        }
+
+        synchronized long token(String job) {
+            Row row = rows.get(job);
+            return row == null ? 0 : row.token;
+        }
+
+        synchronized String ownerOfToken(String job, long token) {
+            return rows.get(job).owners.get(token);
+        }
+
+        private static boolean held(Row row, String owner, long token) {
+            return row != null && owner.equals(row.owner) && row.token == token
+                    && row.leaseUntil >= System.currentTimeMillis();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.MySqlRepositoryTest;
+import com.rentmate.service.user.TestUsers;
+import com.rentmate.service.user.repository.RatingFlushWatermarkRepository;
+import com.rentmate.service.user.repository.RatingRepository;
+import com.rentmate.service.user.repository.UserRatingStatsRepository;
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.service.JobLeaseService;
+import com.rentmate.service.user.service.TrustScoreService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 200 raters rating one user at once, with each rating's aggregate update applied in its transaction and buffered
+ * for the flush. Every rating transaction commits, so the rows written here are deleted afterwards.
+ */
+@MySqlRepositoryTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class RatingAggregateContentionTest {
+    private static final int RATERS = 200;
+    private static final int RATINGS_PER_RATER = 5;
+
+    @Autowired
+    private UserRatingStatsRepository statsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RatingRepository ratingRepository;
+
+    @Autowired
+    private RatingFlushWatermarkRepository watermarkRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private TransactionTemplate transactionTemplate;
+    private RatingAggregateServiceImpl service;
+    private final List<Long> userIds = new ArrayList<>();
+    private final AtomicLong nextRentalId = new AtomicLong(1);
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        service = new RatingAggregateServiceImpl(statsRepository, userRepository, ratingRepository,
+                watermarkRepository, mock(JobLeaseService.class), mock(TrustScoreService.class),
+                transactionTemplate, 90, 30);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < RATERS + 2; i++) userIds.add(userRepository.save(TestUsers.user()).getId());
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+        String ids = String.join(",", Collections.nCopies(userIds.size(), "?"));
+        Object[] args = userIds.toArray();
+        jdbcTemplate.update("DELETE FROM user_ratings WHERE rated_user_id IN (" + ids + ")", args);
+        jdbcTemplate.update("DELETE FROM user_rating_stats WHERE user_id IN (" + ids + ")", args);
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (" + ids + ")", args);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void concurrentRatersOfOneUser() throws Exception {
+        Long directUserId = userIds.get(RATERS);
+        Long bufferedUserId = userIds.get(RATERS + 1);
+
+        long[] direct = rateConcurrently(directUserId, false);
+        long[] buffered = rateConcurrently(bufferedUserId, true);
+
+        int ratings = RATERS * RATINGS_PER_RATER;
+        assertThat(totalRatings(directUserId)).isEqualTo(ratings);
+        assertThat(totalRatings(bufferedUserId)).isEqualTo(ratings);
+        System.out.printf("%d raters, %d ratings of one user: in-transaction %d ratings/s (p99 %d ms), "
+                        + "buffered %d ratings/s (p99 %d ms)%n", RATERS, ratings,
+                ratings * TimeUnit.SECONDS.toNanos(1) / direct[0], TimeUnit.NANOSECONDS.toMillis(direct[1]),
+                ratings * TimeUnit.SECONDS.toNanos(1) / buffered[0], TimeUnit.NANOSECONDS.toMillis(buffered[1]));
+        assertThat(buffered[0]).isLessThan(direct[0]);
+    }
+
+    // returns the elapsed time and the p99 rating transaction time, in ns
+    private long[] rateConcurrently(Long ratedUserId, boolean buffered) throws Exception {
+        ExecutorService raters = Executors.newFixedThreadPool(RATERS);
+        ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor();
+        if (buffered) flusher.scheduleWithFixedDelay(service::flush, 250, 250, TimeUnit.MILLISECONDS);
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        CountDownLatch start = new CountDownLatch(1);
+        long elapsed;
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < RATERS; i++) {
+                Long raterId = userIds.get(i);
+                futures.add(raters.submit(() -> {
+                    start.await();
+                    for (int n = 0; n < RATINGS_PER_RATER; n++) {
+                        long begin = System.nanoTime();
+                        rate(raterId, ratedUserId, 1 + n, buffered);
+                        latencies.add(System.nanoTime() - begin);
+                    }
+                    return null;
+                }));
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) future.get(5, TimeUnit.MINUTES);
+            flusher.shutdown();
+            flusher.awaitTermination(1, TimeUnit.MINUTES);
+            service.flush();
+            elapsed = System.nanoTime() - begin;
+        } finally {
+            raters.shutdownNow();
+            flusher.shutdownNow();
+        }
+        List<Long> sorted = latencies.stream().sorted().toList();
+        return new long[]{elapsed, sorted.get((int) (sorted.size() * 0.99))};
+    }
+
+    private void rate(Long raterId, Long ratedUserId, int stars, boolean buffered) {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            jdbcTemplate.update("""
+                    INSERT INTO user_ratings (rater_id, rated_user_id, rental_request_id, rating, created_at, updated_at)
+                    VALUES (?, ?, ?, ?, ?, ?)
+                    """, raterId, ratedUserId, nextRentalId.getAndIncrement(), stars, now, now);
+            if (buffered) service.recordChange(ratedUserId, stars, 0, stars, 1, now);
+            else service.applyChange(ratedUserId, stars, 0, stars, 1, now);
+        });
+    }
+
+    private int totalRatings(Long userId) {
+        return jdbcTemplate.queryForObject("SELECT total_ratings FROM users WHERE id = ?", Integer.class, userId);
+    }
+}
@@ -0,0 +1,222 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.domain.entity.RatingFlushWatermark;
+import com.rentmate.service.user.domain.entity.UserRatingStats;
+import com.rentmate.service.user.repository.RatingFlushWatermarkRepository;
+import com.rentmate.service.user.repository.RatingRepository;
+import com.rentmate.service.user.repository.UserRatingStatsRepository;
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.service.JobLeaseService;
+import com.rentmate.service.user.service.TrustScoreService;
+import com.rentmate.service.user.service.shared.exception.LeaseLostException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RatingAggregateServiceImplTest {
+    private static final double HALF_LIFE_DAYS = 90;
+    private static final LocalDateTime RATED_AT = LocalDateTime.of(2026, 5, 1, 12, 0);
+
+    private final UserRatingStatsRepository statsRepository = mock(UserRatingStatsRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RatingRepository ratingRepository = mock(RatingRepository.class);
+    private final RatingFlushWatermarkRepository watermarkRepository = mock(RatingFlushWatermarkRepository.class);
+    private final JobLeaseService jobLeaseService = mock(JobLeaseService.class);
+    private final TrustScoreService trustScoreService = mock(TrustScoreService.class);
+
+    private RatingAggregateServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new RatingAggregateServiceImpl(statsRepository, userRepository, ratingRepository,
+                watermarkRepository, jobLeaseService, trustScoreService, new InlineTransactionTemplate(),
+                HALF_LIFE_DAYS, 30);
+    }
+
+    @Test
+    void changesForOneUserAreCoalescedIntoOneUpdate() {
+        service.recordChange(1L, 5, 0, 5, 1, RATED_AT);
+        service.recordChange(1L, 4, 0, 4, 1, RATED_AT);
+        service.recordChange(1L, 2, 4, -2, 0, RATED_AT);
+
+        assertThat(service.flush()).isEqualTo(1);
+
+        verify(statsRepository, times(1)).applyDelta(eq(1L), eq(0), eq(1), eq(0), eq(0), eq(1),
+                eq(7.0), eq(2.0), eq(RATED_AT), anyDouble());
+        verify(userRepository).updateAverageRatings(List.of(1L));
+        verify(trustScoreService).refresh(List.of(1L));
+    }
+
+    @Test
+    void failedFlushPutsItsChangesBackForTheNextOne() {
+        doThrow(new IllegalStateException("deadlock")).doReturn(1)
+                .when(statsRepository).applyDelta(anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(),
+                        anyDouble(), anyDouble(), any(), anyDouble());
+        service.recordChange(1L, 5, 0, 5, 1, RATED_AT);
+        service.recordChange(2L, 3, 0, 3, 1, RATED_AT);
+
+        assertThatThrownBy(service::flush).isInstanceOf(IllegalStateException.class);
+        verify(watermarkRepository, never()).upsert(anyString(), any());
+
+        // a change recorded after the failure adds to the put-back one
+        service.recordChange(1L, 4, 0, 4, 1, RATED_AT);
+        assertThat(service.flush()).isEqualTo(2);
+
+        verify(statsRepository).applyDelta(eq(1L), eq(0), eq(0), eq(0), eq(1), eq(1),
+                eq(9.0), eq(2.0), eq(RATED_AT), anyDouble());
+        verify(statsRepository).applyDelta(eq(2L), eq(0), eq(0), eq(1), eq(0), eq(0),
+                eq(3.0), eq(1.0), eq(RATED_AT), anyDouble());
+        verify(userRepository, times(1)).updateAverageRatings(List.of(1L, 2L));
+        verify(watermarkRepository, times(1)).upsert(anyString(), any());
+        assertThat(service.flush()).isZero();
+    }
+
+    @Test
+    void putBackChangesDecayToTheReferenceTimeOfNewerOnes() {
+        LocalDateTime dayLater = RATED_AT.plusDays(1);
+        // a rating for the same user commits while the failing flush is writing
+        doAnswer(call -> {
+            service.recordChange(1L, 4, 0, 4, 1, dayLater);
+            throw new IllegalStateException("deadlock");
+        }).doReturn(1).when(statsRepository).applyDelta(anyLong(), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(),
+                anyDouble(), anyDouble(), any(), anyDouble());
+
+        service.recordChange(1L, 5, 0, 5, 1, RATED_AT);
+        assertThatThrownBy(service::flush).isInstanceOf(IllegalStateException.class);
+        service.flush();
+
+        // the newer change holds the buffer slot, so the put-back one is valued as of a day later
+        double dayFactor = Math.pow(2, -1 / HALF_LIFE_DAYS);
+        verify(statsRepository).applyDelta(eq(1L), eq(0), eq(0), eq(0), eq(1), eq(1),
+                doubleThat(sum -> Math.abs(sum - (4 + 5 * dayFactor)) < 1e-9),
+                doubleThat(weight -> Math.abs(weight - (1 + dayFactor)) < 1e-9),
+                eq(dayLater), anyDouble());
+    }
+
+    @Test
+    void concurrentRatersOfOneUserAreFlushedAsOneUpdate() throws Exception {
+        int raters = 200;
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < raters; i++) {
+                futures.add(pool.submit(() -> {
+                    start.await();
+                    service.recordChange(1L, 5, 0, 5, 1, RATED_AT);
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) future.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(service.flush()).isEqualTo(1);
+
+        verify(statsRepository, times(1)).applyDelta(eq(1L), eq(0), eq(0), eq(0), eq(0), eq(raters),
+                eq(5.0 * raters), eq((double) raters), eq(RATED_AT), anyDouble());
+        verify(userRepository, times(1)).updateAverageRatings(List.of(1L));
+    }
+
+    @Test
+    void userRecomputedAfterItsChangesCommittedIsRecomputedInsteadOfGettingTheDelta() {
+        service.recordChange(1L, 5, 0, 5, 1, RATED_AT);
+        service.recordChange(2L, 4, 0, 4, 1, RATED_AT);
+        // a recovery rebuilt user 1 from user_ratings after its rating committed, so the rating is counted already
+        when(statsRepository.lockAll(List.of(1L, 2L)))
+                .thenReturn(List.of(stats(1L, LocalDateTime.now()), stats(2L, null)));
+
+        assertThat(service.flush()).isEqualTo(2);
+
+        var order = inOrder(statsRepository, userRepository);
+        order.verify(statsRepository).insertIfAbsent(1L);
+        order.verify(statsRepository).insertIfAbsent(2L);
+        order.verify(statsRepository).lockAll(List.of(1L, 2L));
+        order.verify(statsRepository).recomputeUsers(eq(List.of(1L)), anyDouble());
+        order.verify(userRepository).updateAverageRatings(List.of(1L, 2L));
+        verify(statsRepository, never()).applyDelta(eq(1L), anyInt(), anyInt(), anyInt(), anyInt(), anyInt(),
+                anyDouble(), anyDouble(), any(), anyDouble());
+        verify(statsRepository).applyDelta(eq(2L), eq(0), eq(0), eq(0), eq(1), eq(0),
+                eq(4.0), eq(1.0), eq(RATED_AT), anyDouble());
+    }
+
+    @Test
+    void userRecomputedBeforeItsChangesGetsTheDelta() {
+        service.recordChange(1L, 5, 0, 5, 1, RATED_AT);
+        when(statsRepository.lockAll(List.of(1L))).thenReturn(List.of(stats(1L, LocalDateTime.now().minusMinutes(1))));
+
+        service.flush();
+
+        verify(statsRepository).applyDelta(eq(1L), eq(0), eq(0), eq(0), eq(0), eq(1),
+                eq(5.0), eq(1.0), eq(RATED_AT), anyDouble());
+        verify(statsRepository, never()).recomputeUsers(any(), anyDouble());
+    }
+
+    @Test
+    void abandonedInstanceIsRecoveredFromItsWatermark() {
+        LocalDateTime flushedThrough = LocalDateTime.of(2026, 5, 1, 12, 0, 30);
+        when(watermarkRepository.findStale(30)).thenReturn(List.of(watermark("stopped-node", flushedThrough)));
+        when(ratingRepository.findRatedUserIdsUpdatedSince(flushedThrough.minusSeconds(5))).thenReturn(List.of(3L, 4L));
+
+        assertThat(service.recoverAbandonedChanges()).isEqualTo(1);
+
+        var order = inOrder(statsRepository, userRepository, trustScoreService, jobLeaseService, watermarkRepository);
+        order.verify(statsRepository).recomputeUsers(eq(List.of(3L, 4L)), anyDouble());
+        order.verify(userRepository).updateAverageRatings(List.of(3L, 4L));
+        order.verify(trustScoreService).refresh(List.of(3L, 4L));
+        order.verify(jobLeaseService).fence();
+        order.verify(watermarkRepository).deleteById("stopped-node");
+    }
+
+    @Test
+    void ownWatermarkIsNeverRecovered() {
+        service.flush();
+        ArgumentCaptor<String> ownId = ArgumentCaptor.forClass(String.class);
+        verify(watermarkRepository).upsert(ownId.capture(), any());
+        when(watermarkRepository.findStale(30)).thenReturn(List.of(watermark(ownId.getValue(), RATED_AT)));
+
+        assertThat(service.recoverAbandonedChanges()).isZero();
+
+        verifyNoInteractions(ratingRepository);
+        verify(watermarkRepository, never()).deleteById(anyString());
+    }
+
+    @Test
+    void recoveryThatLosesItsLeaseKeepsTheWatermark() {
+        when(watermarkRepository.findStale(30)).thenReturn(List.of(watermark("stopped-node", RATED_AT)));
+        when(ratingRepository.findRatedUserIdsUpdatedSince(any())).thenReturn(List.of(3L));
+        doThrow(new LeaseLostException("lost")).when(jobLeaseService).fence();
+
+        assertThatThrownBy(service::recoverAbandonedChanges).isInstanceOf(LeaseLostException.class);
+
+        // the node now holding the lease recovers it again
+        verify(watermarkRepository, never()).deleteById(anyString());
+    }
+
+    private static UserRatingStats stats(Long userId, LocalDateTime recomputedAt) {
+        UserRatingStats stats = new UserRatingStats();
+        stats.setUserId(userId);
+        stats.setRecomputedAt(recomputedAt);
+        return stats;
+    }
+
+    private static RatingFlushWatermark watermark(String instanceId, LocalDateTime flushedThrough) {
+        RatingFlushWatermark watermark = new RatingFlushWatermark();
+        watermark.setInstanceId(instanceId);
+        watermark.setFlushedThrough(flushedThrough);
+        watermark.setHeartbeatAt(flushedThrough);
+        return watermark;
+    }
+}
@@ -0,0 +1,154 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.domain.dto.rating.RatingDistributionResponse;
+import com.rentmate.service.user.domain.dto.rating.UpdateRatingRequest;
+import com.rentmate.service.user.domain.dto.user.UserPrincipal;
+import com.rentmate.service.user.domain.entity.User;
+import com.rentmate.service.user.domain.entity.UserRating;
+import com.rentmate.service.user.domain.entity.UserRatingStats;
+import com.rentmate.service.user.repository.RatingRepository;
+import com.rentmate.service.user.repository.UserRatingStatsRepository;
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.service.RatingAggregateService;
+import com.rentmate.service.user.service.shared.exception.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class RatingServiceImplTest {
+    private static final Long RATER_ID = 8L;
+    private static final Long RATED_USER_ID = 7L;
+
+    private final RatingRepository ratingRepository = mock(RatingRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserRatingStatsRepository statsRepository = mock(UserRatingStatsRepository.class);
+    private final RatingAggregateService aggregateService = mock(RatingAggregateService.class);
+    private final RatingServiceImpl service =
+            new RatingServiceImpl(ratingRepository, userRepository, statsRepository, aggregateService);
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void feedbackOnlyEditBumpsTheVersionAndLeavesTheAggregate() {
+        UserRating rating = rating(4);
+        when(ratingRepository.findById(1L)).thenReturn(Optional.of(rating));
+        authenticateAs(RATER_ID);
+
+        service.updateRating(update(4, "late, but fine"));
+
+        assertThat(rating.getFeedback()).isEqualTo("late, but fine");
+        verify(userRepository).bumpVersion(RATED_USER_ID);
+        verifyNoInteractions(aggregateService);
+    }
+
+    @Test
+    void starChangeGoesToTheAggregateWithoutAnExtraVersionBump() {
+        UserRating rating = rating(4);
+        when(ratingRepository.findById(1L)).thenReturn(Optional.of(rating));
+        authenticateAs(RATER_ID);
+
+        service.updateRating(update(2, "fine"));
+
+        verify(aggregateService).recordChange(eq(RATED_USER_ID), eq(2), eq(4), eq(-2.0), eq(0.0),
+                eq(rating.getCreatedAt()));
+        verify(userRepository, never()).bumpVersion(anyLong());
+    }
+
+    @Test
+    void distributionIsReadFromTheUsersCounters() {
+        UserRatingStats stats = new UserRatingStats();
+        stats.setUserId(RATED_USER_ID);
+        stats.setStar1(1);
+        stats.setStar2(0);
+        stats.setStar3(2);
+        stats.setStar4(3);
+        stats.setStar5(4);
+        stats.setRecentSum(8.4);
+        stats.setRecentWeight(2.0);
+        when(statsRepository.findById(RATED_USER_ID)).thenReturn(Optional.of(stats));
+
+        RatingDistributionResponse distribution = service.getRatingDistribution(RATED_USER_ID);
+
+        assertThat(distribution.total()).isEqualTo(10);
+        assertThat(distribution.counts()).containsExactly(1, 0, 2, 3, 4);
+        // (1 + 6 + 12 + 20) / 10
+        assertThat(distribution.average()).isCloseTo(3.9, within(1e-9));
+        assertThat(distribution.recentAverage()).isCloseTo(4.2, within(1e-9));
+        verifyNoInteractions(ratingRepository);
+    }
+
+    @Test
+    void userWhoseRatingsWereAllDeletedHasNoRecentAverage() {
+        UserRatingStats stats = new UserRatingStats();
+        stats.setUserId(RATED_USER_ID);
+        when(statsRepository.findById(RATED_USER_ID)).thenReturn(Optional.of(stats));
+
+        RatingDistributionResponse distribution = service.getRatingDistribution(RATED_USER_ID);
+
+        assertThat(distribution.total()).isZero();
+        assertThat(distribution.average()).isZero();
+        assertThat(distribution.recentAverage()).isNull();
+    }
+
+    @Test
+    void userWithoutCountersHasAnEmptyDistribution() {
+        when(statsRepository.findById(RATED_USER_ID)).thenReturn(Optional.empty());
+        when(userRepository.existsById(RATED_USER_ID)).thenReturn(true);
+
+        RatingDistributionResponse distribution = service.getRatingDistribution(RATED_USER_ID);
+
+        assertThat(distribution).isEqualTo(new RatingDistributionResponse(RATED_USER_ID, 0, 0, List.of(0, 0, 0, 0, 0), null));
+    }
+
+    @Test
+    void distributionOfAnUnknownUserIsNotFound() {
+        when(statsRepository.findById(RATED_USER_ID)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getRatingDistribution(RATED_USER_ID))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    private static UserRating rating(int stars) {
+        User rater = new User();
+        rater.setId(RATER_ID);
+        User ratedUser = new User();
+        ratedUser.setId(RATED_USER_ID);
+
+        UserRating rating = new UserRating();
+        rating.setId(1L);
+        rating.setRater(rater);
+        rating.setRatedUser(ratedUser);
+        rating.setRating((byte) stars);
+        rating.setFeedback("fine");
+        rating.setCreatedAt(LocalDateTime.of(2026, 5, 1, 12, 0));
+        return rating;
+    }
+
+    private static UpdateRatingRequest update(int stars, String feedback) {
+        UpdateRatingRequest request = new UpdateRatingRequest();
+        request.setRatingId(1L);
+        request.setRating(stars);
+        request.setFeedback(feedback);
+        return request;
+    }
+
+    private static void authenticateAs(Long userId) {
+        UserPrincipal principal = new UserPrincipal("user" + userId, userId, "user" + userId + "@rentmate.test", "USER");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
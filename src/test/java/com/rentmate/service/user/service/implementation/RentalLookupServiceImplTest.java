@@ -0,0 +1,179 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentmate.service.user.domain.dto.rental.RentalSummary;
+import com.rentmate.service.user.domain.entity.RentalProjection;
+import com.rentmate.service.user.repository.RentalProjectionRepository;
+import com.rentmate.service.user.service.shared.client.RentalServiceClient;
+import com.rentmate.service.user.service.shared.exception.NotFoundException;
+import com.rentmate.service.user.service.shared.exception.ServiceUnavailableException;
+import com.rentmate.service.user.service.shared.util.OutboundCallGuard;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import feign.Feign;
+import feign.Request;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.openfeign.support.SpringMvcContract;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the lookup against a local HTTP stub of the rental service through a real Feign client,
+ * so timeouts, 404s and cache hits behave as they do on the wire.
+ */
+class RentalLookupServiceImplTest {
+    private static final Duration TIME_LIMIT = Duration.ofMillis(300);
+    private static final long MISSING_RENTAL = 404L;
+
+    private final RentalProjectionRepository projectionRepository = mock(RentalProjectionRepository.class);
+    private final AtomicInteger stubHits = new AtomicInteger();
+    private volatile long stubLatencyMs;
+
+    private HttpServer stub;
+    private ExecutorService stubExecutor;
+    private OutboundCallGuard callGuard;
+    private RentalServiceClient rentalClient;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stubExecutor = Executors.newCachedThreadPool();
+        stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        stub.createContext("/rentals/", this::answerRental);
+        stub.setExecutor(stubExecutor);
+        stub.start();
+
+        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+        rentalClient = Feign.builder()
+                .contract(new SpringMvcContract())
+                .decoder((response, type) -> mapper.readValue(response.body().asInputStream(), mapper.constructType(type)))
+                .options(new Request.Options(1, TimeUnit.SECONDS, 5, TimeUnit.SECONDS, true))
+                .target(RentalServiceClient.class, "http://localhost:" + stub.getAddress().getPort());
+
+        callGuard = new OutboundCallGuard(BulkheadRegistry.ofDefaults(), CircuitBreakerRegistry.ofDefaults(),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom().timeoutDuration(TIME_LIMIT).build()));
+        when(projectionRepository.findById(anyLong())).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        callGuard.shutdown();
+        stub.stop(0);
+        stubExecutor.shutdownNow();
+    }
+
+    @Test
+    void projectionAnswersWithoutCallingTheRentalService() {
+        RentalProjection projection = new RentalProjection();
+        projection.setRentalId(1L);
+        projection.setOwnerId(10L);
+        projection.setRenterId(20L);
+        when(projectionRepository.findById(1L)).thenReturn(Optional.of(projection));
+
+        RentalSummary rental = lookup(300).getRental(1L);
+
+        assertThat(rental.ownerId()).isEqualTo(10L);
+        assertThat(rental.renterId()).isEqualTo(20L);
+        assertThat(stubHits.get()).isZero();
+    }
+
+    @Test
+    void projectionMissFallsBackToTheRentalServiceAndCachesTheAnswer() {
+        RentalLookupServiceImpl lookup = lookup(300);
+
+        RentalSummary first = lookup.getRental(5L);
+        RentalSummary second = lookup.getRental(5L);
+
+        assertThat(first.ownerId()).isEqualTo(105L);
+        assertThat(first.renterId()).isEqualTo(205L);
+        assertThat(first.endDate()).isEqualTo(LocalDateTime.of(2026, 1, 10, 12, 0));
+        assertThat(second).isEqualTo(first);
+        assertThat(stubHits.get()).isEqualTo(1);
+    }
+
+    @Test
+    void expiredCacheEntriesAreFetchedAgain() {
+        RentalLookupServiceImpl lookup = lookup(0);
+
+        lookup.getRental(5L);
+        lookup.getRental(5L);
+
+        assertThat(stubHits.get()).isEqualTo(2);
+    }
+
+    @Test
+    void slowRentalServiceFailsFastAtTheTimeLimit() {
+        stubLatencyMs = 3000;
+        RentalLookupServiceImpl lookup = lookup(300);
+
+        long startedAt = System.nanoTime();
+        assertThatThrownBy(() -> lookup.getRental(5L)).isInstanceOf(ServiceUnavailableException.class);
+        long tookMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+
+        assertThat(tookMs).isLessThan(stubLatencyMs / 2);
+    }
+
+    @Test
+    void timedOutLookupIsNotCached() {
+        stubLatencyMs = 3000;
+        RentalLookupServiceImpl lookup = lookup(300);
+        assertThatThrownBy(() -> lookup.getRental(5L)).isInstanceOf(ServiceUnavailableException.class);
+
+        stubLatencyMs = 0;
+        assertThat(lookup.getRental(5L).ownerId()).isEqualTo(105L);
+    }
+
+    @Test
+    void unknownRentalIsNotFound() {
+        assertThatThrownBy(() -> lookup(300).getRental(MISSING_RENTAL)).isInstanceOf(NotFoundException.class);
+    }
+
+    private RentalLookupServiceImpl lookup(long cacheTtlSeconds) {
+        return new RentalLookupServiceImpl(rentalClient, projectionRepository, callGuard, cacheTtlSeconds);
+    }
+
+    private void answerRental(HttpExchange exchange) throws IOException {
+        stubHits.incrementAndGet();
+        try (exchange) {
+            long id = Long.parseLong(exchange.getRequestURI().getPath().substring("/rentals/".length()));
+            if (id == MISSING_RENTAL) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            if (stubLatencyMs > 0) Thread.sleep(stubLatencyMs);
+
+            byte[] body = """
+                    {"rentalId": %d, "ownerId": %d, "renterId": %d, "status": "Approved",
+                     "startDate": "2026-01-01T12:00:00", "endDate": "2026-01-10T12:00:00"}
+                    """.formatted(id, 100 + id, 200 + id).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
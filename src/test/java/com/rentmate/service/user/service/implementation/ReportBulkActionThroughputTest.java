@@ -0,0 +1,144 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.MySqlRepositoryTest;
+import com.rentmate.service.user.TestUsers;
+import com.rentmate.service.user.domain.dto.BulkActionResponse;
+import com.rentmate.service.user.domain.dto.user.UserPrincipal;
+import com.rentmate.service.user.domain.entity.User;
+import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
+import com.rentmate.service.user.repository.UserReportRepository;
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.service.AdminStatsService;
+import com.rentmate.service.user.service.RentalLookupService;
+import com.rentmate.service.user.service.ReportEscalationService;
+import com.rentmate.service.user.service.UserEventPublisher;
+import com.rentmate.service.user.service.shared.util.CloudinaryUploadSigner;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Dismissing a wave of reports against users held for review, one call per report and in one bulk call. Each
+ * single call is flushed and its persistence context cleared, as its own request would be.
+ */
+@MySqlRepositoryTest
+class ReportBulkActionThroughputTest {
+    private static final int REPORTS = 500;
+
+    @Autowired
+    private UserReportRepository reportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ReportServiceImpl service;
+    private UserPrincipal admin;
+    private Long reporterId;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReportServiceImpl(reportRepository, userRepository, mock(UserEventPublisher.class),
+                mock(ReportEscalationService.class), mock(RentalLookupService.class),
+                new TrustScoreServiceImpl(userRepository), mock(AdminStatsService.class),
+                new InlineTransactionTemplate(), mock(CloudinaryUploadSigner.class));
+        ReflectionTestUtils.setField(service, "lockingPeriodMinutes", 30L);
+        Long adminId = userRepository.save(TestUsers.user()).getId();
+        admin = new UserPrincipal("admin", adminId, "admin@rentmate.test", "ADMIN");
+        reporterId = userRepository.save(TestUsers.user()).getId();
+        entityManager.flush();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void singleDismissalsAgainstOneBulkCall() {
+        List<Long> singleIds = fakeUserReports(REPORTS);
+        List<Long> bulkIds = fakeUserReports(REPORTS);
+
+        long statements = statements();
+        long start = System.nanoTime();
+        for (Long id : singleIds) {
+            service.resolveReport(id, "Spam wave", admin, true);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        long singleNanos = System.nanoTime() - start;
+        long singleStatements = statements() - statements;
+
+        statements = statements();
+        start = System.nanoTime();
+        BulkActionResponse response = service.resolveReports(bulkIds, "Spam wave", admin, true);
+        entityManager.flush();
+        long bulkNanos = System.nanoTime() - start;
+        long bulkStatements = statements() - statements;
+
+        assertThat(response.applied()).isEqualTo(REPORTS);
+        assertThat(countDismissed(singleIds)).isEqualTo(REPORTS);
+        assertThat(countDismissed(bulkIds)).isEqualTo(REPORTS);
+        assertThat(countStillHeld()).isZero();
+        System.out.printf("%d dismissals: single calls %d ms (%d statements), bulk call %d ms (%d statements), %.0fx%n",
+                REPORTS, TimeUnit.NANOSECONDS.toMillis(singleNanos), singleStatements,
+                TimeUnit.NANOSECONDS.toMillis(bulkNanos), bulkStatements, (double) singleNanos / bulkNanos);
+        assertThat(bulkNanos).isLessThan(singleNanos);
+    }
+
+    // pending FAKE_USER reports, each against its own user held for review
+    private List<Long> fakeUserReports(int count) {
+        List<User> reported = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = TestUsers.user();
+            user.setActivityStatus(AccountActivityStatus.PENDING_REPORT_REVIEW);
+            reported.add(user);
+        }
+        userRepository.saveAll(reported);
+        entityManager.flush();
+
+        Long lastId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM user_reports", Long.class);
+        List<Object[]> rows = reported.stream()
+                .map(user -> new Object[]{reporterId, user.getId()})
+                .toList();
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO user_reports (reporter_user_id, reported_user_id, report_type, details)
+                VALUES (?, ?, 'FAKE_USER', 'Account created only to spam listings')
+                """, rows);
+        entityManager.clear();
+        return jdbcTemplate.queryForList("SELECT id FROM user_reports WHERE reporter_user_id = ? AND id > ? ORDER BY id",
+                Long.class, reporterId, lastId);
+    }
+
+    private int countDismissed(List<Long> ids) {
+        return ids.stream()
+                .mapToInt(id -> jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM user_reports WHERE id = ? AND status = 'DISMISSED'", Integer.class, id))
+                .sum();
+    }
+
+    private int countStillHeld() {
+        return jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM user_reports r JOIN users u ON u.id = r.reported_user_id
+                WHERE r.reporter_user_id = ? AND u.account_activity_status = 'PENDING_REPORT_REVIEW'
+                """, Integer.class, reporterId);
+    }
+
+    // statements the test transaction's connection has sent so far
+    private long statements() {
+        return jdbcTemplate.queryForObject("SHOW SESSION STATUS LIKE 'Questions'",
+                (rs, rowNum) -> rs.getLong("Value"));
+    }
+}
@@ -0,0 +1,147 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.domain.dto.BulkActionResponse;
+import com.rentmate.service.user.domain.dto.BulkActionResult;
+import com.rentmate.service.user.domain.dto.BulkActionResult.Outcome;
+import com.rentmate.service.user.domain.dto.report.ReportActionRow;
+import com.rentmate.service.user.domain.dto.user.UserPrincipal;
+import com.rentmate.service.user.domain.dto.user.UserRoleDto;
+import com.rentmate.service.user.domain.enumuration.AccountActivityStatus;
+import com.rentmate.service.user.domain.enumuration.ReportStatus;
+import com.rentmate.service.user.domain.enumuration.ReportType;
+import com.rentmate.service.user.domain.enumuration.UserRole;
+import com.rentmate.service.user.repository.UserReportRepository;
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.service.AdminStatsService;
+import com.rentmate.service.user.service.RentalLookupService;
+import com.rentmate.service.user.service.ReportEscalationService;
+import com.rentmate.service.user.service.TrustScoreService;
+import com.rentmate.service.user.service.UserEventPublisher;
+import com.rentmate.service.user.service.shared.util.CloudinaryUploadSigner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class ReportServiceImplTest {
+    private static final Long ADMIN_ID = 1L;
+    private static final Long OTHER_ADMIN_ID = 2L;
+
+    private final UserReportRepository reportRepository = mock(UserReportRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TrustScoreService trustScoreService = mock(TrustScoreService.class);
+    private final AdminStatsService statsService = mock(AdminStatsService.class);
+    private final UserPrincipal admin = new UserPrincipal("admin", ADMIN_ID, "admin@rentmate.test", "ADMIN");
+
+    private ReportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ReportServiceImpl(reportRepository, userRepository, mock(UserEventPublisher.class),
+                mock(ReportEscalationService.class), mock(RentalLookupService.class), trustScoreService,
+                statsService, new InlineTransactionTemplate(), mock(CloudinaryUploadSigner.class));
+        ReflectionTestUtils.setField(service, "lockingPeriodMinutes", 30L);
+    }
+
+    @Test
+    void bulkClaimReportsAnOutcomePerIdInRequestOrder() {
+        LocalDateTime lockedUntil = LocalDateTime.now().plusMinutes(10);
+        List<ReportActionRow> rows = List.of(
+                row(10L, ReportStatus.PENDING, 100L, null, null),
+                row(11L, ReportStatus.RESOLVED, 101L, null, null),
+                row(12L, ReportStatus.UNDER_REVIEW, 102L, OTHER_ADMIN_ID, lockedUntil),
+                row(14L, ReportStatus.UNDER_REVIEW, 104L, OTHER_ADMIN_ID, LocalDateTime.now().minusMinutes(1)));
+        when(reportRepository.findActionRowsForUpdate(Set.of(10L, 11L, 12L, 13L, 14L))).thenReturn(rows);
+        when(reportRepository.claimAll(any(), eq(ADMIN_ID), any(), any())).thenReturn(2);
+
+        // the duplicate 10 gets one result
+        BulkActionResponse response = service.claimReports(List.of(10L, 11L, 12L, 13L, 10L, 14L), admin);
+
+        assertThat(response.applied()).isEqualTo(2);
+        assertThat(response.results()).extracting(BulkActionResult::id, BulkActionResult::outcome).containsExactly(
+                tuple(10L, Outcome.APPLIED),
+                tuple(11L, Outcome.INVALID_STATE),
+                tuple(12L, Outcome.LOCKED),
+                tuple(13L, Outcome.NOT_FOUND),
+                tuple(14L, Outcome.APPLIED));
+        verify(reportRepository).claimAll(eq(List.of(10L, 14L)), eq(ADMIN_ID), any(), any());
+        verify(statsService).reportChanged(ReportType.FRAUD, ReportStatus.PENDING, ReportStatus.UNDER_REVIEW);
+        verify(statsService).reportChanged(ReportType.FRAUD, ReportStatus.UNDER_REVIEW, ReportStatus.UNDER_REVIEW);
+        verifyNoMoreInteractions(statsService);
+    }
+
+    @Test
+    void bulkActionWithNothingToApplyWritesNothing() {
+        List<ReportActionRow> rows = List.of(row(11L, ReportStatus.DISMISSED, 101L, null, null));
+        when(reportRepository.findActionRowsForUpdate(Set.of(11L, 13L))).thenReturn(rows);
+
+        BulkActionResponse response = service.resolveReports(List.of(11L, 13L), "done", admin, false);
+
+        assertThat(response.applied()).isZero();
+        assertThat(response.results()).extracting(BulkActionResult::outcome)
+                .containsExactly(Outcome.INVALID_STATE, Outcome.NOT_FOUND);
+        verify(reportRepository, never()).resolveAll(any(), any(), any(), any(), any());
+        verifyNoInteractions(userRepository, trustScoreService, statsService);
+    }
+
+    @Test
+    void bulkResolveRefreshesReportedUsersWithoutReactivatingThem() {
+        List<ReportActionRow> rows = List.of(
+                row(10L, ReportStatus.UNDER_REVIEW, 100L, ADMIN_ID, LocalDateTime.now().plusMinutes(10)),
+                row(11L, ReportStatus.PENDING, 100L, null, null));
+        when(reportRepository.findActionRowsForUpdate(Set.of(10L, 11L))).thenReturn(rows);
+        when(reportRepository.resolveAll(any(), any(), any(), any(), any())).thenReturn(2);
+
+        BulkActionResponse response = service.resolveReports(List.of(10L, 11L), "upheld", admin, false);
+
+        assertThat(response.applied()).isEqualTo(2);
+        verify(reportRepository).resolveAll(eq(List.of(10L, 11L)), eq("RESOLVED"), eq(ADMIN_ID), eq("upheld"), any());
+        verify(userRepository, never()).updateActivityStatuses(any(), any(), any());
+        verify(trustScoreService).refresh(Set.of(100L));
+    }
+
+    @Test
+    void bulkDismissReactivatesUsersHeldForReview() {
+        List<ReportActionRow> rows = List.of(
+                row(10L, ReportStatus.PENDING, 100L, null, null),
+                row(11L, ReportStatus.PENDING, 101L, null, null),
+                row(12L, ReportStatus.PENDING, 101L, null, null));
+        when(reportRepository.findActionRowsForUpdate(Set.of(10L, 11L, 12L))).thenReturn(rows);
+        when(reportRepository.resolveAll(any(), any(), any(), any(), any())).thenReturn(3);
+        // 100 was never held, or an earlier dismissal already reactivated them
+        when(userRepository.findRolesByIdInAndStatus(Set.of(100L, 101L), AccountActivityStatus.PENDING_REPORT_REVIEW))
+                .thenReturn(List.of(new UserRoleDto(101L, UserRole.USER)));
+
+        BulkActionResponse response = service.resolveReports(List.of(10L, 11L, 12L), "no evidence", admin, true);
+
+        assertThat(response.applied()).isEqualTo(3);
+        verify(reportRepository).resolveAll(eq(List.of(10L, 11L, 12L)), eq("DISMISSED"), eq(ADMIN_ID),
+                eq("no evidence"), any());
+        verify(userRepository).updateActivityStatuses(List.of(101L), AccountActivityStatus.PENDING_REPORT_REVIEW,
+                AccountActivityStatus.ACTIVE);
+        verify(statsService).userChanged(UserRole.USER, AccountActivityStatus.PENDING_REPORT_REVIEW,
+                UserRole.USER, AccountActivityStatus.ACTIVE);
+        verify(statsService, times(3)).reportChanged(ReportType.FRAUD, ReportStatus.PENDING, ReportStatus.DISMISSED);
+        verify(trustScoreService).refresh(Set.of(100L, 101L));
+    }
+
+    private static ReportActionRow row(Long id, ReportStatus status, Long reportedUserId, Long claimedBy,
+                                       LocalDateTime lockExpiresAt) {
+        ReportActionRow row = mock(ReportActionRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getStatus()).thenReturn(status.name());
+        when(row.getReportType()).thenReturn(ReportType.FRAUD.name());
+        when(row.getReportedUserId()).thenReturn(reportedUserId);
+        when(row.getClaimedBy()).thenReturn(claimedBy);
+        when(row.getLockExpiresAt()).thenReturn(lockExpiresAt);
+        return row;
+    }
+}
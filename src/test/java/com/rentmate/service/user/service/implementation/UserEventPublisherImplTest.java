@@ -0,0 +1,60 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.config.RabbitMQConfig;
+import com.rentmate.service.user.domain.dto.event.ReportEscalationDueEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.MessagePostProcessor;
+import org.springframework.amqp.core.Queue;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserEventPublisherImplTest {
+    private final RabbitTemplate rabbitTemplate = mock(RabbitTemplate.class);
+    private final UserEventPublisherImpl publisher = new UserEventPublisherImpl(rabbitTemplate);
+
+    @Test
+    void escalationWaitsInTheQueueOfItsPeriodWithoutAPerMessageTtl() {
+        ReportEscalationDueEvent event = new ReportEscalationDueEvent(5L);
+
+        publisher.scheduleReportEscalation(event, 72 * 3_600_000L - 20, 72);
+
+        verify(rabbitTemplate).convertAndSend("", "user-service.report-escalation.delay.72h", event);
+        verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class),
+                any(MessagePostProcessor.class));
+    }
+
+    @Test
+    void eachPeriodGetsItsOwnQueue() {
+        ReportEscalationDueEvent event = new ReportEscalationDueEvent(5L);
+
+        publisher.scheduleReportEscalation(event, 72 * 3_600_000L, 72);
+        publisher.scheduleReportEscalation(event, 48 * 3_600_000L, 48);
+
+        verify(rabbitTemplate).convertAndSend("", "user-service.report-escalation.delay.72h", event);
+        verify(rabbitTemplate).convertAndSend("", "user-service.report-escalation.delay.48h", event);
+    }
+
+    @Test
+    void escalationAlreadyDueSkipsTheDelay() {
+        ReportEscalationDueEvent event = new ReportEscalationDueEvent(5L);
+
+        publisher.scheduleReportEscalation(event, 0, 72);
+
+        verify(rabbitTemplate).convertAndSend("", RabbitMQConfig.REPORT_ESCALATION_DUE_QUEUE, event);
+    }
+
+    @Test
+    void delayQueueExpiresThePeriodIntoTheDueQueue() {
+        Queue queue = new RabbitMQConfig().reportEscalationDelayQueue(72);
+
+        assertThat(queue.getName()).isEqualTo(RabbitMQConfig.reportEscalationDelayQueueName(72));
+        assertThat(queue.isDurable()).isTrue();
+        assertThat(queue.getArguments())
+                .containsEntry("x-message-ttl", 72 * 3_600_000)
+                .containsEntry("x-dead-letter-exchange", "")
+                .containsEntry("x-dead-letter-routing-key", RabbitMQConfig.REPORT_ESCALATION_DUE_QUEUE);
+    }
+}
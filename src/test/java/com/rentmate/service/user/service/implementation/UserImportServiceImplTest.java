@@ -0,0 +1,221 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.rentmate.service.user.domain.dto.event.UserRegisteredEvent;
+import com.rentmate.service.user.domain.dto.user.UserImportResult;
+import com.rentmate.service.user.domain.dto.user.UserImportResult.Status;
+import com.rentmate.service.user.domain.entity.User;
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.service.AdminStatsService;
+import com.rentmate.service.user.service.UserEventPublisher;
+import jakarta.validation.Validation;
+import org.hibernate.validator.messageinterpolation.ParameterMessageInterpolator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class UserImportServiceImplTest {
+    private static final String CSV_HEADER = "firstName,lastName,email,phoneNumber,password,role";
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserEventPublisher eventPublisher = mock(UserEventPublisher.class);
+    private final AdminStatsService statsService = mock(AdminStatsService.class);
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong ids = new AtomicLong(100);
+
+    private UserImportServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new UserImportServiceImpl(userRepository, eventPublisher, statsService, new BCryptPasswordEncoder(4),
+                Validation.byDefaultProvider().configure()
+                        .messageInterpolator(new ParameterMessageInterpolator())
+                        .buildValidatorFactory().getValidator(),
+                objectMapper, new InlineTransactionTemplate());
+        ReflectionTestUtils.setField(service, "chunkSize", 500);
+        when(userRepository.saveAll(anyList())).thenAnswer(call -> {
+            List<User> users = call.getArgument(0);
+            users.forEach(user -> user.setId(ids.incrementAndGet()));
+            return users;
+        });
+    }
+
+    @Test
+    void csvWithMissingHeaderColumnsIsRejectedBeforeAnyRowIsRead() throws IOException {
+        List<UserImportResult> results = importUsers("""
+                firstName,lastName,email
+                Sara,Adel,sara@rentmate.test
+                """);
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.line()).isEqualTo(1);
+            assertThat(result.status()).isEqualTo(Status.INVALID);
+            assertThat(result.message()).endsWith("phoneNumber, password, role");
+        });
+        verifyNoInteractions(userRepository, eventPublisher, statsService);
+    }
+
+    @Test
+    void csvHeaderIsCaseInsensitiveAndQuotedFieldsKeepTheirCommas() throws IOException {
+        List<UserImportResult> results = importUsers("""
+                ROLE,Email,FIRSTNAME,lastname,phonenumber,Password
+                user,sara@rentmate.test,"Sara, Jr","O""Brien",01012345678,secret1
+                """);
+
+        assertThat(results).extracting(UserImportResult::line, UserImportResult::status)
+                .containsExactly(tuple(2, Status.CREATED));
+        User saved = savedUsers().getFirst();
+        assertThat(saved.getFirstName()).isEqualTo("Sara, Jr");
+        assertThat(saved.getLastName()).isEqualTo("O\"Brien");
+        assertThat(saved.getPassword()).startsWith("$2a$");
+    }
+
+    @Test
+    void invalidRowsAreReportedAndTheRestImported() throws IOException {
+        List<UserImportResult> results = importUsers("""
+                {"firstName":"Sara","lastName":"Adel","email":"sara@rentmate.test","phoneNumber":"01012345678","password":"secret1","role":"USER"}
+                {"firstName":"Omar",
+                {"firstName":"Omar","lastName":"Adel","email":"omar@rentmate.test","phoneNumber":"0101","password":"secret1","role":"USER"}
+
+                {"firstName":"Mona","lastName":"Adel","email":"mona@rentmate.test","phoneNumber":"01012345679","password":"secret1","role":"ADMIN"}
+                """);
+
+        assertThat(results).extracting(UserImportResult::line, UserImportResult::status).containsExactly(
+                tuple(1, Status.CREATED),
+                tuple(2, Status.INVALID),
+                tuple(3, Status.INVALID),
+                tuple(5, Status.CREATED));
+        assertThat(results.get(1).message()).startsWith("Malformed JSON row");
+        assertThat(results.get(2).message()).contains("phoneNumber");
+    }
+
+    @Test
+    void unknownCsvRoleIsInvalid() throws IOException {
+        List<UserImportResult> results = importUsers(CSV_HEADER + "\nSara,Adel,sara@rentmate.test,01012345678,secret1,pilot\n");
+
+        assertThat(results).singleElement().satisfies(result -> {
+            assertThat(result.status()).isEqualTo(Status.INVALID);
+            assertThat(result.message()).isEqualTo("role: Unknown role pilot");
+        });
+        verify(userRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void duplicatesInTheUploadAndInTheDatabaseAreSkipped() throws IOException {
+        when(userRepository.findExistingEmails(anyCollection())).thenReturn(List.of("taken@rentmate.test"));
+        when(userRepository.findExistingPhoneNumbers(anyCollection())).thenReturn(List.of("01099999999"));
+
+        List<UserImportResult> results = importUsers(CSV_HEADER + """
+
+                Sara,Adel,sara@rentmate.test,01012345678,secret1,USER
+                Sara,Again,sara@rentmate.test,01012345670,secret1,USER
+                Omar,Adel,omar@rentmate.test,01012345678,secret1,USER
+                Taken,Email,taken@rentmate.test,01012345671,secret1,USER
+                Taken,Phone,phone@rentmate.test,01099999999,secret1,USER
+                Mona,Adel,mona@rentmate.test,01012345672,secret1,USER
+                """);
+
+        assertThat(results).extracting(UserImportResult::line, UserImportResult::status).containsExactly(
+                tuple(2, Status.CREATED),
+                tuple(3, Status.DUPLICATE),
+                tuple(4, Status.DUPLICATE),
+                tuple(5, Status.DUPLICATE),
+                tuple(6, Status.DUPLICATE),
+                tuple(7, Status.CREATED));
+        assertThat(results.get(1).message()).isEqualTo("Email or phone number repeated in the same upload");
+        assertThat(results.get(3).message()).startsWith("User already exist");
+        assertThat(savedUsers()).extracting(User::getEmail).containsExactly("sara@rentmate.test", "mona@rentmate.test");
+        assertThat(publishedEvents()).extracting(UserRegisteredEvent::email)
+                .containsExactly("sara@rentmate.test", "mona@rentmate.test");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void batchThatHitsAUniqueConstraintIsRetriedRowByRow() throws IOException {
+        // another registration took omar's email after the duplicate check
+        when(userRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+        when(userRepository.save(any(User.class))).thenAnswer(call -> {
+            User user = call.getArgument(0);
+            if (user.getEmail().equals("omar@rentmate.test")) throw new DataIntegrityViolationException("Duplicate entry");
+            user.setId(ids.incrementAndGet());
+            return user;
+        });
+
+        List<UserImportResult> results = importUsers(CSV_HEADER + """
+
+                Sara,Adel,sara@rentmate.test,01012345678,secret1,USER
+                Omar,Adel,omar@rentmate.test,01012345679,secret1,USER
+                Mona,Adel,mona@rentmate.test,01012345670,secret1,USER
+                """);
+
+        assertThat(results).extracting(UserImportResult::email, UserImportResult::status).containsExactly(
+                tuple("sara@rentmate.test", Status.CREATED),
+                tuple("omar@rentmate.test", Status.DUPLICATE),
+                tuple("mona@rentmate.test", Status.CREATED));
+        verify(userRepository, times(3)).save(any(User.class));
+        ArgumentCaptor<Collection<User>> created = ArgumentCaptor.forClass(Collection.class);
+        verify(statsService).usersCreated(created.capture());
+        assertThat(created.getValue()).extracting(User::getEmail)
+                .containsExactlyInAnyOrder("sara@rentmate.test", "mona@rentmate.test");
+        assertThat(publishedEvents()).hasSize(2);
+    }
+
+    @Test
+    void rowsAreImportedInChunksWithResultsInInputOrder() throws IOException {
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        StringBuilder csv = new StringBuilder(CSV_HEADER).append('\n');
+        for (int i = 0; i < 5; i++) {
+            csv.append("User,Number").append(i).append(",user").append(i).append("@rentmate.test,0101234567")
+                    .append(i).append(",secret1,USER\n");
+        }
+
+        List<UserImportResult> results = importUsers(csv.toString());
+
+        assertThat(results).extracting(UserImportResult::line).containsExactly(2, 3, 4, 5, 6);
+        assertThat(results).extracting(UserImportResult::status).containsOnly(Status.CREATED);
+        verify(userRepository, times(3)).saveAll(anyList());
+        verify(eventPublisher, times(3)).publishUsersRegistered(anyList());
+    }
+
+    private List<UserImportResult> importUsers(String input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        service.importUsers(new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+        List<UserImportResult> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) results.add(objectMapper.readValue(line, UserImportResult.class));
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<User> savedUsers() {
+        ArgumentCaptor<List<User>> batches = ArgumentCaptor.forClass(List.class);
+        verify(userRepository, atLeastOnce()).saveAll(batches.capture());
+        return batches.getAllValues().stream().flatMap(List::stream).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<UserRegisteredEvent> publishedEvents() {
+        ArgumentCaptor<List<UserRegisteredEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher, atLeastOnce()).publishUsersRegistered(events.capture());
+        return events.getAllValues().stream().flatMap(List::stream).toList();
+    }
+}
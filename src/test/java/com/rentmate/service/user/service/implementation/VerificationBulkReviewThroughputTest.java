@@ -0,0 +1,153 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.MySqlRepositoryTest;
+import com.rentmate.service.user.TestUsers;
+import com.rentmate.service.user.domain.dto.BulkActionResponse;
+import com.rentmate.service.user.domain.dto.user.UserPrincipal;
+import com.rentmate.service.user.domain.entity.User;
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.repository.UserVerificationStateRepository;
+import com.rentmate.service.user.repository.VerificationRequestRepository;
+import com.rentmate.service.user.service.AdminStatsService;
+import com.rentmate.service.user.service.CloudinaryService;
+import com.rentmate.service.user.service.UserEventPublisher;
+import com.rentmate.service.user.service.shared.util.CloudinaryUploadSigner;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Approving verification requests from a large pending queue, one call per request and in one bulk call of the
+ * same size. Each single call is flushed and its persistence context cleared, as its own request would be.
+ */
+@MySqlRepositoryTest
+class VerificationBulkReviewThroughputTest {
+    private static final int QUEUE = 5_000;
+    private static final int REVIEWED = 500;
+
+    @Autowired
+    private VerificationRequestRepository verificationRepository;
+
+    @Autowired
+    private UserVerificationStateRepository stateRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private VerificationServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new VerificationServiceImpl(mock(CloudinaryService.class), mock(CloudinaryUploadSigner.class),
+                userRepository, verificationRepository, stateRepository, mock(UserEventPublisher.class),
+                new TrustScoreServiceImpl(userRepository), mock(AdminStatsService.class),
+                new InlineTransactionTemplate());
+        Long reviewerId = userRepository.save(TestUsers.user()).getId();
+        entityManager.flush();
+        UserPrincipal reviewer = new UserPrincipal("reviewer", reviewerId, "reviewer@rentmate.test", "ADMIN");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(reviewer, null, List.of()));
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @Tag("benchmark")
+    void singleApprovalsAgainstOneBulkCall() {
+        List<Long> queue = pendingQueue(QUEUE);
+        List<Long> singleIds = queue.subList(0, REVIEWED);
+        List<Long> bulkIds = queue.subList(REVIEWED, 2 * REVIEWED);
+
+        long statements = statements();
+        long start = System.nanoTime();
+        for (Long id : singleIds) {
+            service.approveVerification(id);
+            entityManager.flush();
+            entityManager.clear();
+        }
+        long singleNanos = System.nanoTime() - start;
+        long singleStatements = statements() - statements;
+
+        statements = statements();
+        start = System.nanoTime();
+        BulkActionResponse response = service.approveVerifications(bulkIds);
+        entityManager.flush();
+        long bulkNanos = System.nanoTime() - start;
+        long bulkStatements = statements() - statements;
+
+        assertThat(response.applied()).isEqualTo(REVIEWED);
+        assertThat(countApprovedAndVerified(queue)).isEqualTo(2 * REVIEWED);
+        System.out.printf("%d approvals from a queue of %d: single calls %d ms (%d statements, %d/s), "
+                        + "bulk call %d ms (%d statements, %d/s)%n", REVIEWED, QUEUE,
+                TimeUnit.NANOSECONDS.toMillis(singleNanos), singleStatements,
+                REVIEWED * TimeUnit.SECONDS.toNanos(1) / singleNanos,
+                TimeUnit.NANOSECONDS.toMillis(bulkNanos), bulkStatements,
+                REVIEWED * TimeUnit.SECONDS.toNanos(1) / bulkNanos);
+        assertThat(bulkNanos).isLessThan(singleNanos);
+    }
+
+    // one pending request per new user, with its verification state, oldest first
+    private List<Long> pendingQueue(int size) {
+        List<User> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) users.add(TestUsers.user());
+        userRepository.saveAll(users);
+        entityManager.flush();
+        entityManager.clear();
+
+        Long lastId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM verification_requests", Long.class);
+        List<Object[]> requests = new ArrayList<>(size);
+        List<Object[]> states = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Long userId = users.get(i).getId();
+            requests.add(new Object[]{userId, "https://res.cloudinary.com/demo/image/upload/front_" + i + ".jpg",
+                    "https://res.cloudinary.com/demo/image/upload/back_" + i + ".jpg",
+                    "2990101" + String.format("%07d", i)});
+            states.add(new Object[]{userId});
+        }
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO verification_requests (user_id, id_front_image_url, id_back_image_url, id_number)
+                VALUES (?, ?, ?, ?)
+                """, requests);
+        jdbcTemplate.batchUpdate("INSERT INTO user_verification_states (user_id, status) VALUES (?, 'PENDING')", states);
+        return jdbcTemplate.queryForList("SELECT id FROM verification_requests WHERE id > ? ORDER BY id",
+                Long.class, lastId);
+    }
+
+    private int countApprovedAndVerified(List<Long> queue) {
+        return jdbcTemplate.queryForObject("""
+                SELECT COUNT(*) FROM verification_requests vr
+                JOIN users u ON u.id = vr.user_id
+                JOIN user_verification_states s ON s.user_id = vr.user_id
+                WHERE vr.id BETWEEN ? AND ?
+                  AND vr.status = 'APPROVED' AND u.is_identity_verified AND s.status = 'APPROVED'
+                """, Integer.class, queue.get(0), queue.get(queue.size() - 1));
+    }
+
+    // statements the test transaction's connection has sent so far
+    private long statements() {
+        return jdbcTemplate.queryForObject("SHOW SESSION STATUS LIKE 'Questions'",
+                (rs, rowNum) -> rs.getLong("Value"));
+    }
+}
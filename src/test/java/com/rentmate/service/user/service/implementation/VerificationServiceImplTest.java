@@ -0,0 +1,249 @@
+package com.rentmate.service.user.service.implementation;
+
+import com.rentmate.service.user.domain.dto.BulkActionResponse;
+import com.rentmate.service.user.domain.dto.BulkActionResult;
+import com.rentmate.service.user.domain.dto.BulkActionResult.Outcome;
+import com.rentmate.service.user.domain.dto.event.IdentityVerificationApprovedEvent;
+import com.rentmate.service.user.domain.dto.event.IdentityVerificationRejectedEvent;
+import com.rentmate.service.user.domain.dto.user.UserPrincipal;
+import com.rentmate.service.user.domain.dto.verification.CreateVerificationRequest;
+import com.rentmate.service.user.domain.dto.verification.VerificationReviewRow;
+import com.rentmate.service.user.domain.entity.User;
+import com.rentmate.service.user.domain.entity.VerificationRequest;
+import com.rentmate.service.user.domain.enumuration.VerificationRequestStatus;
+import com.rentmate.service.user.repository.UserRepository;
+import com.rentmate.service.user.repository.UserVerificationStateRepository;
+import com.rentmate.service.user.repository.VerificationRequestRepository;
+import com.rentmate.service.user.service.AdminStatsService;
+import com.rentmate.service.user.service.CloudinaryService;
+import com.rentmate.service.user.service.TrustScoreService;
+import com.rentmate.service.user.service.UserEventPublisher;
+import com.rentmate.service.user.service.shared.exception.ForbiddenActionException;
+import com.rentmate.service.user.service.shared.util.CloudinaryUploadSigner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.notNull;
+import static org.mockito.Mockito.*;
+
+class VerificationServiceImplTest {
+    private static final Long USER_ID = 7L;
+    private static final Long ADMIN_ID = 1L;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final VerificationRequestRepository verificationRepository = mock(VerificationRequestRepository.class);
+    private final UserVerificationStateRepository stateRepository = mock(UserVerificationStateRepository.class);
+    private final UserEventPublisher eventPublisher = mock(UserEventPublisher.class);
+    private final TrustScoreService trustScoreService = mock(TrustScoreService.class);
+    private final AdminStatsService statsService = mock(AdminStatsService.class);
+
+    private VerificationServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new VerificationServiceImpl(mock(CloudinaryService.class), mock(CloudinaryUploadSigner.class),
+                userRepository, verificationRepository, stateRepository, eventPublisher, trustScoreService,
+                statsService, new InlineTransactionTemplate());
+        when(userRepository.getReferenceById(anyLong())).thenAnswer(call -> {
+            User user = new User();
+            user.setId(call.getArgument(0));
+            return user;
+        });
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void parallelSubmissionsFromOneUserClaimExactlyOnce() throws Exception {
+        int submissions = 16;
+        // stands in for the primary key of user_verification_states, which is what makes INSERT IGNORE atomic
+        Map<Long, VerificationRequestStatus> states = new ConcurrentHashMap<>();
+        when(stateRepository.insertIfAbsent(anyLong(), anyString())).thenAnswer(call ->
+                states.putIfAbsent(call.getArgument(0), VerificationRequestStatus.valueOf(call.getArgument(1))) == null
+                        ? 1 : 0);
+        when(stateRepository.claimAfterRejection(anyLong(), any(), any())).thenReturn(0);
+
+        // every submission passes the canSubmit pre-check before any of them claims, so only the claim can stop them
+        CountDownLatch allChecked = new CountDownLatch(submissions);
+        when(stateRepository.findById(USER_ID)).thenAnswer(call -> {
+            allChecked.countDown();
+            allChecked.await(5, TimeUnit.SECONDS);
+            return Optional.empty();
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(submissions);
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger refused = new AtomicInteger();
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < submissions; i++) {
+                futures.add(pool.submit(() -> {
+                    authenticateAs(USER_ID);
+                    try {
+                        service.createVerification(submission());
+                        accepted.incrementAndGet();
+                    } catch (ForbiddenActionException e) {
+                        refused.incrementAndGet();
+                    } finally {
+                        SecurityContextHolder.clearContext();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) future.get(10, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(accepted.get()).isEqualTo(1);
+        assertThat(refused.get()).isEqualTo(submissions - 1);
+        assertThat(states).containsEntry(USER_ID, VerificationRequestStatus.PENDING);
+        verify(verificationRepository, times(1)).save(any(VerificationRequest.class));
+        verify(statsService, times(1)).verificationChanged(null, VerificationRequestStatus.PENDING);
+    }
+
+    @Test
+    void resubmissionAfterRejectionClaimsTheExistingState() {
+        authenticateAs(USER_ID);
+        when(stateRepository.findById(USER_ID)).thenReturn(Optional.empty());
+        when(stateRepository.insertIfAbsent(USER_ID, "PENDING")).thenReturn(0);
+        when(stateRepository.claimAfterRejection(eq(USER_ID), eq(VerificationRequestStatus.PENDING), any()))
+                .thenReturn(1);
+
+        service.createVerification(submission());
+
+        verify(verificationRepository).save(any(VerificationRequest.class));
+    }
+
+    @Test
+    void bulkApprovalReportsAnOutcomePerIdAndWritesEachTableOnce() {
+        authenticateAs(ADMIN_ID);
+        List<VerificationReviewRow> rows = List.of(
+                reviewRow(1L, 10L, VerificationRequestStatus.PENDING),
+                reviewRow(2L, 20L, VerificationRequestStatus.APPROVED),
+                reviewRow(4L, 11L, VerificationRequestStatus.PENDING));
+        when(verificationRepository.findReviewRowsForUpdate(Set.of(1L, 2L, 3L, 4L))).thenReturn(rows);
+
+        TransactionSynchronizationManager.initSynchronization();
+        // the duplicate 1 gets one result
+        BulkActionResponse response = service.approveVerifications(List.of(1L, 2L, 3L, 1L, 4L));
+
+        assertThat(response.applied()).isEqualTo(2);
+        assertThat(response.results()).extracting(BulkActionResult::id, BulkActionResult::outcome).containsExactly(
+                tuple(1L, Outcome.APPLIED),
+                tuple(2L, Outcome.INVALID_STATE),
+                tuple(3L, Outcome.NOT_FOUND),
+                tuple(4L, Outcome.APPLIED));
+        verify(verificationRepository).reviewAll(eq(List.of(1L, 4L)), eq("APPROVED"), eq(ADMIN_ID), any(),
+                isNull(), isNull());
+        verify(stateRepository).updateStates(Set.of(10L, 11L), VerificationRequestStatus.APPROVED, null);
+        verify(userRepository).verifyUsers(Set.of(10L, 11L));
+        verify(trustScoreService).refresh(Set.of(10L, 11L));
+        verify(statsService, times(2)).verificationChanged(VerificationRequestStatus.PENDING,
+                VerificationRequestStatus.APPROVED);
+        verify(verificationRepository, never()).findById(anyLong());
+        verify(verificationRepository, never()).save(any());
+
+        // users are told only once the decision is committed
+        verifyNoInteractions(eventPublisher);
+        commit();
+        ArgumentCaptor<List<IdentityVerificationApprovedEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishIdentityVerificationsApproved(events.capture());
+        assertThat(events.getValue()).extracting(IdentityVerificationApprovedEvent::verificationRequestId)
+                .containsExactly(1L, 4L);
+    }
+
+    @Test
+    void bulkRejectionSetsTheCooldownAndLeavesUsersUnverified() {
+        authenticateAs(ADMIN_ID);
+        List<VerificationReviewRow> rows = List.of(reviewRow(1L, 10L, VerificationRequestStatus.PENDING));
+        when(verificationRepository.findReviewRowsForUpdate(Set.of(1L))).thenReturn(rows);
+
+        TransactionSynchronizationManager.initSynchronization();
+        BulkActionResponse response = service.rejectVerifications(List.of(1L), "blurry photo");
+
+        assertThat(response.applied()).isEqualTo(1);
+        verify(verificationRepository).reviewAll(eq(List.of(1L)), eq("REJECTED"), eq(ADMIN_ID), any(),
+                eq("blurry photo"), notNull());
+        verify(stateRepository).updateStates(eq(Set.of(10L)), eq(VerificationRequestStatus.REJECTED), notNull());
+        verify(userRepository, never()).verifyUsers(any());
+        verifyNoInteractions(trustScoreService);
+
+        commit();
+        ArgumentCaptor<List<IdentityVerificationRejectedEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(eventPublisher).publishIdentityVerificationsRejected(events.capture());
+        assertThat(events.getValue()).extracting(IdentityVerificationRejectedEvent::rejectionReason)
+                .containsExactly("blurry photo");
+    }
+
+    @Test
+    void bulkReviewWithNothingReviewableWritesNothing() {
+        authenticateAs(ADMIN_ID);
+        List<VerificationReviewRow> rows = List.of(reviewRow(2L, 20L, VerificationRequestStatus.VALIDATING));
+        when(verificationRepository.findReviewRowsForUpdate(Set.of(2L, 3L))).thenReturn(rows);
+
+        TransactionSynchronizationManager.initSynchronization();
+        BulkActionResponse response = service.approveVerifications(List.of(2L, 3L));
+
+        assertThat(response.applied()).isZero();
+        assertThat(response.results()).extracting(BulkActionResult::outcome)
+                .containsExactly(Outcome.INVALID_STATE, Outcome.NOT_FOUND);
+        verify(verificationRepository, never()).reviewAll(any(), any(), any(), any(), any(), any());
+        verifyNoInteractions(stateRepository, userRepository, trustScoreService, statsService);
+        assertThat(TransactionSynchronizationManager.getSynchronizations()).isEmpty();
+    }
+
+    private static CreateVerificationRequest submission() {
+        CreateVerificationRequest request = new CreateVerificationRequest();
+        request.setIdFrontImageUrl("https://res.cloudinary.com/demo/image/upload/v1/verifications/id_front_1.jpg");
+        request.setIdBackImageUrl("https://res.cloudinary.com/demo/image/upload/v1/verifications/id_back_1.jpg");
+        request.setIdNumber("29801011234567");
+        return request;
+    }
+
+    private static VerificationReviewRow reviewRow(Long id, Long userId, VerificationRequestStatus status) {
+        VerificationReviewRow row = mock(VerificationReviewRow.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getUserId()).thenReturn(userId);
+        when(row.getEmail()).thenReturn("user" + userId + "@rentmate.test");
+        when(row.getStatus()).thenReturn(status.name());
+        when(row.getCreatedAt()).thenReturn(LocalDateTime.of(2026, 4, 1, 9, 0));
+        return row;
+    }
+
+    private static void commit() {
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private static void authenticateAs(Long userId) {
+        UserPrincipal principal = new UserPrincipal("user" + userId, userId, "user" + userId + "@rentmate.test", "USER");
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, List.of()));
+    }
+}
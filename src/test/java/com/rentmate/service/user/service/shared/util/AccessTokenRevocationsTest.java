@@ -0,0 +1,134 @@
+package com.rentmate.service.user.service.shared.util;
+
+import com.rentmate.service.user.domain.dto.event.AccessTokensRevokedEvent;
+import com.rentmate.service.user.domain.entity.AccessTokenRevocation;
+import com.rentmate.service.user.repository.AccessTokenRevocationRepository;
+import com.rentmate.service.user.service.UserEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.AmqpException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class AccessTokenRevocationsTest {
+    private static final Long USER_ID = 7L;
+
+    private final AccessTokenRevocationRepository revocationRepository = mock(AccessTokenRevocationRepository.class);
+    private final UserEventPublisher eventPublisher = mock(UserEventPublisher.class);
+    private final AccessTokenRevocations revocations =
+            new AccessTokenRevocations(revocationRepository, eventPublisher, 60);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive())
+            TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void revocationInsideATransactionTakesEffectOnCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        Date issuedEarlier = secondsAgo(10);
+
+        revocations.revokeAll(USER_ID);
+
+        verify(revocationRepository).upsert(eq(USER_ID), anyLong());
+        assertThat(revocations.isRevoked(USER_ID, issuedEarlier)).isFalse();
+        verifyNoInteractions(eventPublisher);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(revocations.isRevoked(USER_ID, issuedEarlier)).isTrue();
+        verify(eventPublisher).publishAccessTokensRevokedEvent(
+                argThat(event -> event.userId().equals(USER_ID) && event.issuedBefore() > issuedEarlier.getTime() / 1000));
+    }
+
+    @Test
+    void rolledBackRevocationIsNeitherAppliedNorPublished() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        revocations.revokeAll(USER_ID);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(revocations.isRevoked(USER_ID, secondsAgo(10))).isFalse();
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void revocationOutsideATransactionTakesEffectImmediately() {
+        revocations.revokeAll(USER_ID);
+
+        assertThat(revocations.isRevoked(USER_ID, secondsAgo(10))).isTrue();
+        verify(eventPublisher).publishAccessTokensRevokedEvent(any(AccessTokensRevokedEvent.class));
+    }
+
+    @Test
+    void failedPublishStillRevokesLocally() {
+        doThrow(new AmqpException("broker down")).when(eventPublisher).publishAccessTokensRevokedEvent(any());
+
+        revocations.revokeAll(USER_ID);
+
+        assertThat(revocations.isRevoked(USER_ID, secondsAgo(10))).isTrue();
+    }
+
+    @Test
+    void tokensIssuedInTheRevocationSecondOrLaterStayValid() {
+        long now = System.currentTimeMillis() / 1000;
+        revocations.apply(USER_ID, now);
+
+        assertThat(revocations.isRevoked(USER_ID, new Date(now * 1000 - 1))).isTrue();
+        assertThat(revocations.isRevoked(USER_ID, new Date(now * 1000))).isFalse();
+        assertThat(revocations.isRevoked(8L, new Date(0))).isFalse();
+    }
+
+    @Test
+    void olderRevocationNeverOverridesANewerOne() {
+        long now = System.currentTimeMillis() / 1000;
+        revocations.apply(USER_ID, now);
+        revocations.apply(USER_ID, now - 100);
+
+        assertThat(revocations.isRevoked(USER_ID, new Date((now - 50) * 1000))).isTrue();
+    }
+
+    @Test
+    void startupLoadsRevocationsStillWithinTheTokenLifetime() {
+        long now = System.currentTimeMillis() / 1000;
+        when(revocationRepository.findByRevokedBeforeGreaterThanEqual(longThat(cutoff -> cutoff <= now - 3600)))
+                .thenReturn(List.of(revocation(USER_ID, now)));
+
+        revocations.loadRecent();
+
+        assertThat(revocations.isRevoked(USER_ID, secondsAgo(10))).isTrue();
+    }
+
+    @Test
+    void purgeDropsRevocationsOlderThanTheTokenLifetime() {
+        long now = System.currentTimeMillis() / 1000;
+        revocations.apply(USER_ID, now - 3700);
+        revocations.apply(8L, now);
+
+        revocations.purgeExpired();
+
+        assertThat(revocations.isRevoked(USER_ID, new Date(0))).isFalse();
+        assertThat(revocations.isRevoked(8L, new Date(0))).isTrue();
+        verify(revocationRepository).deleteOlderThan(longThat(cutoff -> Math.abs(cutoff - (now - 3600)) <= 1));
+    }
+
+    private static Date secondsAgo(long seconds) {
+        return new Date(System.currentTimeMillis() - seconds * 1000);
+    }
+
+    private static AccessTokenRevocation revocation(Long userId, long revokedBefore) {
+        AccessTokenRevocation revocation = new AccessTokenRevocation();
+        revocation.setUserId(userId);
+        revocation.setRevokedBefore(revokedBefore);
+        return revocation;
+    }
+}
@@ -0,0 +1,63 @@
+package com.rentmate.service.user.service.shared.util;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import com.rentmate.service.user.domain.dto.SignedUploadParams;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares signing one upload slot with {@link CloudinaryUploadSigner} against {@code Cloudinary#apiSignRequest}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CloudinaryUploadSignerBenchmark {
+    private static final List<String> VERIFICATION_SLOTS = List.of("id_front_7", "id_back_7", "selfie_7");
+
+    private Cloudinary cloudinary;
+    private CloudinaryUploadSigner signer;
+
+    @Setup
+    public void setUp() {
+        cloudinary = CloudinaryUploadSignerTest.cloudinary("SHA256");
+        signer = new CloudinaryUploadSigner(cloudinary);
+    }
+
+    @Benchmark
+    public String sdk() {
+        Map<String, Object> params = ObjectUtils.asMap(
+                "folder", "verifications",
+                "public_id", "id_front_7",
+                "timestamp", System.currentTimeMillis() / 1000);
+        return cloudinary.apiSignRequest(params, cloudinary.config.apiSecret);
+    }
+
+    @Benchmark
+    public SignedUploadParams signer() {
+        return signer.sign("verifications", "id_front_7");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(3)
+    public List<SignedUploadParams> signerVerificationBatch() {
+        return signer.sign("verifications", VERIFICATION_SLOTS);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder().include(getClass().getName()).build()).run();
+    }
+}
@@ -0,0 +1,85 @@
+package com.rentmate.service.user.service.shared.util;
+
+import com.cloudinary.Cloudinary;
+import com.cloudinary.utils.ObjectUtils;
+import com.rentmate.service.user.domain.dto.SignedUploadParams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CloudinaryUploadSignerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"SHA1", "SHA256"})
+    void signatureMatchesTheSdk(String algorithm) {
+        Cloudinary cloudinary = cloudinary(algorithm);
+
+        SignedUploadParams params = new CloudinaryUploadSigner(cloudinary).sign("verifications", "id_front_7_abc");
+
+        assertThat(params.apiKey()).isEqualTo("key");
+        assertThat(params.signature()).isEqualTo(sdkSignature(cloudinary, params));
+    }
+
+    @Test
+    void batchSlotsShareATimestampAndAreSignedIndividually() {
+        Cloudinary cloudinary = cloudinary("SHA256");
+
+        List<SignedUploadParams> slots = new CloudinaryUploadSigner(cloudinary)
+                .sign("verifications", List.of("id_front_7", "id_back_7", "selfie_7"));
+
+        assertThat(slots).extracting(SignedUploadParams::publicId).containsExactly("id_front_7", "id_back_7", "selfie_7");
+        assertThat(slots).extracting(SignedUploadParams::timestamp).containsOnly(slots.getFirst().timestamp());
+        // a reused payload buffer must not leak one slot's parameters into the next
+        for (SignedUploadParams slot : slots) {
+            assertThat(slot.signature()).isEqualTo(sdkSignature(cloudinary, slot));
+        }
+    }
+
+    @Test
+    void signerIsSafeToShareAcrossThreads() throws Exception {
+        Cloudinary cloudinary = cloudinary("SHA1");
+        CloudinaryUploadSigner signer = new CloudinaryUploadSigner(cloudinary);
+
+        List<Thread> threads = new ArrayList<>();
+        List<Throwable> failures = Collections.synchronizedList(new ArrayList<>());
+        for (int t = 0; t < 8; t++) {
+            int thread = t;
+            threads.add(Thread.ofPlatform().start(() -> {
+                try {
+                    for (int i = 0; i < 500; i++) {
+                        SignedUploadParams params = signer.sign("verifications", "id_" + thread + "_" + i);
+                        assertThat(params.signature()).isEqualTo(sdkSignature(cloudinary, params));
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            }));
+        }
+        for (Thread thread : threads) thread.join();
+
+        assertThat(failures).isEmpty();
+    }
+
+    static Cloudinary cloudinary(String algorithm) {
+        return new Cloudinary(ObjectUtils.asMap(
+                "cloud_name", "demo",
+                "api_key", "key",
+                "api_secret", "a676b67565c6767a6767d6767f676fe1",
+                "signature_algorithm", algorithm));
+    }
+
+    static String sdkSignature(Cloudinary cloudinary, SignedUploadParams params) {
+        Map<String, Object> toSign = ObjectUtils.asMap(
+                "folder", params.folder(),
+                "public_id", params.publicId(),
+                "timestamp", params.timestamp());
+        return cloudinary.apiSignRequest(toSign, cloudinary.config.apiSecret);
+    }
+}
@@ -0,0 +1,54 @@
+package com.rentmate.service.user.service.shared.util;
+
+import com.rentmate.service.user.domain.dto.user.UserPrincipal;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Access token signing (login, refresh) and verification (every authenticated request) per algorithm.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtSigningBenchmark {
+    @Param({"HS256", "ES256", "EdDSA"})
+    public String algorithm;
+
+    private JwtUtils jwtUtils;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        List<String> keys = algorithm.equals("HS256")
+                ? List.of()
+                : List.of(JwtSigningKeysTest.keyEntry("k1", JwtSigningKeysTest.keyPair(algorithm)));
+        jwtUtils = JwtSigningKeysTest.jwtUtils(new JwtSigningKeys(JwtSigningKeysTest.SECRET, algorithm, keys, false));
+        token = jwtUtils.generateJwtToken(JwtSigningKeysTest.profile());
+    }
+
+    @Benchmark
+    public String sign() {
+        return jwtUtils.generateJwtToken(JwtSigningKeysTest.profile());
+    }
+
+    @Benchmark
+    public UserPrincipal verify() {
+        return jwtUtils.extractUserPrincipal(token);
+    }
+
+    @Test
+    @Tag("benchmark")
+    void run() throws RunnerException {
+        new Runner(new OptionsBuilder().include(getClass().getName()).build()).run();
+    }
+}
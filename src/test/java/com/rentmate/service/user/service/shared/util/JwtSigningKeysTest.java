@@ -0,0 +1,206 @@
+package com.rentmate.service.user.service.shared.util;
+
+import com.rentmate.service.user.domain.dto.user.UserPrincipal;
+import com.rentmate.service.user.domain.dto.user.UserProfileResponse;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.SignatureException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.security.KeyPair;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtSigningKeysTest {
+    static final String SECRET = "test-secret-that-is-long-enough-for-hs256";
+
+    @ParameterizedTest
+    @ValueSource(strings = {"HS256", "ES256", "EdDSA"})
+    void tokenRoundTripsWithEachAlgorithm(String algorithm) {
+        List<String> keys = algorithm.equals("HS256") ? List.of() : List.of(keyEntry("k1", keyPair(algorithm)));
+        JwtUtils jwtUtils = jwtUtils(new JwtSigningKeys(SECRET, algorithm, keys, false));
+
+        String token = jwtUtils.generateJwtToken(profile());
+        UserPrincipal principal = jwtUtils.extractUserPrincipal(token);
+
+        assertThat(principal.getId()).isEqualTo(7L);
+        assertThat(principal.getRole()).isEqualTo("ROLE_USER");
+        assertThat(principal.getEmail()).isEqualTo("sara@rentmate.test");
+        String header = new String(Base64.getUrlDecoder().decode(token.substring(0, token.indexOf('.'))));
+        if (algorithm.equals("HS256")) {
+            assertThat(header).doesNotContain("\"kid\"");
+        } else {
+            assertThat(header).contains("\"kid\":\"k1\"", "\"alg\":\"" + algorithm + "\"");
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ES256", "EdDSA"})
+    void activeKeyIsTheFirstEntryWithAPrivateKey(String algorithm) {
+        KeyPair retired = keyPair(algorithm);
+        KeyPair current = keyPair(algorithm);
+
+        JwtSigningKeys keys = new JwtSigningKeys(SECRET, algorithm,
+                List.of(publicOnlyEntry("2025-01", retired), keyEntry("2025-06", current)), false);
+
+        assertThat(keys.isAsymmetric()).isTrue();
+        assertThat(keys.getActiveKeyId()).isEqualTo("2025-06");
+        assertThat(keys.getActiveKey()).isEqualTo(current.getPrivate());
+        assertThat(keys.verificationKey("2025-01")).isEqualTo(retired.getPublic());
+        assertThat(keys.verificationKey("2025-06")).isEqualTo(current.getPublic());
+    }
+
+    @Test
+    void tokensSignedWithTheRetiredKeyStayValidAfterRotation() {
+        KeyPair old = keyPair("ES256");
+        KeyPair next = keyPair("ES256");
+        JwtUtils beforeRotation = jwtUtils(new JwtSigningKeys(SECRET, "ES256", List.of(keyEntry("old", old)), false));
+        String issuedBefore = beforeRotation.generateJwtToken(profile());
+
+        // new key first, the old one kept as kid::public-key until its tokens expire
+        JwtUtils afterRotation = jwtUtils(new JwtSigningKeys(SECRET, "ES256",
+                List.of(keyEntry("next", next), publicOnlyEntry("old", old)), false));
+        String issuedAfter = afterRotation.generateJwtToken(profile());
+
+        assertThat(afterRotation.extractUserPrincipal(issuedBefore).getId()).isEqualTo(7L);
+        assertThat(afterRotation.extractUserPrincipal(issuedAfter).getId()).isEqualTo(7L);
+        // once the old key is dropped, its tokens are rejected
+        JwtUtils afterRetirement = jwtUtils(new JwtSigningKeys(SECRET, "ES256", List.of(keyEntry("next", next)), false));
+        assertThatThrownBy(() -> afterRetirement.extractUserPrincipal(issuedBefore))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("Unknown signing key old");
+    }
+
+    @Test
+    void tokenWithAKnownKidButAnotherKeysSignatureIsRejected() {
+        KeyPair genuine = keyPair("ES256");
+        KeyPair forged = keyPair("ES256");
+        String forgedToken = jwtUtils(new JwtSigningKeys(SECRET, "ES256", List.of(keyEntry("k1", forged)), false))
+                .generateJwtToken(profile());
+
+        JwtUtils verifier = jwtUtils(new JwtSigningKeys(SECRET, "ES256", List.of(keyEntry("k1", genuine)), false));
+
+        assertThatThrownBy(() -> verifier.extractUserPrincipal(forgedToken)).isInstanceOf(SignatureException.class);
+    }
+
+    @Test
+    void hmacTokensAreAcceptedDuringTheSwitchWhenAllowed() {
+        String hmacToken = jwtUtils(new JwtSigningKeys(SECRET, "HS256", List.of(), true)).generateJwtToken(profile());
+        List<String> keys = List.of(keyEntry("k1", keyPair("EdDSA")));
+
+        JwtUtils accepting = jwtUtils(new JwtSigningKeys(SECRET, "EdDSA", keys, true));
+        JwtUtils rejecting = jwtUtils(new JwtSigningKeys(SECRET, "EdDSA", keys, false));
+
+        assertThat(accepting.extractUserPrincipal(hmacToken).getId()).isEqualTo(7L);
+        assertThatThrownBy(() -> rejecting.extractUserPrincipal(hmacToken))
+                .isInstanceOf(JwtException.class)
+                .hasMessageContaining("Token has no key id");
+    }
+
+    @Test
+    void hmacModeIgnoresAcceptHmac() {
+        JwtSigningKeys keys = new JwtSigningKeys(SECRET, "HS256", List.of(), false);
+
+        assertThat(keys.isAsymmetric()).isFalse();
+        assertThat(keys.verificationKey(null)).isEqualTo(keys.getHmacKey());
+    }
+
+    @Test
+    void missingKeysFallBackToAnEphemeralKey() {
+        JwtSigningKeys keys = new JwtSigningKeys(SECRET, "ES256", List.of(""), false);
+        JwtUtils jwtUtils = jwtUtils(keys);
+
+        assertThat(keys.getActiveKeyId()).isNotBlank();
+        assertThat(jwtUtils.extractUserPrincipal(jwtUtils.generateJwtToken(profile())).getId()).isEqualTo(7L);
+        assertThat(published(keys)).hasSize(1);
+    }
+
+    @Test
+    void malformedKeyEntriesFailAtStartup() {
+        KeyPair pair = keyPair("ES256");
+        String publicKey = base64(pair.getPublic().getEncoded());
+
+        assertThatThrownBy(() -> new JwtSigningKeys(SECRET, "ES256", List.of("k1:" + publicKey), false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("kid:private-key:public-key");
+        assertThatThrownBy(() -> new JwtSigningKeys(SECRET, "ES256", List.of("k1:not-base64!:" + publicKey), false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Invalid private key in jwt.signing.keys");
+        // an Ed25519 key where an EC one is expected
+        assertThatThrownBy(() -> new JwtSigningKeys(SECRET, "ES256", List.of(keyEntry("k1", keyPair("EdDSA"))), false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Invalid public key in jwt.signing.keys");
+        assertThatThrownBy(() -> new JwtSigningKeys(SECRET, "RS256", List.of(), false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Unsupported jwt.signing.algorithm RS256");
+    }
+
+    @Test
+    void jwksPublishesEveryPublicKeyAndNoPrivateMaterial() {
+        JwtSigningKeys keys = new JwtSigningKeys(SECRET, "ES256",
+                List.of(keyEntry("2025-06", keyPair("ES256")), publicOnlyEntry("2025-01", keyPair("ES256"))), false);
+
+        List<Map<String, Object>> jwks = published(keys);
+
+        assertThat(jwks).extracting(jwk -> jwk.get("kid")).containsExactly("2025-06", "2025-01");
+        assertThat(jwks).allSatisfy(jwk -> {
+            assertThat(jwk).containsEntry("kty", "EC").containsEntry("crv", "P-256")
+                    .containsEntry("alg", "ES256").containsEntry("use", "sig")
+                    .containsKeys("x", "y")
+                    .doesNotContainKey("d");
+        });
+    }
+
+    @Test
+    void jwksOfEd25519KeysUseOkp() {
+        List<Map<String, Object>> jwks = published(
+                new JwtSigningKeys(SECRET, "EdDSA", List.of(keyEntry("k1", keyPair("EdDSA"))), false));
+
+        assertThat(jwks).singleElement().satisfies(jwk -> assertThat(jwk)
+                .containsEntry("kty", "OKP").containsEntry("crv", "Ed25519").containsEntry("alg", "EdDSA")
+                .containsKey("x").doesNotContainKey("d"));
+    }
+
+    @Test
+    void jwksIsEmptyInHmacMode() {
+        assertThat(published(new JwtSigningKeys(SECRET, "HS256", List.of(), true))).isEmpty();
+    }
+
+    static KeyPair keyPair(String algorithm) {
+        return algorithm.equals("ES256") ? Jwts.SIG.ES256.keyPair().build() : Jwks.CRV.Ed25519.keyPair().build();
+    }
+
+    static String keyEntry(String kid, KeyPair pair) {
+        return kid + ":" + base64(pair.getPrivate().getEncoded()) + ":" + base64(pair.getPublic().getEncoded());
+    }
+
+    static String publicOnlyEntry(String kid, KeyPair pair) {
+        return kid + "::" + base64(pair.getPublic().getEncoded());
+    }
+
+    static JwtUtils jwtUtils(JwtSigningKeys keys) {
+        return new JwtUtils(keys, 60);
+    }
+
+    static UserProfileResponse profile() {
+        return new UserProfileResponse(7L, "sara@rentmate.test", "Sara Adel", true, "USER", "01012345678",
+                "ACTIVE", 4.5, 12, LocalDate.of(2025, 3, 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> published(JwtSigningKeys keys) {
+        return (List<Map<String, Object>>) keys.publicJwks().get("keys");
+    }
+
+    private static String base64(byte[] bytes) {
+        return Base64.getEncoder().encodeToString(bytes);
+    }
+}
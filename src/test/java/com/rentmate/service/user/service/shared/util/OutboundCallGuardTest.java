@@ -0,0 +1,185 @@
+package com.rentmate.service.user.service.shared.util;
+
+import com.rentmate.service.user.service.shared.exception.ServiceUnavailableException;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterConfig;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OutboundCallGuardTest {
+    private static final String DEPENDENCY = OutboundCallGuard.RENTAL_SERVICE;
+    private static final int MAX_CONCURRENT_CALLS = 5;
+    private static final Duration TIME_LIMIT = Duration.ofMillis(200);
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private OutboundCallGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        guard = new OutboundCallGuard(
+                BulkheadRegistry.of(BulkheadConfig.custom()
+                        .maxConcurrentCalls(MAX_CONCURRENT_CALLS)
+                        .maxWaitDuration(Duration.ZERO)
+                        .build()),
+                CircuitBreakerRegistry.ofDefaults(),
+                TimeLimiterRegistry.of(TimeLimiterConfig.custom()
+                        .timeoutDuration(TIME_LIMIT)
+                        .cancelRunningFuture(true)
+                        .build()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        guard.shutdown();
+    }
+
+    @Test
+    void hungCallIsInterruptedAtTheTimeLimit() throws Exception {
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        assertThatThrownBy(() -> guard.call(DEPENDENCY, () -> {
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+            }
+            return null;
+        })).isInstanceOf(ServiceUnavailableException.class);
+
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void callThatIgnoresTheInterruptKeepsItsPermit() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < MAX_CONCURRENT_CALLS; i++) {
+            assertThatThrownBy(() -> guard.call(DEPENDENCY, () -> {
+                awaitUninterruptibly(release);
+                return null;
+            })).isInstanceOf(ServiceUnavailableException.class);
+        }
+
+        // every permit is still held by a call that has timed out but not stopped
+        assertThatThrownBy(() -> guard.call(DEPENDENCY, () -> "ok"))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        release.countDown();
+        assertThat(awaitPermit()).isEqualTo("ok");
+    }
+
+    @Test
+    void dependencyFailuresPassThrough() {
+        assertThatThrownBy(() -> guard.call(DEPENDENCY, () -> {
+            throw new IllegalStateException("rental-service said no");
+        })).isInstanceOf(IllegalStateException.class).hasMessage("rental-service said no");
+
+        assertThatThrownBy(() -> guard.call(DEPENDENCY, () -> {
+            throw new IOException("connection reset");
+        })).isInstanceOf(CompletionException.class).hasCauseInstanceOf(IOException.class);
+
+        assertThat(guard.call(DEPENDENCY, () -> "ok")).isEqualTo("ok");
+    }
+
+    /**
+     * Chaos check: the rental service hangs while a fixed pool of request threads, as in Tomcat, serves
+     * rental lookups and logins mixed together. The guard must keep the hanging calls from taking the
+     * pool, so login latency stays low, and never lets more than max-concurrent-calls of them run.
+     */
+    @Test
+    void loginLatencyHoldsWhileTheRentalServiceHangs() throws Exception {
+        int requestThreads = 20;
+        int requests = 400;
+        ExecutorService requestPool = Executors.newFixedThreadPool(requestThreads);
+        List<Long> loginMillis = Collections.synchronizedList(new ArrayList<>());
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (int i = 0; i < requests; i++) {
+                if (i % 2 == 0) {
+                    futures.add(requestPool.submit(this::lookupRentalOnHungService));
+                } else {
+                    long submittedAt = System.nanoTime();
+                    futures.add(requestPool.submit(() -> {
+                        login();
+                        loginMillis.add(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt));
+                    }));
+                }
+            }
+            for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+        } finally {
+            requestPool.shutdownNow();
+        }
+
+        List<Long> sorted = new ArrayList<>(loginMillis);
+        Collections.sort(sorted);
+        long p99 = sorted.get((int) Math.ceil(sorted.size() * 0.99) - 1);
+
+        assertThat(sorted).hasSize(requests / 2);
+        assertThat(maxInFlight.get()).isLessThanOrEqualTo(MAX_CONCURRENT_CALLS);
+        // without the guard every request thread ends up stuck on the rental service and logins never finish
+        assertThat(p99).isLessThan(TIME_LIMIT.toMillis() * 5);
+    }
+
+    private void lookupRentalOnHungService() {
+        try {
+            guard.call(DEPENDENCY, () -> {
+                int running = inFlight.incrementAndGet();
+                maxInFlight.accumulateAndGet(running, Math::max);
+                try {
+                    new CountDownLatch(1).await();
+                    return null;
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        } catch (ServiceUnavailableException expected) {
+            // answered with 503 right away or at the time limit
+        }
+    }
+
+    private static void login() {
+        // stands in for the login endpoint's own work, which needs none of the guarded dependencies
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(2);
+        while (System.nanoTime() < deadline) Thread.onSpinWait();
+    }
+
+    private String awaitPermit() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (true) {
+            try {
+                return guard.call(DEPENDENCY, () -> "ok");
+            } catch (ServiceUnavailableException e) {
+                if (System.nanoTime() > deadline) throw e;
+                Thread.sleep(10);
+            }
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) Thread.currentThread().interrupt();
+    }
+}